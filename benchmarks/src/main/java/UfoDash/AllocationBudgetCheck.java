@@ -0,0 +1,101 @@
+package UfoDash;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * The 'AllocationBudgetCheck' class plays the game headless for a number of frames and
+ * fails if steady-state gameplay allocates more than a set budget per frame.
+ * Each frame updates and renders the game the same way the game loop does, while
+ * the player shoots at a fixed rate and is kept hovering. The sound effects are mixed into a silent
+ * output, so triggering them counts towards the budget.
+ * <p>
+ * Usage: {@code AllocationBudgetCheck [frames] [budgetBytesPerFrame]}
+ * The process exits with status 1 when the budget is exceeded.
+ */
+public class AllocationBudgetCheck {
+    private static final int DEFAULT_FRAMES = 5000;
+    private static final int WARMUP_FRAMES = 2000;
+    /** About a quarter above the steady state, which allocates 1.1 to 1.25 KB per frame. */
+    private static final long DEFAULT_BUDGET_BYTES = 1536;
+    private static final int FRAMES_PER_SHOT = 30;
+
+    private final GamePanel gamePanel;
+    private final GameComponents gameComponents;
+    private final Graphics2D g2d;
+
+    /**
+     * Constructs the check with a game panel that renders into an offscreen image.
+     */
+    public AllocationBudgetCheck() {
+        // The check never reads or writes the player's best score file
+        gamePanel = new GamePanel(BenchmarkWorld.PANEL_WIDTH, BenchmarkWorld.PANEL_HEIGHT, false);
+        gamePanel.setSize(BenchmarkWorld.PANEL_WIDTH, BenchmarkWorld.PANEL_HEIGHT);
+        gameComponents = gamePanel.getGameComponents();
+        gameComponents.startAudio(new NullAudioOutput());
+        BufferedImage frame = new BufferedImage(BenchmarkWorld.PANEL_WIDTH, BenchmarkWorld.PANEL_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        g2d = frame.createGraphics();
+    }
+
+    /**
+     * Plays the given number of frames.
+     *
+     * @param firstFrame The number of the first frame
+     * @param frames The number of frames to play
+     */
+    private void playFrames(int firstFrame, int frames){
+        for (int frame = firstFrame; frame < firstFrame + frames; frame++) {
+            playFrame(frame);
+        }
+    }
+
+    /**
+     * Plays a single frame: steers the player, updates the game and renders it.
+     *
+     * @param frame The number of the frame
+     */
+    private void playFrame(int frame){
+        Player player = gameComponents.getPlayer();
+        if(frame % FRAMES_PER_SHOT == 0){
+            player.shoot(gameComponents.getProjectileManager());
+        }
+        // Keep the player hovering in the upper half of the screen
+        if(player.getY() > BenchmarkWorld.PLAYER_START_Y){
+            player.jump();
+        }
+
+        gameComponents.update();
+        gamePanel.drawGame(g2d);
+    }
+
+    /**
+     * Runs the check and exits with status 1 if the budget is exceeded.
+     *
+     * @param args Optional number of measured frames and budget in bytes per frame
+     */
+    public static void main(String[] args){
+        System.setProperty("java.awt.headless", "true");
+        int frames = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_FRAMES;
+        long budget = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_BUDGET_BYTES;
+
+        if(!AllocationCounter.isSupported()){
+            System.err.println("This JVM can't track allocations per thread");
+            System.exit(1);
+        }
+
+        AllocationBudgetCheck check = new AllocationBudgetCheck();
+        check.playFrames(0, WARMUP_FRAMES);
+
+        long allocatedBefore = AllocationCounter.currentThreadAllocatedBytes();
+        check.playFrames(WARMUP_FRAMES, frames);
+        long allocated = AllocationCounter.currentThreadAllocatedBytes() - allocatedBefore;
+
+        double bytesPerFrame = (double) allocated / frames;
+        System.out.printf("Allocated %d bytes over %d frames: %.1f bytes per frame (budget %d)%n",
+                allocated, frames, bytesPerFrame, budget);
+        if(bytesPerFrame > budget){
+            System.err.println("Allocation budget exceeded");
+            System.exit(1);
+        }
+    }
+}
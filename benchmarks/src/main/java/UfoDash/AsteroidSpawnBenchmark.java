@@ -0,0 +1,34 @@
+package UfoDash;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures 'AsteroidManager.spawn', which creates a new pair of asteroids.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class AsteroidSpawnBenchmark {
+    private AsteroidManager asteroidManager;
+
+    @Setup(Level.Trial)
+    public void setUp(){
+        asteroidManager = new BenchmarkWorld(0).getGameComponents().getAsteroidManager();
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearAsteroids(){
+        asteroidManager.getAsteroids().clear();
+    }
+
+    @Benchmark
+    public AsteroidManager spawn(){
+        asteroidManager.spawn();
+        return asteroidManager;
+    }
+}
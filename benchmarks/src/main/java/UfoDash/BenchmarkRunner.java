@@ -0,0 +1,49 @@
+package UfoDash;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The 'BenchmarkRunner' class runs the JMH benchmarks and writes the results as JSON.
+ * The result file is named after the game version, so results from different
+ * versions can be kept side by side and compared. All regular JMH command line
+ * options are accepted and take precedence over these defaults.
+ */
+public class BenchmarkRunner {
+    private static final String DEFAULT_VERSION = "dev";
+
+    /**
+     * Runs the benchmarks selected by the command line arguments.
+     *
+     * @param args JMH command line options
+     * @throws CommandLineOptionException if the options can't be parsed
+     * @throws RunnerException if a benchmark fails
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+
+        if(!commandLineOptions.getResultFormat().hasValue()){
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if(!commandLineOptions.getResult().hasValue()){
+            options.result("jmh-result-" + getVersion() + ".json");
+        }
+        new Runner(options.build()).run();
+    }
+
+    /**
+     * Returns the version of the benchmarked game, as recorded in the jar manifest.
+     *
+     * @return the version, or "dev" when not running from a packaged jar
+     */
+    private static String getVersion(){
+        String version = BenchmarkRunner.class.getPackage().getImplementationVersion();
+        return version != null ? version : DEFAULT_VERSION;
+    }
+}
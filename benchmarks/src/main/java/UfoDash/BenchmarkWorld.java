@@ -0,0 +1,134 @@
+package UfoDash;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The 'BenchmarkWorld' class builds a populated set of game components for the benchmarks.
+ * Entities are spawned through the managers and remembered along with their starting positions,
+ * so a benchmark can put the world back the way it was built before the next invocation.
+ */
+public class BenchmarkWorld {
+    public static final int PANEL_WIDTH = 700;
+    public static final int PANEL_HEIGHT = 800;
+    public static final int GROUND_HEIGHT = PANEL_HEIGHT / 8;
+    public static final int PLAYER_START_Y = PANEL_HEIGHT / 3;
+
+    private final GameComponents gameComponents;
+    private final Random random = new Random(42);
+    private List<Asteroid> spawnedAsteroids;
+    private List<Enemy> spawnedEnemies;
+    private List<PowerUp> spawnedPowerUps;
+    private List<Projectile> spawnedProjectiles;
+    private int[] enemyX, enemyY, powerUpX, projectileX;
+
+    /**
+     * Creates a world holding the given number of each kind of entity.
+     *
+     * @param entityCount The number of asteroids, enemies, power-ups and projectiles to spawn
+     */
+    public BenchmarkWorld(int entityCount) {
+        // Benchmarks never read or write the player's best score file
+        gameComponents = new GameComponents(PANEL_HEIGHT, PANEL_WIDTH, GROUND_HEIGHT, PLAYER_START_Y, new Random(42),
+                false);
+        populate(entityCount);
+        rememberPositions();
+    }
+
+    /**
+     * Spawns the entities of every manager.
+     *
+     * @param entityCount The number of entities of each kind
+     */
+    private void populate(int entityCount){
+        // Asteroids are always spawned in pairs
+        for (int i = 0; i < (entityCount + 1) / 2; i++) {
+            gameComponents.getAsteroidManager().spawn();
+        }
+        for (int i = 0; i < entityCount; i++) {
+            gameComponents.getEnemyManager().spawn();
+            gameComponents.getPowerUpManager().spawn();
+            int x = random.nextInt(PANEL_WIDTH);
+            int y = random.nextInt(PANEL_HEIGHT - GROUND_HEIGHT);
+            gameComponents.getProjectileManager().addProjectile(new Projectile(x, y));
+        }
+    }
+
+    /**
+     * Stores every entity and the current position of every moving entity, so they can be restored later.
+     */
+    private void rememberPositions(){
+        spawnedAsteroids = new ArrayList<>(gameComponents.getAsteroidManager().getAsteroids());
+        spawnedEnemies = new ArrayList<>(gameComponents.getEnemyManager().getEnemies());
+        spawnedPowerUps = new ArrayList<>(gameComponents.getPowerUpManager().getPowerUps());
+        spawnedProjectiles = new ArrayList<>(gameComponents.getProjectileManager().getProjectiles());
+        List<Enemy> enemies = spawnedEnemies;
+        List<PowerUp> powerUps = spawnedPowerUps;
+        List<Projectile> projectiles = spawnedProjectiles;
+
+        enemyX = new int[enemies.size()];
+        enemyY = new int[enemies.size()];
+        for (int i = 0; i < enemyX.length; i++) {
+            enemyX[i] = enemies.get(i).x;
+            enemyY[i] = enemies.get(i).y;
+        }
+        powerUpX = new int[powerUps.size()];
+        for (int i = 0; i < powerUpX.length; i++) {
+            powerUpX[i] = powerUps.get(i).x;
+        }
+        projectileX = new int[projectiles.size()];
+        for (int i = 0; i < projectileX.length; i++) {
+            projectileX[i] = projectiles.get(i).x;
+        }
+    }
+
+    /**
+     * Puts every entity back in its manager at the position it had when the world was created.
+     * Entities removed in the meantime, by a manager or a collision, are brought back,
+     * and power-ups that were picked up are active again.
+     */
+    public void restorePositions(){
+        // Asteroids stand still in the world, so scrolling the camera back to the start moves them back
+        Camera camera = gameComponents.getCamera();
+        camera.reset(camera.getSpeed());
+        restore(gameComponents.getAsteroidManager().getAsteroids(), spawnedAsteroids);
+        for (Asteroid asteroid : spawnedAsteroids) {
+            asteroid.setHasPassed(false);
+        }
+        restore(gameComponents.getEnemyManager().getEnemies(), spawnedEnemies);
+        for (int i = 0; i < enemyX.length; i++) {
+            spawnedEnemies.get(i).x = enemyX[i];
+            spawnedEnemies.get(i).y = enemyY[i];
+        }
+        restore(gameComponents.getPowerUpManager().getPowerUps(), spawnedPowerUps);
+        for (int i = 0; i < powerUpX.length; i++) {
+            spawnedPowerUps.get(i).x = powerUpX[i];
+            spawnedPowerUps.get(i).isActive = true;
+        }
+        restore(gameComponents.getProjectileManager().getProjectiles(), spawnedProjectiles);
+        for (int i = 0; i < projectileX.length; i++) {
+            spawnedProjectiles.get(i).x = projectileX[i];
+        }
+    }
+
+    /**
+     * Replaces the entities of a manager's list with the entities it was built with.
+     *
+     * @param entities The list of the manager
+     * @param spawned The entities spawned when the world was created
+     */
+    private static <T> void restore(List<T> entities, List<T> spawned){
+        entities.clear();
+        entities.addAll(spawned);
+    }
+
+    /**
+     * Returns the game components of this world.
+     *
+     * @return the 'GameComponents' object
+     */
+    public GameComponents getGameComponents() {
+        return gameComponents;
+    }
+}
@@ -0,0 +1,51 @@
+package UfoDash;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures 'CollisionHandler.processCollisions' for a growing number of entities.
+ * Collisions remove projectiles and enemies, pick up power-ups and take lives, so the world,
+ * the player and the collision cool-down are restored before every invocation, and every
+ * invocation handles the same collisions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class CollisionBenchmark {
+    @Param({"10", "100", "1000"})
+    private int entityCount;
+
+    private BenchmarkWorld world;
+    private GameComponents gameComponents;
+
+    @Setup(Level.Trial)
+    public void setUp(){
+        world = new BenchmarkWorld(entityCount);
+        gameComponents = world.getGameComponents();
+    }
+
+    @Setup(Level.Invocation)
+    public void restoreWorld(){
+        world.restorePositions();
+        gameComponents.getPlayer().reset();
+        gameComponents.getCollisionHandler().reset();
+        gameComponents.getParticleSystem().reset();
+    }
+
+    @Benchmark
+    public Player processCollisions(){
+        gameComponents.getCollisionHandler().processCollisions(
+                gameComponents.getPlayer(),
+                gameComponents.getAsteroidManager().getAsteroids(),
+                gameComponents.getPowerUpManager().getPowerUps(),
+                gameComponents.getEnemyManager().getEnemies(),
+                gameComponents.getProjectileManager().getProjectiles(),
+                BenchmarkWorld.GROUND_HEIGHT, BenchmarkWorld.PANEL_HEIGHT, BenchmarkWorld.PLAYER_START_Y);
+        return gameComponents.getPlayer();
+    }
+}
@@ -0,0 +1,42 @@
+package UfoDash;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures sprite loading through 'AbstractDrawable.loadImage'.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ImageLoadBenchmark {
+    @Param({"asteroid2.png", "ufo.png", "ground.png", "space.png"})
+    private String imagePath;
+
+    private final SpriteLoader spriteLoader = new SpriteLoader();
+
+    @Benchmark
+    public Image loadImage(){
+        return spriteLoader.load(imagePath);
+    }
+
+    /**
+     * Minimal drawable that exposes the protected image loading of 'AbstractDrawable'.
+     */
+    private static class SpriteLoader extends AbstractDrawable {
+        Image load(String imagePath){
+            return loadImage(imagePath);
+        }
+
+        @Override public void draw(Graphics g) {
+        }
+
+        @Override public void update() {
+        }
+    }
+}
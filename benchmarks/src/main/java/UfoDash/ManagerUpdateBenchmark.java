@@ -0,0 +1,73 @@
+package UfoDash;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a single 'update()' of each manager.
+ * Entity positions are restored before every invocation, so the managers
+ * never run out of entities while the benchmark is running. Asteroids don't move themselves,
+ * so the camera is left one tick before they reach the player, and the asteroid benchmark
+ * scrolls it like a tick of the game, which scores every asteroid.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ManagerUpdateBenchmark {
+    @Param({"10", "100", "1000"})
+    private int entityCount;
+
+    private BenchmarkWorld world;
+    private GameComponents gameComponents;
+    private int scrollSpeed, passingScrollX;
+
+    @Setup(Level.Trial)
+    public void setUp(){
+        world = new BenchmarkWorld(entityCount);
+        gameComponents = world.getGameComponents();
+        scrollSpeed = gameComponents.getCamera().getSpeed();
+        // Every pair is spawned at the right edge, so they all reach the player at the same scroll offset
+        Asteroid asteroid = gameComponents.getAsteroidManager().getAsteroids().get(0);
+        passingScrollX = asteroid.getWorldX() + asteroid.getWidth() / 2 - gameComponents.getPlayer().getX();
+    }
+
+    @Setup(Level.Invocation)
+    public void restorePositions(){
+        world.restorePositions();
+        // Scoring speeds the camera up, so the speed and the score start over every time
+        Camera camera = gameComponents.getCamera();
+        camera.reset(passingScrollX - scrollSpeed);
+        camera.update();
+        camera.setSpeed(scrollSpeed);
+        gameComponents.getPlayer().reset();
+    }
+
+    @Benchmark
+    public AsteroidManager asteroidManager(){
+        gameComponents.getCamera().update();
+        gameComponents.getAsteroidManager().update();
+        return gameComponents.getAsteroidManager();
+    }
+
+    @Benchmark
+    public EnemyManager enemyManager(){
+        gameComponents.getEnemyManager().update();
+        return gameComponents.getEnemyManager();
+    }
+
+    @Benchmark
+    public PowerUpManager powerUpManager(){
+        gameComponents.getPowerUpManager().update();
+        return gameComponents.getPowerUpManager();
+    }
+
+    @Benchmark
+    public ProjectileManager projectileManager(){
+        gameComponents.getProjectileManager().update();
+        return gameComponents.getProjectileManager();
+    }
+}
@@ -0,0 +1,53 @@
+package UfoDash;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a full frame of 'GamePanel.drawGame' rendered into an offscreen image.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class RenderBenchmark {
+    @Param({"0", "10", "100"})
+    private int entityCount;
+
+    private GamePanel gamePanel;
+    private BufferedImage frame;
+    private Graphics2D g2d;
+
+    @Setup(Level.Trial)
+    public void setUp(){
+        gamePanel = new GamePanel(BenchmarkWorld.PANEL_WIDTH, BenchmarkWorld.PANEL_HEIGHT, false);
+        // The panel is never shown, so it has to be given its size explicitly
+        gamePanel.setSize(BenchmarkWorld.PANEL_WIDTH, BenchmarkWorld.PANEL_HEIGHT);
+        GameComponents gameComponents = gamePanel.getGameComponents();
+        for (int i = 0; i < (entityCount + 1) / 2; i++) {
+            gameComponents.getAsteroidManager().spawn();
+        }
+        for (int i = 0; i < entityCount; i++) {
+            gameComponents.getEnemyManager().spawn();
+            gameComponents.getPowerUpManager().spawn();
+        }
+        frame = new BufferedImage(BenchmarkWorld.PANEL_WIDTH, BenchmarkWorld.PANEL_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        g2d = frame.createGraphics();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown(){
+        g2d.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage drawGame(){
+        gamePanel.drawGame(g2d);
+        return frame;
+    }
+}
@@ -0,0 +1,46 @@
+package UfoDash;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * The 'AllocationCounter' class reads how many bytes the current thread has allocated,
+ * using the HotSpot specific 'com.sun.management.ThreadMXBean'.
+ */
+public final class AllocationCounter {
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = getThreadMXBean();
+
+    private AllocationCounter() {
+    }
+
+    /**
+     * Returns the HotSpot thread MXBean, if the JVM provides one with allocation tracking.
+     *
+     * @return the thread MXBean, or null if allocation tracking isn't supported
+     */
+    private static com.sun.management.ThreadMXBean getThreadMXBean(){
+        if(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean
+                && threadMXBean.isThreadAllocatedMemorySupported()){
+            threadMXBean.setThreadAllocatedMemoryEnabled(true);
+            return threadMXBean;
+        }
+        return null;
+    }
+
+    /**
+     * Returns whether the JVM supports tracking allocations per thread.
+     *
+     * @return true if allocations can be tracked, false otherwise
+     */
+    public static boolean isSupported(){
+        return THREAD_MX_BEAN != null;
+    }
+
+    /**
+     * Returns the total number of bytes allocated by the current thread.
+     *
+     * @return the allocated bytes, or 0 if allocation tracking isn't supported
+     */
+    public static long currentThreadAllocatedBytes(){
+        return THREAD_MX_BEAN != null ? THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() : 0;
+    }
+}
@@ -0,0 +1,174 @@
+package UfoDash;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The 'AssetPreloader' class decodes every image listed in the asset manifest into the 'SpriteCache'
+ * before the game is shown, spread over a small pool of threads instead of one image after another
+ * as the constructors of the game run. Progress can be read while the images are decoded,
+ * and a listener is told after each image, so a loading screen can show it.
+ */
+public class AssetPreloader {
+    public static final String MANIFEST_PATH = "images/manifest.txt";
+    private static final int MAX_THREADS = 4;
+
+    private final List<String> imagePaths;
+    private final AtomicInteger loadedCount = new AtomicInteger(), failedCount = new AtomicInteger();
+    private final CountDownLatch done;
+    private final Runnable progressListener;
+    private long startNanos, loadNanos;
+
+    /**
+     * Constructs an 'AssetPreloader' for the images of the asset manifest.
+     *
+     * @param progressListener Called on a loader thread after each image, or null
+     */
+    public AssetPreloader(Runnable progressListener) {
+        this(readManifest(), progressListener);
+    }
+
+    /**
+     * Constructs an 'AssetPreloader' for the given images.
+     *
+     * @param imagePaths The paths of the images, relative to the images folder
+     * @param progressListener Called on a loader thread after each image, or null
+     */
+    public AssetPreloader(List<String> imagePaths, Runnable progressListener) {
+        this.imagePaths = imagePaths;
+        this.progressListener = progressListener;
+        this.done = new CountDownLatch(imagePaths.size());
+    }
+
+    /**
+     * Reads the image paths of the asset manifest. Empty lines and lines starting with '#' are skipped.
+     *
+     * @return the image paths, empty if the manifest can't be found or read
+     */
+    public static List<String> readManifest(){
+        List<String> imagePaths = new ArrayList<>();
+        InputStream manifest = ClassLoader.getSystemResourceAsStream(MANIFEST_PATH);
+        if(manifest == null){
+            System.err.println("Asset manifest not found: " + MANIFEST_PATH);
+            return imagePaths;
+        }
+        try(BufferedReader reader = new BufferedReader(new InputStreamReader(manifest, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null){
+                line = line.trim();
+                if(!line.isEmpty() && !line.startsWith("#")){
+                    imagePaths.add(line);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to read the asset manifest: " + e.getMessage());
+        }
+        return imagePaths;
+    }
+
+    /**
+     * Starts decoding the images on daemon threads, one per processor up to a small limit.
+     * The threads end once every image is decoded.
+     */
+    public void start(){
+        startNanos = System.nanoTime();
+        if(imagePaths.isEmpty()){
+            return;
+        }
+        int threads = Math.min(Math.min(Runtime.getRuntime().availableProcessors(), MAX_THREADS), imagePaths.size());
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService loaders = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "asset-loader-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (String imagePath : imagePaths){
+            loaders.execute(() -> load(imagePath));
+        }
+        loaders.shutdown();
+    }
+
+    /**
+     * Decodes one image and reports the progress.
+     */
+    private void load(String imagePath){
+        try {
+            if(!SpriteCache.preload(imagePath)){
+                failedCount.incrementAndGet();
+            }
+        } finally {
+            loadedCount.incrementAndGet();
+            if(progressListener != null){
+                progressListener.run();
+            }
+            if(done.getCount() == 1){
+                loadNanos = System.nanoTime() - startNanos;
+            }
+            done.countDown();
+        }
+    }
+
+    /**
+     * Waits until every image has been decoded.
+     *
+     * @throws InterruptedException if the waiting thread is interrupted
+     */
+    public void awaitCompletion() throws InterruptedException {
+        done.await();
+    }
+
+    /**
+     * Returns the share of the images decoded so far.
+     *
+     * @return the progress, from 0 to 1
+     */
+    public double getProgress(){
+        return imagePaths.isEmpty() ? 1 : (double) loadedCount.get() / imagePaths.size();
+    }
+
+    /**
+     * Returns the number of images decoded so far, including those that failed.
+     *
+     * @return the number of loaded images
+     */
+    public int getLoadedCount() {
+        return loadedCount.get();
+    }
+
+    /**
+     * Returns the number of images that couldn't be found or decoded.
+     *
+     * @return the number of failed images
+     */
+    public int getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * Returns the number of images to decode.
+     *
+     * @return the number of images in the manifest
+     */
+    public int getTotalCount() {
+        return imagePaths.size();
+    }
+
+    /**
+     * Returns the time from the start until the last image was decoded.
+     * Only valid after 'awaitCompletion' has returned.
+     *
+     * @return the load time in milliseconds
+     */
+    public double getLoadMillis() {
+        return loadNanos / 1_000_000.0;
+    }
+}
@@ -5,7 +5,9 @@ import java.awt.*;
 /**
  * The 'Asteroid' class represents an asteroid in the game.
  * It extends the 'GameObjects' class and provides functionality specific to asteroid,
- * such as updating its position and drawing it on the screen.
+ * such as drawing it on the screen.
+ * An asteroid stands still in the world: its x-coordinate is kept in world space and it moves
+ * across the screen only because the 'Camera' scrolls past it, so it never needs updating.
  */
 public class Asteroid extends GameObjects{
     /**
@@ -13,29 +15,28 @@ public class Asteroid extends GameObjects{
      */
     private boolean hasPassed = false;
     private Image asteroidImg;
-    private int speed;
+    private final Camera camera;
 
     /**
-     * Constructs an 'Asteroid' object with a specified position, size and speed.
+     * Constructs an 'Asteroid' object with a specified position and size in the world.
      * Also, loads the asteroids image from the given path.
      *
-     * @param x The x-coordinate of the asteroid
+     * @param worldX The x-coordinate of the asteroid in the world
      * @param y The y-coordinate of the asteroid
      * @param width The width of the asteroid
      * @param height The height of the asteroid
-     * @param speed The speed at which the asteroid moves across the screen
+     * @param camera The camera scrolling past the asteroid
      */
-    public Asteroid(final int x, final int y, final int width, final int height, final int speed) {
-        super(x, y, width, height, "asteroid2.png");
-        this.speed = speed;
+    public Asteroid(final int worldX, final int y, final int width, final int height, final Camera camera) {
+        super(worldX, y, width, height, "asteroid2.png");
+        this.camera = camera;
         this.asteroidImg = getImage();
     }
 
     /**
-     * Updates the asteroid's x-position by moving it to the left based on its speed.
+     * Does nothing, the asteroid stands still in the world while the camera scrolls.
      */
     @Override public void update(){
-        x -= speed;
     }
 
     /**
@@ -45,14 +46,33 @@ public class Asteroid extends GameObjects{
      * @param g the Graphics object used to draw the object
      */
     @Override public void draw(final Graphics g) {
+        int screenX = getX();
         if (asteroidImg != null) {
-            g.drawImage(asteroidImg, x, y, width, height, null);
+            g.drawImage(asteroidImg, screenX, y, width, height, null);
         }else{
             g.setColor(Color.DARK_GRAY);
-            g.fillRect(x, y, getWidth(), getHeight());
+            g.fillRect(screenX, y, getWidth(), getHeight());
         }
     }
 
+    /**
+     * Gets the x-coordinate of the asteroid on the screen.
+     *
+     * @return the screen x-coordinate
+     */
+    @Override public int getX(){
+        return camera.toScreenX(x);
+    }
+
+    /**
+     * Gets the x-coordinate of the asteroid in the world.
+     *
+     * @return the world x-coordinate
+     */
+    public int getWorldX(){
+        return x;
+    }
+
     /**
      * Returns whether the asteroid has passed the player's x-position
      *
@@ -71,13 +91,4 @@ public class Asteroid extends GameObjects{
     public void setHasPassed(boolean hasPassed){
         this.hasPassed = hasPassed;
     }
-
-    /**
-     * Sets the speed of the asteroid.
-     *
-     * @param speed The new speed of the asteroid
-     */
-    public void setSpeed(final int speed) {
-        this.speed = speed;
-    }
 }
@@ -3,21 +3,22 @@ package UfoDash;
 import java.awt.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 /**
  * The 'AsteroidManager' class is responsible for managing the creation,
  * movement and removal of asteroids in the game.
+ * Asteroids stand still in the world and the 'Camera' scrolls past them at the asteroid speed,
+ * so they're moved and sped up all at once through the camera. They're kept in the order of their
+ * world x-coordinate, so each update only looks at the asteroids that have reached the player.
  */
 public class AsteroidManager extends Manager{
     private List<Asteroid> asteroids;
     private Player player;
+    private Camera camera;
     private int asteroidHeight, lastScoreCheck;
-    private static final int ASTEROID_WIDTH = 110;
-    private static final int GAP_HEIGHT = 250;
-    private static final int INITIAL_ASTEROID_SPEED = 5;
-    private static final int SCORE_THRESHOLD_SPEED_INCREASE = 5;
     private static final double ASTEROID_HEIGHT_RATIO = 2.0/3.0;
-    private int currentAsteroidSpeed = INITIAL_ASTEROID_SPEED;
+    private int asteroidWidth, initialAsteroidSpeed, gapHeight, scoreThresholdSpeedIncrease;
 
     /**
      * Constructs an 'AsteroidManager' with the size of the game panel,
@@ -27,51 +28,103 @@ public class AsteroidManager extends Manager{
      * @param panelHeight The height of the game panel
      * @param groundHeight The height of the ground
      * @param player Reference to the player object
+     * @param random The random generator used for spawning at random
+     * @param camera The camera scrolling past the asteroids, whose speed is the asteroid speed
+     * @param definition The size and speed of the asteroids
      */
-    protected AsteroidManager(final int panelWidth, final int panelHeight, final int groundHeight, Player player) {
-        super(panelWidth, panelHeight, groundHeight);
+    protected AsteroidManager(final int panelWidth, final int panelHeight, final int groundHeight, Player player,
+                              final Random random, final Camera camera,
+                              final GameDefinitions.AsteroidDefinition definition) {
+        super(panelWidth, panelHeight, groundHeight, random);
         this.player = player;
+        this.camera = camera;
+        this.asteroidWidth = definition.width();
+        this.initialAsteroidSpeed = definition.speed();
+        camera.setSpeed(definition.speed());
+        this.gapHeight = definition.gap();
+        this.scoreThresholdSpeedIncrease = definition.speedIncreaseScore();
         asteroidHeight =(int) (panelHeight*ASTEROID_HEIGHT_RATIO);
         asteroids = new ArrayList<>();
     }
 
     /**
-     * Creates a new pair of asteroids (top and bottom) with a gap between them.
+     * Creates a new pair of asteroids (top and bottom) with a gap between them, at the right edge of the screen.
      * They are spawned at a random vertical positions (within bounds).
      */
     @Override public void spawn() {
+        spawn(panelWidth);
+    }
+
+    /**
+     * Creates a new pair of asteroids (top and bottom) with a gap between them, at the given x-coordinate
+     * on the screen. They are spawned at a random vertical positions (within bounds).
+     *
+     * @param x The x-coordinate on the screen to spawn the pair at
+     */
+    public void spawn(int x) {
         // Randomly determines the y position of the top asteroid based on its height and the ground height
-        int topAsteroidY = RANDOM.nextInt(-asteroidHeight, -groundHeight);
+        spawnPair(camera.toWorldX(x), random.nextInt(-asteroidHeight, -groundHeight));
+    }
 
+    /**
+     * Creates a new pair of asteroids (top and bottom) with a gap between them, at the given place in the world.
+     *
+     * @param worldX The x-coordinate in the world to spawn the pair at
+     * @param topAsteroidY The y-coordinate of the top asteroid
+     */
+    public void spawnPair(int worldX, int topAsteroidY) {
         // Calculates the bottom asteroid's y position based on the top asteroid's position and the gap
-        int bottomAsteroidY = topAsteroidY + asteroidHeight + GAP_HEIGHT;
+        int bottomAsteroidY = topAsteroidY + asteroidHeight + gapHeight;
 
-        asteroids.add(new Asteroid(panelWidth, topAsteroidY, ASTEROID_WIDTH, asteroidHeight, currentAsteroidSpeed));
-        asteroids.add(new Asteroid(panelWidth, bottomAsteroidY, ASTEROID_WIDTH, asteroidHeight, currentAsteroidSpeed));
+        insert(new Asteroid(worldX, topAsteroidY, asteroidWidth, asteroidHeight, camera));
+        insert(new Asteroid(worldX, bottomAsteroidY, asteroidWidth, asteroidHeight, camera));
     }
 
     /**
-     * Removes the asteroids that have moved off the screen.
+     * Adds an asteroid after every asteroid that isn't further right in the world. Spawned asteroids
+     * are usually the furthest right, so this only compares with the last one.
+     */
+    private void insert(Asteroid asteroid){
+        int index = asteroids.size();
+        while (index > 0 && asteroids.get(index - 1).getWorldX() > asteroid.getWorldX()){
+            index--;
+        }
+        asteroids.add(index, asteroid);
+    }
+
+    /**
+     * Removes the asteroids that have moved off the screen, which are the first ones of the list.
      */
     @Override public void removeOffScreenObjects() {
         // Checks if asteroid is off-screen to the left
-        asteroids.removeIf(asteroid -> asteroid.getX() + asteroid.getWidth() < 0);
+        int offScreen = 0;
+        while (offScreen < asteroids.size()
+                && asteroids.get(offScreen).getX() + asteroids.get(offScreen).getWidth() < 0){
+            offScreen++;
+        }
+        if(offScreen > 0){
+            asteroids.subList(0, offScreen).clear();
+        }
     }
 
     /**
-     * Updates the position of each asteroid, checks for score increment and
-     * increases asteroid speed if necessary.
+     * Checks for score increment and increases asteroid speed if necessary. The asteroids themselves
+     * don't move, the camera has already scrolled past them; only the asteroids up to the first one
+     * that hasn't reached the player are looked at.
      */
     @Override public void update() {
-        for (Asteroid asteroid : asteroids) {
-            asteroid.update();
-
-            // Checks if asteroid has passed the player, increases score and speed
-            if(asteroid.getX() + asteroid.getWidth()/2 <= player.getX() && !asteroid.isHasPassed()){
-                player.increaseScore();
-                asteroid.setHasPassed(true);
-                increaseAsteroidSpeed();
+        for (int i = 0; i < asteroids.size(); i++) {
+            Asteroid asteroid = asteroids.get(i);
+            if(asteroid.isHasPassed()){
+                continue;
+            }
+            // Asteroids further right haven't reached the player either
+            if(asteroid.getX() + asteroid.getWidth()/2 > player.getX()){
+                break;
             }
+            player.increaseScore();
+            asteroid.setHasPassed(true);
+            increaseAsteroidSpeed();
         }
         removeOffScreenObjects();
     }
@@ -88,28 +141,70 @@ public class AsteroidManager extends Manager{
     }
 
     /**
-     * Returns the interval in milliseconds at which the new asteroids are spawned.
+     * Adds the asteroids to the given render snapshot.
      *
-     * @return the spawn interval for asteroids
+     * @param snapshot The snapshot being captured
      */
-    @Override public int getSpawnerInterval() {
-        return 2000; //Spawns asteroids every other second
+    public void capture(RenderSnapshot snapshot){
+        for (Asteroid asteroid : asteroids){
+            snapshot.addSprite(SpriteKind.ASTEROID, asteroid.getX(), asteroid.getY(), asteroid.getWidth(), asteroid.getHeight());
+        }
     }
 
     /**
-     * Increases the speed of the asteroids every time the player scores 5 points.
+     * Increases the speed of the asteroids every time the player scores
+     * the speed increase threshold (5 points in the bundled definitions).
      */
     private void increaseAsteroidSpeed(){
         int score = player.getCurrentScore();
-        if((score % SCORE_THRESHOLD_SPEED_INCREASE == 0) && score != lastScoreCheck){
-            currentAsteroidSpeed++;
-            for(Asteroid asteroid : asteroids ){
-                asteroid.setSpeed(currentAsteroidSpeed);
-            }
+        if((score % scoreThresholdSpeedIncrease == 0) && score != lastScoreCheck){
+            camera.setSpeed(camera.getSpeed() + 1);
             lastScoreCheck = score;
         }
     }
 
+    /**
+     * Applies new asteroid definitions. Asteroids on screen take the new speed and new pairs the new size.
+     *
+     * @param definition The size and speed of the asteroids
+     */
+    public void setDefinition(GameDefinitions.AsteroidDefinition definition) {
+        asteroidWidth = definition.width();
+        gapHeight = definition.gap();
+        scoreThresholdSpeedIncrease = definition.speedIncreaseScore();
+        setInitialAsteroidSpeed(definition.speed());
+    }
+
+    /**
+     * Sets the speed asteroids start a game with. In a running game, the current speed
+     * changes by as much as the start speed, keeping the increases made so far.
+     *
+     * @param initialAsteroidSpeed The start speed in pixels per tick
+     */
+    public void setInitialAsteroidSpeed(int initialAsteroidSpeed) {
+        camera.setSpeed(camera.getSpeed() + initialAsteroidSpeed - this.initialAsteroidSpeed);
+        this.initialAsteroidSpeed = initialAsteroidSpeed;
+    }
+
+    /**
+     * Removes all asteroids, moves the camera back to the start and sets the speed back to the start speed,
+     * for a new game.
+     */
+    @Override public void reset(){
+        asteroids.clear();
+        camera.reset(initialAsteroidSpeed);
+        lastScoreCheck = 0;
+    }
+
+    /**
+     * Returns the height of an asteroid.
+     *
+     * @return the asteroid height in pixels
+     */
+    public int getAsteroidHeight() {
+        return asteroidHeight;
+    }
+
     /**
      * Returns the list of asteroids.
      *
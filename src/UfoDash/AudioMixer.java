@@ -0,0 +1,234 @@
+package UfoDash;
+
+import javax.sound.sampled.AudioFormat;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The 'AudioMixer' class plays the sound effects of a game. The game thread triggers a sound by adding it
+ * to a fixed-size ring, which takes no lock and doesn't allocate, so triggering never delays an update.
+ * The mixer's own thread drains the ring, starts a voice for each sound, mixes the voices of the
+ * 'ClipBank' into a small block and writes it to an 'AudioOutput'. The output blocks until it's ready for
+ * the next block, so the mixer runs at the speed the sound is played, and a triggered sound is heard
+ * after at most a block and the buffer of the output.
+ *
+ * A few voices play at once. When a sound is triggered while all of them are playing, the voice that
+ * has played the longest is stolen for it. Sounds of the same effect triggered in the same block are
+ * merged, so a volley of explosions doesn't take every voice. Until the mixer is started, triggered sounds
+ * are ignored, so games without sound, such as the batch simulator's, don't fill the ring.
+ */
+public class AudioMixer implements Runnable {
+    public static final int SAMPLE_RATE = 44100;
+    /** Mono 16-bit signed little-endian samples. */
+    public static final AudioFormat FORMAT = new AudioFormat(SAMPLE_RATE, 16, 1, true, false);
+    /** The number of samples mixed at a time, about 6 milliseconds. */
+    public static final int BLOCK_FRAMES = 256;
+    /** The buffer of a line output, which holds a few blocks so it doesn't run dry between them. */
+    public static final int LINE_BUFFER_BYTES = BLOCK_FRAMES * 4 * 2;
+    public static final int MAX_VOICES = 8;
+    private static final int TRIGGER_CAPACITY = 64;
+    private static final SoundEffect[] EFFECTS = SoundEffect.values();
+
+    private final int[] triggers = new int[TRIGGER_CAPACITY];
+    private final AtomicLong head = new AtomicLong(), tail = new AtomicLong();
+    private volatile long droppedTriggers = 0;
+
+    /** The effect of every voice, or -1 if it's free, the position it's at and when it started. */
+    private final int[] voiceEffects = new int[MAX_VOICES], voicePositions = new int[MAX_VOICES];
+    private final long[] voiceStarts = new long[MAX_VOICES];
+    private long startedVoices = 0;
+    private volatile int activeVoices = 0;
+    private volatile long stolenVoices = 0;
+
+    private final int[] mixBuffer = new int[BLOCK_FRAMES];
+    private final byte[] outputBuffer = new byte[BLOCK_FRAMES * 2];
+    private ClipBank clipBank;
+    private AudioOutput output;
+    private volatile Thread thread = null;
+    private volatile boolean running = false;
+
+    /**
+     * Constructs an 'AudioMixer' with every voice free. It plays nothing until it's started.
+     */
+    public AudioMixer() {
+        Arrays.fill(voiceEffects, -1);
+    }
+
+    /**
+     * Starts mixing the clips of the given bank into the given output, on a daemon thread named "audio-mixer".
+     * Does nothing if the mixer is already running.
+     *
+     * @param clipBank The decoded sound effects
+     * @param output The output the mixed sound is written to
+     */
+    public synchronized void start(ClipBank clipBank, AudioOutput output){
+        if(thread != null){
+            return;
+        }
+        this.clipBank = clipBank;
+        this.output = output;
+        running = true;
+        Thread mixerThread = new Thread(this, "audio-mixer");
+        mixerThread.setDaemon(true);
+        mixerThread.setPriority(Thread.MAX_PRIORITY);
+        thread = mixerThread;
+        mixerThread.start();
+    }
+
+    /**
+     * Stops the mixer thread, waits for it to end and closes the output. Sounds triggered afterward are ignored.
+     */
+    public synchronized void stop(){
+        Thread mixerThread = thread;
+        if(mixerThread == null){
+            return;
+        }
+        running = false;
+        try {
+            mixerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+        output.close();
+    }
+
+    /**
+     * Triggers a sound. Only called by the game thread. If the ring is full, the sound is dropped and counted.
+     *
+     * @param effect The sound to play
+     * @return true if the sound was triggered, false if the mixer isn't running or the sound was dropped
+     */
+    public boolean play(SoundEffect effect){
+        if(thread == null){
+            return false;
+        }
+        long currentTail = tail.get();
+        if(currentTail - head.get() >= TRIGGER_CAPACITY){
+            droppedTriggers++;
+            return false;
+        }
+        triggers[(int) currentTail & (TRIGGER_CAPACITY - 1)] = effect.ordinal();
+        // Publishes the trigger, the mixer reads the tail before reading the slot
+        tail.lazySet(currentTail + 1);
+        return true;
+    }
+
+    /**
+     * Mixes and writes blocks until the mixer is stopped.
+     */
+    @Override public void run(){
+        while (running){
+            startTriggeredVoices();
+            mixBlock();
+            output.write(outputBuffer, outputBuffer.length);
+        }
+    }
+
+    /**
+     * Starts a voice for every sound triggered since the previous block.
+     */
+    private void startTriggeredVoices(){
+        long currentHead = head.get();
+        long currentTail = tail.get();
+        for (long i = currentHead; i < currentTail; i++){
+            startVoice(triggers[(int) i & (TRIGGER_CAPACITY - 1)]);
+        }
+        // Frees the slots only after they were read
+        head.lazySet(currentTail);
+    }
+
+    /**
+     * Starts playing an effect on a free voice, or on the oldest voice if none is free.
+     */
+    private void startVoice(int effect){
+        int free = -1, oldest = -1;
+        for (int i = 0; i < MAX_VOICES; i++){
+            if(voiceEffects[i] < 0){
+                if(free < 0){
+                    free = i;
+                }
+            }else if(voiceEffects[i] == effect && voicePositions[i] == 0){
+                return; // Already starting in this block
+            }else if(oldest < 0 || voiceStarts[i] < voiceStarts[oldest]){
+                oldest = i;
+            }
+        }
+        int voice = free;
+        if(voice < 0){
+            voice = oldest;
+            stolenVoices++;
+        }
+        voiceEffects[voice] = effect;
+        voicePositions[voice] = 0;
+        voiceStarts[voice] = startedVoices++;
+    }
+
+    /**
+     * Mixes one block of every playing voice into the output buffer, freeing the voices that finished.
+     */
+    private void mixBlock(){
+        Arrays.fill(mixBuffer, 0);
+        int active = 0;
+        for (int voice = 0; voice < MAX_VOICES; voice++){
+            if(voiceEffects[voice] < 0){
+                continue;
+            }
+            short[] samples = clipBank.getSamples(EFFECTS[voiceEffects[voice]]);
+            int position = voicePositions[voice];
+            int frames = Math.min(BLOCK_FRAMES, samples.length - position);
+            for (int i = 0; i < frames; i++){
+                mixBuffer[i] += samples[position + i];
+            }
+            if(position + frames >= samples.length){
+                voiceEffects[voice] = -1;
+            }else{
+                voicePositions[voice] = position + frames;
+                active++;
+            }
+        }
+        activeVoices = active;
+
+        for (int i = 0; i < BLOCK_FRAMES; i++){
+            int sample = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, mixBuffer[i]));
+            outputBuffer[i * 2] = (byte) sample;
+            outputBuffer[i * 2 + 1] = (byte) (sample >> 8);
+        }
+    }
+
+    /**
+     * Returns whether the mixer thread is running.
+     *
+     * @return true if the mixer is running, false otherwise
+     */
+    public boolean isRunning(){
+        return thread != null;
+    }
+
+    /**
+     * Returns the number of voices that were still playing after the latest block.
+     *
+     * @return the active voices
+     */
+    public int getActiveVoices() {
+        return activeVoices;
+    }
+
+    /**
+     * Returns the number of playing voices that were cut off to play a newer sound.
+     *
+     * @return the stolen voices
+     */
+    public long getStolenVoices() {
+        return stolenVoices;
+    }
+
+    /**
+     * Returns the number of sounds dropped because the ring of triggers was full.
+     *
+     * @return the dropped triggers
+     */
+    public long getDroppedTriggers() {
+        return droppedTriggers;
+    }
+}
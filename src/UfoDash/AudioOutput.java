@@ -0,0 +1,22 @@
+package UfoDash;
+
+/**
+ * The 'AudioOutput' interface is where the 'AudioMixer' writes the sound it mixed, in the mixer's format.
+ * Writing blocks until the output is ready for more, which paces the mixer at the speed the sound is played:
+ * a 'LineAudioOutput' plays it through the sound card, and a 'NullAudioOutput' discards it in real time,
+ * for machines without sound and headless runs.
+ */
+public interface AudioOutput {
+    /**
+     * Writes mixed samples, blocking until there is room for them. Only called by the mixer thread.
+     *
+     * @param buffer The samples as 16-bit little-endian bytes
+     * @param length The number of bytes to write
+     */
+    void write(byte[] buffer, int length);
+
+    /**
+     * Stops the output and releases what it holds.
+     */
+    void close();
+}
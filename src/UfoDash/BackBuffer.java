@@ -0,0 +1,180 @@
+package UfoDash;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+/**
+ * The 'BackBuffer' class is the image the game is rendered into before it reaches the screen.
+ * The game is always laid out at its logical size, the size of the panel it was designed for,
+ * and the back buffer scales it to an internal resolution given by a render scale.
+ * A scale below 1 renders fewer pixels on weak machines, a scale above 1 renders sharper sprites,
+ * and a scale of 0 renders at the native resolution of the window, including any HiDPI factor.
+ *
+ * The back buffer is then copied to the window in a single blit, scaled to fit the window
+ * while keeping the aspect ratio of the game. The rest of the window is filled black.
+ */
+public class BackBuffer {
+    /** The render scale that follows the native resolution of the window. */
+    public static final double NATIVE_SCALE = 0;
+
+    private final int logicalWidth, logicalHeight;
+    private final Rectangle target;
+    private double renderScale;
+    private BufferedImage image = null;
+    private double scaleX, scaleY;
+
+    /**
+     * Constructs a 'BackBuffer' for a game of the given logical size.
+     *
+     * @param logicalWidth The width the game is laid out at
+     * @param logicalHeight The height the game is laid out at
+     * @param renderScale The internal resolution relative to the logical size, or 'NATIVE_SCALE'
+     */
+    public BackBuffer(int logicalWidth, int logicalHeight, double renderScale) {
+        this.logicalWidth = logicalWidth;
+        this.logicalHeight = logicalHeight;
+        this.renderScale = renderScale;
+        this.target = new Rectangle(0, 0, logicalWidth, logicalHeight);
+    }
+
+    /**
+     * Sets the internal resolution relative to the logical size. The back buffer is
+     * recreated the next time it's resized.
+     *
+     * @param renderScale The render scale, or 'NATIVE_SCALE' to follow the resolution of the window
+     */
+    public void setRenderScale(double renderScale) {
+        this.renderScale = renderScale;
+        this.image = null;
+    }
+
+    /**
+     * Fits the game into a window of the given size, and recreates the back buffer if its
+     * resolution has to change.
+     *
+     * @param componentWidth The width of the window, or 0 if it has no size yet
+     * @param componentHeight The height of the window, or 0 if it has no size yet
+     * @param deviceTransform The transform from window coordinates to device pixels
+     * @return true if the back buffer was recreated and has to be rendered again, false otherwise
+     */
+    public boolean resize(int componentWidth, int componentHeight, AffineTransform deviceTransform){
+        fit(componentWidth, componentHeight);
+        int width, height;
+        if(renderScale > 0){
+            width = (int) Math.round(logicalWidth * renderScale);
+            height = (int) Math.round(logicalHeight * renderScale);
+        }else{
+            width = (int) Math.round(target.width * deviceTransform.getScaleX());
+            height = (int) Math.round(target.height * deviceTransform.getScaleY());
+        }
+        width = Math.max(1, width);
+        height = Math.max(1, height);
+        if(image != null && image.getWidth() == width && image.getHeight() == height){
+            return false;
+        }
+        image = CompatibleImages.create(width, height, false);
+        scaleX = (double) width / logicalWidth;
+        scaleY = (double) height / logicalHeight;
+        return true;
+    }
+
+    /**
+     * Works out the largest area of the window that shows the game with its aspect ratio, centered.
+     *
+     * @param componentWidth The width of the window
+     * @param componentHeight The height of the window
+     */
+    private void fit(int componentWidth, int componentHeight){
+        if(componentWidth <= 0 || componentHeight <= 0){
+            target.setBounds(0, 0, logicalWidth, logicalHeight);
+            return;
+        }
+        double scale = Math.min((double) componentWidth / logicalWidth, (double) componentHeight / logicalHeight);
+        int width = (int) Math.round(logicalWidth * scale);
+        int height = (int) Math.round(logicalHeight * scale);
+        target.setBounds((componentWidth - width) / 2, (componentHeight - height) / 2, width, height);
+    }
+
+    /**
+     * Creates a graphics object drawing into the back buffer in logical coordinates.
+     * The caller has to dispose it.
+     *
+     * @param clip The logical region to draw in, or null to draw everywhere
+     * @return the graphics of the back buffer
+     */
+    public Graphics2D createGraphics(Rectangle clip){
+        if(image == null){
+            resize(target.width, target.height, new AffineTransform());
+        }
+        Graphics2D g2d = image.createGraphics();
+        if(scaleX != 1 || scaleY != 1){
+            g2d.scale(scaleX, scaleY);
+        }
+        if(clip != null){
+            g2d.clip(clip);
+        }
+        return g2d;
+    }
+
+    /**
+     * Copies the back buffer to the window in a single blit, and fills the rest of the window black.
+     *
+     * @param g2d the Graphics2D object of the window
+     * @param componentWidth The width of the window
+     * @param componentHeight The height of the window
+     */
+    public void blit(Graphics2D g2d, int componentWidth, int componentHeight){
+        fit(componentWidth, componentHeight);
+        if(target.width < componentWidth || target.height < componentHeight){
+            g2d.setColor(Color.BLACK);
+            g2d.fillRect(0, 0, componentWidth, target.y);
+            g2d.fillRect(0, target.y + target.height, componentWidth, componentHeight - target.y - target.height);
+            g2d.fillRect(0, target.y, target.x, target.height);
+            g2d.fillRect(target.x + target.width, target.y, componentWidth - target.x - target.width, target.height);
+        }
+        if(image == null){
+            return;
+        }
+        // Upscaled pixel art stays crisp with nearest neighbour, downscaling needs filtering
+        if(image.getWidth() > target.width * g2d.getTransform().getScaleX()){
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        }
+        g2d.drawImage(image, target.x, target.y, target.width, target.height, null);
+    }
+
+    /**
+     * Copies the back buffer into the given image, scaled to fill it, so the frame on screen can
+     * be recorded without being drawn again. Does nothing if the back buffer hasn't been created yet.
+     *
+     * @param target The image to copy into
+     */
+    public void copyTo(BufferedImage target){
+        if(image == null){
+            return;
+        }
+        Graphics2D g2d = target.createGraphics();
+        if(image.getWidth() != target.getWidth() || image.getHeight() != target.getHeight()){
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        }
+        g2d.drawImage(image, 0, 0, target.getWidth(), target.getHeight(), null);
+        g2d.dispose();
+    }
+
+    /**
+     * Sets the given rectangle to the area of the window showing a logical region of the game,
+     * rounded outwards to whole pixels.
+     *
+     * @param logical The logical region
+     * @param component The rectangle to set to the window area
+     */
+    public void toComponent(Rectangle logical, Rectangle component){
+        double fitScaleX = (double) target.width / logicalWidth;
+        double fitScaleY = (double) target.height / logicalHeight;
+        int left = target.x + (int) Math.floor(logical.x * fitScaleX);
+        int top = target.y + (int) Math.floor(logical.y * fitScaleY);
+        int right = target.x + (int) Math.ceil((logical.x + logical.width) * fitScaleX);
+        int bottom = target.y + (int) Math.ceil((logical.y + logical.height) * fitScaleY);
+        component.setBounds(left, top, right - left, bottom - top);
+    }
+}
@@ -0,0 +1,208 @@
+package UfoDash;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * The 'BatchSimulator' class plays thousands of independent games headless, as fast as
+ * possible, to tune the difficulty of the game. Each game is a task on a fork-join pool
+ * using all cores, with its own clock and random generators, driven by an input policy.
+ * Every worker thread builds its game components once and resets them for each of its games,
+ * reseeding their random generator, so a game plays the same whichever thread it runs on.
+ * The survival time and score distributions are printed at the end.
+ * <p>
+ * Started with {@code GameLoop --batch [games=N] [policy=scripted|random] [seed=N]
+ * [max-seconds=N] [gap=N] [speed-threshold=N] [threads=N]}, or through this class's main method.
+ */
+public class BatchSimulator {
+    public static final String LAUNCH_FLAG = "--batch";
+    private static final int PANEL_WIDTH = 700, PANEL_HEIGHT = 800;
+    private static final int GROUND_HEIGHT = PANEL_HEIGHT / 8;
+    private static final int PLAYER_START_Y = PANEL_HEIGHT / 3;
+    private static final double RANDOM_JUMP_CHANCE = 0.08;
+    private static final double RANDOM_SHOOT_CHANCE = 0.05;
+    private static final int[] PERCENTILES = {10, 25, 50, 75, 90, 99};
+
+    private int games = 1000, maxSeconds = 600, threads = Runtime.getRuntime().availableProcessors();
+    private final GameDefinitions definitions;
+    private final ThreadLocal<Worker> workers = ThreadLocal.withInitial(this::createWorker);
+    private long seed = 1;
+    private String policy = "scripted";
+
+    /**
+     * Constructs a 'BatchSimulator' configured by the given arguments.
+     * Each argument has the form 'name=value'; unknown names are reported and ignored.
+     * The gap and speed threshold default to the values of the game definitions.
+     *
+     * @param args The simulator arguments
+     */
+    public BatchSimulator(String[] args) {
+        Map<String, String> overrides = new HashMap<>();
+        for (String arg : args) {
+            String[] parts = arg.split("=", 2);
+            if(parts.length != 2){
+                System.err.println("Ignoring batch simulator argument: " + arg);
+                continue;
+            }
+            switch (parts[0]) {
+                case "games" -> games = Integer.parseInt(parts[1]);
+                case "policy" -> policy = parts[1];
+                case "seed" -> seed = Long.parseLong(parts[1]);
+                case "max-seconds" -> maxSeconds = Integer.parseInt(parts[1]);
+                case "gap" -> overrides.put("asteroid.gap", parts[1]);
+                case "speed-threshold" -> overrides.put("asteroid.speedIncreaseScore", parts[1]);
+                case "threads" -> threads = Integer.parseInt(parts[1]);
+                default -> System.err.println("Ignoring batch simulator argument: " + arg);
+            }
+        }
+        definitions = GameDefinitions.getDefault().withOverrides(overrides);
+    }
+
+    /**
+     * Simulates all games in parallel and prints the distributions.
+     */
+    public void run(){
+        List<Callable<GameResult>> tasks = new ArrayList<>(games);
+        for (int i = 0; i < games; i++) {
+            long gameSeed = seed + i;
+            tasks.add(() -> playGame(gameSeed));
+        }
+
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long[] survivalTicks = new long[games];
+        long[] scores = new long[games];
+        long totalTicks = 0;
+        try {
+            List<Future<GameResult>> results = pool.invokeAll(tasks);
+            for (int i = 0; i < games; i++) {
+                GameResult result = results.get(i).get();
+                survivalTicks[i] = result.survivalTicks();
+                scores[i] = result.score();
+                totalTicks += result.survivalTicks();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Batch simulation interrupted");
+            return;
+        } catch (ExecutionException e) {
+            e.printStackTrace();
+            return;
+        } finally {
+            pool.shutdown();
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.printf("Simulated %d games with the %s policy on %d threads in %.1f s (%.0f ticks/s)%n",
+                games, policy, threads, seconds, totalTicks / seconds);
+        printDistribution("Survival (s)", survivalTicks, GameClock.TICKS_PER_SECOND);
+        printDistribution("Score", scores, 1);
+    }
+
+    /**
+     * Plays a single game until the player has no lives left or the time limit is reached.
+     *
+     * @param gameSeed The seed of the game's random generators
+     * @return the survival time and score of the game
+     */
+    private GameResult playGame(long gameSeed){
+        Worker worker = workers.get();
+        worker.random().setSeed(gameSeed);
+        GameComponents gameComponents = worker.gameComponents();
+        gameComponents.reset();
+        InputPolicy inputPolicy = createInputPolicy(new Random(~gameSeed));
+
+        long maxTicks = (long) maxSeconds * GameClock.TICKS_PER_SECOND;
+        Player player = gameComponents.getPlayer();
+        while (player.getLives() > 0 && gameComponents.getGameClock().getTicks() < maxTicks){
+            inputPolicy.apply(gameComponents);
+            gameComponents.update();
+        }
+        return new GameResult(gameComponents.getGameClock().getTicks(), player.getCurrentScore());
+    }
+
+    /**
+     * Creates the game components of a worker thread, with the definitions of the arguments.
+     *
+     * @return the worker
+     */
+    private Worker createWorker(){
+        Random random = new Random();
+        GameComponents gameComponents = new GameComponents(PANEL_HEIGHT, PANEL_WIDTH, GROUND_HEIGHT, PLAYER_START_Y,
+                random, false);
+        gameComponents.applyDefinitions(definitions);
+        return new Worker(random, gameComponents);
+    }
+
+    /**
+     * Creates the input policy selected by the arguments.
+     *
+     * @param random The random generator of the policy
+     * @return the input policy
+     */
+    private InputPolicy createInputPolicy(Random random){
+        if(policy.equals("random")){
+            return new RandomInputPolicy(random, RANDOM_JUMP_CHANCE, RANDOM_SHOOT_CHANCE);
+        }
+        return new ScriptedInputPolicy(PLAYER_START_Y);
+    }
+
+    /**
+     * Prints the mean, minimum, maximum and percentiles of the given values.
+     *
+     * @param name The name of the distribution
+     * @param values The values, sorted in place
+     * @param divisor The divisor converting the values to the printed unit
+     */
+    private static void printDistribution(String name, long[] values, double divisor){
+        Arrays.sort(values);
+        double sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        StringBuilder line = new StringBuilder(String.format("%-13s mean %8.1f  min %8.1f", name,
+                sum / values.length / divisor, values[0] / divisor));
+        for (int percentile : PERCENTILES) {
+            int index = Math.max(0, (int) Math.ceil(percentile / 100.0 * values.length) - 1);
+            line.append(String.format("  p%d %8.1f", percentile, values[index] / divisor));
+        }
+        line.append(String.format("  max %8.1f", values[values.length - 1] / divisor));
+        System.out.println(line);
+    }
+
+    /**
+     * The outcome of a single simulated game.
+     *
+     * @param survivalTicks The number of ticks the player survived
+     * @param score The player's final score
+     */
+    private record GameResult(long survivalTicks, int score) {
+    }
+
+    /**
+     * The game components a worker thread reuses for its games.
+     *
+     * @param random The random generator of the components, reseeded for each game
+     * @param gameComponents The components, reset for each game
+     */
+    private record Worker(Random random, GameComponents gameComponents) {
+    }
+
+    /**
+     * Runs the batch simulator.
+     *
+     * @param args The simulator arguments
+     */
+    public static void main(String[] args){
+        System.setProperty("java.awt.headless", "true");
+        new BatchSimulator(args).run();
+    }
+}
@@ -0,0 +1,86 @@
+package UfoDash;
+
+/**
+ * The 'Camera' class is the view of the game onto the world. Objects that stand still in the world,
+ * such as the asteroids, keep fixed world coordinates, and the camera scrolls to the right past them
+ * at the scroll speed. The screen x-coordinate of such an object is its world x-coordinate minus
+ * the scroll offset, so scrolling moves all of them at once without touching any of them,
+ * and changing how fast they move is a single assignment.
+ */
+public class Camera {
+    private int scrollX = 0;
+    private int speed;
+
+    /**
+     * Constructs a 'Camera' at the start of the world.
+     *
+     * @param speed The scroll speed in pixels per tick
+     */
+    public Camera(int speed) {
+        this.speed = speed;
+    }
+
+    /**
+     * Scrolls the camera by one tick.
+     */
+    public void update(){
+        scrollX += speed;
+    }
+
+    /**
+     * Moves the camera back to the start of the world, for a new game.
+     *
+     * @param speed The scroll speed to start with in pixels per tick
+     */
+    public void reset(int speed){
+        this.scrollX = 0;
+        this.speed = speed;
+    }
+
+    /**
+     * Converts a world x-coordinate to a screen x-coordinate.
+     *
+     * @param worldX The x-coordinate in the world
+     * @return the x-coordinate on the screen
+     */
+    public int toScreenX(int worldX){
+        return worldX - scrollX;
+    }
+
+    /**
+     * Converts a screen x-coordinate to a world x-coordinate.
+     *
+     * @param screenX The x-coordinate on the screen
+     * @return the x-coordinate in the world
+     */
+    public int toWorldX(int screenX){
+        return screenX + scrollX;
+    }
+
+    /**
+     * Returns how far the camera has scrolled since the start of the world.
+     *
+     * @return the scroll offset in pixels
+     */
+    public int getScrollX() {
+        return scrollX;
+    }
+
+    /**
+     * Returns the scroll speed.
+     *
+     * @return the speed in pixels per tick
+     */
+    public int getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Sets the scroll speed, which moves every object standing still in the world at the new speed.
+     *
+     * @param speed The speed in pixels per tick
+     */
+    public void setSpeed(int speed) {
+        this.speed = speed;
+    }
+}
@@ -0,0 +1,156 @@
+package UfoDash;
+
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The 'ClipBank' class holds every 'SoundEffect' decoded into 16-bit PCM samples in the format of the
+ * 'AudioMixer', so playing a sound only copies samples and never decodes anything.
+ * The clips are decoded once, when the default bank is first used: an effect with a WAV file in the sounds
+ * folder is decoded and converted to the mixer's format, and any other effect is synthesized.
+ */
+public class ClipBank {
+    public static final String SOUNDS_DIRECTORY = "sounds/";
+    private static final int ATTACK_MILLIS = 5;
+    private static final int NOISE_SEED = 0x1F123BB5;
+
+    private final short[][] clips;
+    private final long decodeNanos;
+
+    /**
+     * Holds the default bank, which is decoded the first time it's needed.
+     */
+    private static final class DefaultHolder {
+        private static final ClipBank DEFAULT = load();
+    }
+
+    /**
+     * Constructs a 'ClipBank' holding the given clips.
+     *
+     * @param clips The samples of every effect, by ordinal
+     * @param decodeNanos The time it took to decode the clips
+     */
+    private ClipBank(short[][] clips, long decodeNanos) {
+        this.clips = clips;
+        this.decodeNanos = decodeNanos;
+    }
+
+    /**
+     * Returns the bank of the game's sound effects, decoding them on the first call.
+     *
+     * @return the default 'ClipBank'
+     */
+    public static ClipBank getDefault(){
+        return DefaultHolder.DEFAULT;
+    }
+
+    /**
+     * Decodes or synthesizes every sound effect. A file that can't be read or converted is reported,
+     * and its effect is synthesized instead.
+     *
+     * @return the new bank
+     */
+    public static ClipBank load(){
+        long start = System.nanoTime();
+        SoundEffect[] effects = SoundEffect.values();
+        short[][] clips = new short[effects.length][];
+        for (SoundEffect effect : effects){
+            String path = SOUNDS_DIRECTORY + effect.getFileName();
+            try {
+                clips[effect.ordinal()] = decode(path);
+            } catch (IOException | UnsupportedAudioFileException | IllegalArgumentException e) {
+                System.err.println("Failed to decode " + path + ", synthesizing it instead: " + e.getMessage());
+            }
+            if(clips[effect.ordinal()] == null){
+                clips[effect.ordinal()] = synthesize(effect);
+            }
+        }
+        return new ClipBank(clips, System.nanoTime() - start);
+    }
+
+    /**
+     * Decodes a sound file from the class path into samples in the format of the mixer.
+     *
+     * @param path The path of the file on the class path
+     * @return the samples, or null if there is no such file
+     * @throws IOException if the file can't be read
+     * @throws UnsupportedAudioFileException if the file isn't a known audio format
+     * @throws IllegalArgumentException if the file can't be converted to the format of the mixer
+     */
+    private static short[] decode(String path) throws IOException, UnsupportedAudioFileException {
+        InputStream file = ClassLoader.getSystemResourceAsStream(path);
+        if(file == null){
+            return null;
+        }
+        try(AudioInputStream source = AudioSystem.getAudioInputStream(new BufferedInputStream(file));
+            AudioInputStream pcm = AudioSystem.getAudioInputStream(AudioMixer.FORMAT, source)) {
+            byte[] bytes = pcm.readAllBytes();
+            short[] samples = new short[bytes.length / 2];
+            for (int i = 0; i < samples.length; i++){
+                // The mixer's format is little-endian
+                samples[i] = (short) ((bytes[i * 2] & 0xFF) | (bytes[i * 2 + 1] << 8));
+            }
+            return samples;
+        }
+    }
+
+    /**
+     * Synthesizes the sound of an effect: its waveform swept from its start to its end frequency,
+     * faded in over a few milliseconds so it doesn't click, and faded out over its whole length.
+     *
+     * @param effect The effect to synthesize
+     * @return the samples
+     */
+    private static short[] synthesize(SoundEffect effect){
+        int sampleRate = AudioMixer.SAMPLE_RATE;
+        short[] samples = new short[effect.getDurationMillis() * sampleRate / 1000];
+        int attackSamples = ATTACK_MILLIS * sampleRate / 1000;
+        double phase = 0;
+        int noise = NOISE_SEED;
+        for (int i = 0; i < samples.length; i++){
+            double progress = (double) i / samples.length;
+            double frequency = effect.getStartFrequency()
+                    + (effect.getEndFrequency() - effect.getStartFrequency()) * progress;
+            phase = (phase + frequency / sampleRate) % 1.0;
+
+            double value;
+            switch (effect.getWaveform()) {
+                case SINE -> value = Math.sin(phase * 2 * Math.PI);
+                case SQUARE -> value = phase < 0.5 ? 1 : -1;
+                case TRIANGLE -> value = 1 - 4 * Math.abs(phase - 0.5);
+                default -> {
+                    noise ^= noise << 13;
+                    noise ^= noise >>> 17;
+                    noise ^= noise << 5;
+                    value = noise / (double) Integer.MAX_VALUE;
+                }
+            }
+            double envelope = Math.min(1.0, (double) i / attackSamples) * (1 - progress) * (1 - progress);
+            samples[i] = (short) (value * envelope * effect.getVolume() * Short.MAX_VALUE);
+        }
+        return samples;
+    }
+
+    /**
+     * Returns the samples of an effect.
+     *
+     * @param effect The effect
+     * @return the 16-bit samples, in the format of the mixer
+     */
+    public short[] getSamples(SoundEffect effect){
+        return clips[effect.ordinal()];
+    }
+
+    /**
+     * Returns the time it took to decode the clips of the bank.
+     *
+     * @return the decode time in milliseconds
+     */
+    public double getDecodeMillis() {
+        return decodeNanos / 1_000_000.0;
+    }
+}
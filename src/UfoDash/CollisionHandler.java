@@ -10,14 +10,36 @@ import java.util.List;
  * enemies, projectiles, ground, asteroids and power-ups.
  * It also manages the cool-down period between collision to prevent multiple
  * collisions from being registered too quickly.
+ * Shot enemies and picked-up power-ups burst into particles and play their sound.
  */
 public class CollisionHandler {
-    /** Manages cool-down period for collisions. */
-    private long lastCollisionTime;
-    private static final long COLLISION_COOL_DOWN = 1000;
+    /** Manages cool-down period for collisions, armed while collisions are ignored. */
+    private final GameTimer coolDownTimer;
+    private static final int COLLISION_COOL_DOWN = 1000;
+    private static final int COLLISION_COOL_DOWN_TICKS = GameClock.millisToTicks(COLLISION_COOL_DOWN);
+    /** Number of intersection tests done by the latest call to 'processCollisions'. */
+    private long collisionTests;
 
-    public CollisionHandler() {
-        lastCollisionTime = 0;
+    /** Shapes and lists reused by every collision check, so checking doesn't allocate. */
+    private final Rectangle2D playerRect = new Rectangle2D.Double();
+    private final Rectangle2D otherRect = new Rectangle2D.Double();
+    private final Ellipse2D otherEllipse = new Ellipse2D.Double();
+    private final List<Projectile> projectilesToRemove = new ArrayList<>();
+    private final List<Enemy> enemiesToRemove = new ArrayList<>();
+    private final ParticleSystem particleSystem;
+    private final AudioMixer audioMixer;
+
+    /**
+     * Constructs a 'CollisionHandler' timing its cool-down with the given clock.
+     *
+     * @param gameClock The clock of the game
+     * @param particleSystem The particle system that shot enemies and picked-up power-ups burst into
+     * @param audioMixer The mixer playing the sounds of shot enemies and picked-up power-ups
+     */
+    public CollisionHandler(GameClock gameClock, ParticleSystem particleSystem, AudioMixer audioMixer) {
+        this.coolDownTimer = gameClock.createTimer(null);
+        this.particleSystem = particleSystem;
+        this.audioMixer = audioMixer;
     }
 
     /**
@@ -26,8 +48,7 @@ public class CollisionHandler {
      * @return true if the cool-down period is over, otherwise false.
      */
     private boolean isCollisionCoolDownOver(){
-        long currentTime = System.currentTimeMillis();
-        return currentTime - lastCollisionTime > COLLISION_COOL_DOWN;
+        return !coolDownTimer.isArmed();
     }
 
     /**
@@ -45,6 +66,8 @@ public class CollisionHandler {
      */
     public void processCollisions(Player player, List<Asteroid> asteroids, List<PowerUp> powerUps, List<Enemy> enemies,
                                   List<Projectile> projectiles, int groundHeight, int panelHeight, int playerY){
+        collisionTests = 0;
+        playerRect.setFrame(player.getX(), player.getY(), player.getWidth(), player.getHeight());
         if(isCollisionCoolDownOver()){
             boolean playerCollidingWithAsteroid = isPlayerCollidingWithAsteroids(player, asteroids);
             boolean playerCollidingWithGround = isPlayerCollidingWithGround(player, groundHeight, panelHeight);
@@ -52,7 +75,8 @@ public class CollisionHandler {
 
             // Checks if player is colliding with any of the elements
             if(playerCollidingWithAsteroid || playerCollidingWithGround || playerCollidingWithEnemies){
-                lastCollisionTime = System.currentTimeMillis();
+                // Collisions register again on the tick after the cool-down
+                coolDownTimer.schedule(COLLISION_COOL_DOWN_TICKS + 1);
                 player.decreaseLives();
                 player.setCollided(true);
 
@@ -74,10 +98,10 @@ public class CollisionHandler {
      * @return true if the player is colliding with an asteroid, otherwise false.
      */
     private boolean isPlayerCollidingWithAsteroids(Player player, List<Asteroid> asteroids){
-        Rectangle2D playerRect = new Rectangle2D.Double(player.getX(), player.getY(), player.getWidth(), player.getHeight());
         for(Asteroid asteroid : asteroids){
-            Ellipse2D asteroidEllipse = new Ellipse2D.Double(asteroid.getX(), asteroid.getY(), asteroid.getWidth(), asteroid.getHeight());
-            if (asteroidEllipse.intersects(playerRect)){
+            otherEllipse.setFrame(asteroid.getX(), asteroid.getY(), asteroid.getWidth(), asteroid.getHeight());
+            collisionTests++;
+            if (otherEllipse.intersects(playerRect)){
                 return true;
             }
         }
@@ -104,10 +128,10 @@ public class CollisionHandler {
      * @return true if the player is colliding with an enemy, otherwise false.
      */
     private boolean isPlayerCollidingWithEnemies(Player player, List<Enemy> enemies){
-        Rectangle2D playerRect = new Rectangle2D.Double(player.getX(), player.getY(), player.getWidth(), player.getHeight());
         for(Enemy enemy : enemies){
-            Rectangle2D enemyRect = new Rectangle2D.Double(enemy.getX(), enemy.getY(), enemy.getWidth(), enemy.getHeight());
-            if (enemyRect.intersects(playerRect)){
+            otherRect.setFrame(enemy.getX(), enemy.getY(), enemy.getWidth(), enemy.getHeight());
+            collisionTests++;
+            if (otherRect.intersects(playerRect)){
                 return true;
             }
         }
@@ -121,13 +145,17 @@ public class CollisionHandler {
      * @param powerUps The list of power-ups that the player can collect.
      */
     private void handlePlayerPowerUpCollision(Player player, List<PowerUp> powerUps) {
-        Rectangle2D playerRect = new Rectangle2D.Double(player.getX(), player.getY(), player.getWidth(),
-                player.getHeight());
+        // The player may have been moved by a ground collision
+        playerRect.setFrame(player.getX(), player.getY(), player.getWidth(), player.getHeight());
         for (PowerUp powerUp : powerUps) {
-            Ellipse2D powerUpEllipse = new Ellipse2D.Double(powerUp.getX(), powerUp.getY(), powerUp.getWidth(), powerUp.getHeight());
-            if (powerUp.isActive() && powerUpEllipse.intersects(playerRect)){
+            otherEllipse.setFrame(powerUp.getX(), powerUp.getY(), powerUp.getWidth(), powerUp.getHeight());
+            collisionTests++;
+            if (powerUp.isActive() && otherEllipse.intersects(playerRect)){
                 powerUp.applyEffect(player);
                 powerUp.deactivate();
+                particleSystem.emit(ParticleEmitter.PICKUP, powerUp.getX() + powerUp.getWidth() / 2f,
+                        powerUp.getY() + powerUp.getHeight() / 2f);
+                audioMixer.play(SoundEffect.PICKUP);
             }
         }
     }
@@ -139,23 +167,46 @@ public class CollisionHandler {
      * @param enemies The list of enemies that the player can collide with.
      */
     private void handleProjectileEnemyCollisions(List<Projectile> projectiles, List<Enemy> enemies){
-        List<Projectile> projectilesToRemove = new ArrayList<>();
-        List<Enemy> enemiesToRemove = new ArrayList<>();
-
         for(Projectile projectile : projectiles){
-            Rectangle2D projectileRect = new Rectangle2D.Double(projectile.getX(), projectile.getY(), projectile.getWidth(), projectile.getHeight());
+            double projectileX = projectile.getX(), projectileY = projectile.getY();
+            double projectileWidth = projectile.getWidth(), projectileHeight = projectile.getHeight();
 
             for(Enemy enemy : enemies) {
-                Rectangle2D enemyRect = new Rectangle2D.Double(enemy.getX(), enemy.getY(), enemy.getWidth(), enemy.getHeight());
+                otherRect.setFrame(enemy.getX(), enemy.getY(), enemy.getWidth(), enemy.getHeight());
+                collisionTests++;
 
-                if (enemyRect.intersects(projectileRect)) {
+                if (otherRect.intersects(projectileX, projectileY, projectileWidth, projectileHeight)) {
                     projectilesToRemove.add(projectile);
                     enemiesToRemove.add(enemy);
+                    particleSystem.emit(ParticleEmitter.EXPLOSION, enemy.getX() + enemy.getWidth() / 2f,
+                            enemy.getY() + enemy.getHeight() / 2f);
+                    audioMixer.play(SoundEffect.EXPLOSION);
                     break; // A projectile can only hit one enemy at a time
                 }
             }
         }
-        projectiles.removeAll(projectilesToRemove);
-        enemies.removeAll(enemiesToRemove);
+        if(!projectilesToRemove.isEmpty()){
+            projectiles.removeAll(projectilesToRemove);
+            enemies.removeAll(enemiesToRemove);
+            projectilesToRemove.clear();
+            enemiesToRemove.clear();
+        }
+    }
+
+    /**
+     * Ends the cool-down, for a new game.
+     */
+    public void reset(){
+        coolDownTimer.cancel();
+        collisionTests = 0;
+    }
+
+    /**
+     * Returns the number of intersection tests done by the latest call to 'processCollisions'.
+     *
+     * @return the number of collision tests
+     */
+    public long getCollisionTests() {
+        return collisionTests;
     }
 }
@@ -0,0 +1,50 @@
+package UfoDash;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * The 'CompatibleImages' class creates offscreen images in the format of the screen,
+ * so drawing them onto the screen is a plain copy instead of a format conversion.
+ * Without a screen (headless), regular integer RGB images are created instead.
+ */
+public final class CompatibleImages {
+    private CompatibleImages() {
+    }
+
+    /**
+     * Creates an image compatible with the default screen.
+     *
+     * @param width The width of the image
+     * @param height The height of the image
+     * @param translucent True if the image needs an alpha channel, false for an opaque image
+     * @return the new image, fully transparent if translucent
+     */
+    public static BufferedImage create(int width, int height, boolean translucent){
+        if(!GraphicsEnvironment.isHeadless()){
+            GraphicsConfiguration configuration = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice().getDefaultConfiguration();
+            return configuration.createCompatibleImage(width, height,
+                    translucent ? Transparency.TRANSLUCENT : Transparency.OPAQUE);
+        }
+        return new BufferedImage(width, height, translucent ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+    }
+
+    /**
+     * Creates a compatible copy of the given image, scaled to the given size.
+     *
+     * @param image The image to copy
+     * @param width The width of the copy
+     * @param height The height of the copy
+     * @param translucent True if the copy needs an alpha channel, false for an opaque copy
+     * @return the scaled copy
+     */
+    public static BufferedImage scaled(Image image, int width, int height, boolean translucent){
+        BufferedImage copy = create(width, height, translucent);
+        Graphics2D g2d = copy.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2d.drawImage(image, 0, 0, width, height, null);
+        g2d.dispose();
+        return copy;
+    }
+}
@@ -0,0 +1,41 @@
+package UfoDash;
+
+/**
+ * The 'CourseChunk' record is a stretch of the obstacle course laid out by the 'CourseGenerator':
+ * a few asteroid pairs with the enemies and power-ups that come with them. Positions along the course
+ * are in world x-coordinates relative to the start of the chunk; the 'ObstacleCourse' places the chunk
+ * after the previous one. A chunk is never changed once it's handed over.
+ *
+ * @param epoch The course the chunk belongs to, chunks of a course that was restarted are dropped
+ * @param length The length of the chunk in world pixels
+ * @param pairX The x-coordinates of the asteroid pairs, in increasing order
+ * @param pairTopY The y-coordinates of the top asteroid of each pair
+ * @param enemyX The x-coordinates the enemies are spawned at, in increasing order
+ * @param enemyY The y-coordinates the enemies are spawned at
+ * @param enemies The variant of each enemy
+ * @param powerUpX The x-coordinates the power-ups are spawned at, in increasing order
+ * @param powerUpY The y-coordinates the power-ups are spawned at
+ * @param powerUps The variant of each power-up
+ */
+public record CourseChunk(int epoch, int length, int[] pairX, int[] pairTopY,
+                          int[] enemyX, int[] enemyY, GameDefinitions.EnemyDefinition[] enemies,
+                          int[] powerUpX, int[] powerUpY, GameDefinitions.PowerUpDefinition[] powerUps) {
+    /**
+     * Returns how far into the chunk its first object is.
+     *
+     * @return the x-coordinate of the first object, or the length of the chunk if it's empty
+     */
+    public int getLeadIn(){
+        int leadIn = length;
+        if(pairX.length > 0){
+            leadIn = Math.min(leadIn, pairX[0]);
+        }
+        if(enemyX.length > 0){
+            leadIn = Math.min(leadIn, enemyX[0]);
+        }
+        if(powerUpX.length > 0){
+            leadIn = Math.min(leadIn, powerUpX[0]);
+        }
+        return leadIn;
+    }
+}
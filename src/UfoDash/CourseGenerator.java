@@ -0,0 +1,419 @@
+package UfoDash;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The 'CourseGenerator' class lays out the obstacle course of a game ahead of the player, in chunks of a few
+ * asteroid pairs with the enemies and power-ups that come with them. The pairs are spaced so they reach the
+ * player one asteroid spawn interval apart at the speed the asteroids will have by then, and every chunk is
+ * checked to be passable with the physics of the player before it's handed over. A chunk that isn't is
+ * rolled again, and after a few tries its gaps are moved within the player's reach.
+ * <p>
+ * The generator can run on its own thread, a few chunks ahead of the game, handing the chunks to the
+ * simulation thread through a ring for a single producer and a single consumer, so neither side takes a lock
+ * and generating a chunk never delays a frame. Without the thread, a chunk is generated when it's taken,
+ * which is what the batch simulator and the other headless tools do. A chunk only depends on the seed of the
+ * course and the chunks before it, so both ways lay out the same course.
+ * <p>
+ * Passability is checked with a simple model of the player: the range of heights it can be at is followed
+ * from gap to gap, growing by how far it can climb and fall in between, and shrinking to the gap it has to
+ * fly through. Enemies aren't part of the check, they can be shot.
+ */
+public class CourseGenerator implements Runnable {
+    /** The number of asteroid pairs in a chunk. */
+    private static final int PAIRS_PER_CHUNK = 3;
+    /** The number of chunks the thread keeps ready, a power of two. */
+    private static final int LOOK_AHEAD_CHUNKS = 4;
+    private static final int MAX_ATTEMPTS = 8;
+    private static final int GRAVITY = 1;
+
+    private final int panelHeight, groundHeight, asteroidHeight, playerStartY, playerWidth, playerHeight;
+
+    /** The ring of chunks ready to be taken. The thread only writes the tail, the consumer only the head. */
+    private final AtomicReferenceArray<CourseChunk> ready = new AtomicReferenceArray<>(LOOK_AHEAD_CHUNKS);
+    private final AtomicLong head = new AtomicLong(), tail = new AtomicLong();
+
+    /** The course to lay out, set by the consumer. The seed is written before the epoch that publishes it. */
+    private volatile GameDefinitions definitions;
+    private volatile long seed;
+    private volatile int epoch;
+    private volatile boolean running = false;
+    private volatile long rerolledChunks, impassableChunks;
+    private volatile Thread thread = null;
+
+    /** Where the layout has got to, only used by the thread laying out the course. */
+    private int layoutEpoch = -1;
+    private Random random;
+    private int pairIndex;
+    private long layoutTick, nextEnemyTick, nextPowerUpTick;
+    private int reachableTop, reachableBottom;
+
+    /**
+     * Constructs a 'CourseGenerator' for a game of the given size and player.
+     *
+     * @param panelHeight The height of the game panel
+     * @param groundHeight The height of the ground
+     * @param asteroidHeight The height of an asteroid
+     * @param playerStartY The y-coordinate the player starts at
+     * @param playerWidth The width of the player
+     * @param playerHeight The height of the player
+     * @param definitions The definitions to lay out the course with
+     */
+    public CourseGenerator(int panelHeight, int groundHeight, int asteroidHeight, int playerStartY,
+                           int playerWidth, int playerHeight, GameDefinitions definitions) {
+        this.panelHeight = panelHeight;
+        this.groundHeight = groundHeight;
+        this.asteroidHeight = asteroidHeight;
+        this.playerStartY = playerStartY;
+        this.playerWidth = playerWidth;
+        this.playerHeight = playerHeight;
+        this.definitions = definitions;
+    }
+
+    /**
+     * Starts laying out the course on a daemon thread, ahead of the game.
+     */
+    public void start(){
+        if(running){
+            return;
+        }
+        running = true;
+        thread = new Thread(this, "course-generator");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the thread after the chunk it's laying out. Chunks are generated when they're taken from then on.
+     */
+    public void stop(){
+        running = false;
+        if(thread != null){
+            LockSupport.unpark(thread);
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+    }
+
+    /**
+     * Keeps the ring full of chunks until the generator is stopped.
+     */
+    @Override public void run(){
+        while (running){
+            long currentTail = tail.get();
+            if(currentTail - head.get() >= LOOK_AHEAD_CHUNKS){
+                LockSupport.park(this);
+                continue;
+            }
+            ready.set((int) currentTail & (LOOK_AHEAD_CHUNKS - 1), nextChunk());
+            // Publishes the chunk, the consumer reads the tail before reading the slot
+            tail.lazySet(currentTail + 1);
+        }
+    }
+
+    /**
+     * Starts a new course, for a new game. Chunks of the previous course that are still waiting are dropped.
+     * Only called by the consumer.
+     *
+     * @param seed The seed of the new course
+     */
+    public void restart(long seed){
+        this.seed = seed;
+        epoch++;
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Lays out the rest of the course with new definitions, from the next chunk that isn't laid out yet on.
+     *
+     * @param definitions The definitions to apply
+     */
+    public void setDefinitions(GameDefinitions definitions){
+        this.definitions = definitions;
+    }
+
+    /**
+     * Takes the next chunk of the course. Only called by the consumer.
+     *
+     * @return the chunk, or null if the thread hasn't laid it out yet
+     */
+    public CourseChunk poll(){
+        if(thread == null){
+            return nextChunk();
+        }
+        int currentEpoch = epoch;
+        long currentHead = head.get();
+        while (currentHead < tail.get()){
+            int index = (int) currentHead & (LOOK_AHEAD_CHUNKS - 1);
+            CourseChunk chunk = ready.get(index);
+            ready.set(index, null);
+            // Frees the slot only after it was read
+            head.lazySet(++currentHead);
+            LockSupport.unpark(thread);
+            if(chunk.epoch() == currentEpoch){
+                return chunk;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of chunks laid out and waiting to be taken.
+     *
+     * @return the number of chunks ready
+     */
+    public int getReadyChunks(){
+        return (int) (tail.get() - head.get());
+    }
+
+    /**
+     * Returns the number of chunks that had to be rolled again because they weren't passable.
+     *
+     * @return the number of rerolled chunks
+     */
+    public long getRerolledChunks() {
+        return rerolledChunks;
+    }
+
+    /**
+     * Returns the number of chunks that couldn't be made passable, because a gap is too small for the player.
+     *
+     * @return the number of impassable chunks
+     */
+    public long getImpassableChunks() {
+        return impassableChunks;
+    }
+
+    /**
+     * Lays out the next chunk of the current course, starting the course first if it was restarted.
+     */
+    private CourseChunk nextChunk(){
+        int currentEpoch = epoch;
+        if(layoutEpoch != currentEpoch){
+            layoutEpoch = currentEpoch;
+            random = new Random(seed);
+            GameDefinitions current = definitions;
+            pairIndex = 0;
+            layoutTick = 0;
+            nextEnemyTick = GameClock.millisToTicks(current.getEnemySpawnInterval());
+            nextPowerUpTick = GameClock.millisToTicks(current.getPowerUpSpawnInterval());
+            reachableTop = playerStartY;
+            reachableBottom = playerStartY;
+        }
+
+        GameDefinitions current = definitions;
+        CourseChunk chunk = null;
+        for (int attempt = 1; chunk == null && attempt <= MAX_ATTEMPTS; attempt++){
+            chunk = layOut(current, false);
+            if(chunk == null){
+                rerolledChunks++;
+            }
+        }
+        if(chunk == null){
+            chunk = layOut(current, true);
+        }
+        if(chunk == null){
+            // No gap of these definitions fits the player, the course goes on from anywhere it could be
+            impassableChunks++;
+            chunk = roll(current, null);
+            reachableTop = 0;
+            reachableBottom = getLowestY();
+        }
+
+        // Moves the layout past the chunk
+        long pairTicks = GameClock.millisToTicks(current.getAsteroid().spawnInterval());
+        long chunkEnd = layoutTick + pairTicks * PAIRS_PER_CHUNK;
+        while (nextEnemyTick <= chunkEnd){
+            nextEnemyTick += GameClock.millisToTicks(current.getEnemySpawnInterval());
+        }
+        while (nextPowerUpTick <= chunkEnd){
+            nextPowerUpTick += GameClock.millisToTicks(current.getPowerUpSpawnInterval());
+        }
+        layoutTick = chunkEnd;
+        pairIndex += PAIRS_PER_CHUNK;
+        return chunk;
+    }
+
+    /**
+     * Lays out a chunk at random and follows the player's reach through its gaps.
+     *
+     * @param definitions The definitions to lay out the chunk with
+     * @param withinReach True to move every gap within the player's reach, false to keep the random gaps
+     * @return the chunk, or null if the player can't pass one of its gaps
+     */
+    private CourseChunk layOut(GameDefinitions definitions, boolean withinReach){
+        int[] reach = {reachableTop, reachableBottom};
+        CourseChunk chunk = roll(definitions, withinReach ? reach : null);
+        reach[0] = reachableTop;
+        reach[1] = reachableBottom;
+        for (int i = 0; i < PAIRS_PER_CHUNK; i++){
+            if(!passGap(reach, chunk.pairTopY()[i], speedOfPair(definitions, pairIndex + i), definitions)){
+                return null;
+            }
+        }
+        reachableTop = reach[0];
+        reachableBottom = reach[1];
+        return chunk;
+    }
+
+    /**
+     * Rolls the objects of the next chunk.
+     *
+     * @param definitions The definitions to lay out the chunk with
+     * @param reach The range of heights the player can be at before the chunk, to keep the gaps within,
+     *              moved through the chunk; or null to place the gaps anywhere
+     * @return the chunk
+     */
+    private CourseChunk roll(GameDefinitions definitions, int[] reach){
+        GameDefinitions.AsteroidDefinition asteroid = definitions.getAsteroid();
+        long pairTicks = GameClock.millisToTicks(asteroid.spawnInterval());
+        long enemyTicks = GameClock.millisToTicks(definitions.getEnemySpawnInterval());
+        long powerUpTicks = GameClock.millisToTicks(definitions.getPowerUpSpawnInterval());
+        int powerUpSize = definitions.getPowerUpSize();
+
+        int[] pairX = new int[PAIRS_PER_CHUNK], pairTopY = new int[PAIRS_PER_CHUNK];
+        int enemyCapacity = (int) (pairTicks * PAIRS_PER_CHUNK / enemyTicks) + 1;
+        int powerUpCapacity = (int) (pairTicks * PAIRS_PER_CHUNK / powerUpTicks) + 1;
+        int[] enemyX = new int[enemyCapacity], enemyY = new int[enemyCapacity];
+        GameDefinitions.EnemyDefinition[] enemies = new GameDefinitions.EnemyDefinition[enemyCapacity];
+        int[] powerUpX = new int[powerUpCapacity], powerUpY = new int[powerUpCapacity];
+        GameDefinitions.PowerUpDefinition[] powerUps = new GameDefinitions.PowerUpDefinition[powerUpCapacity];
+        int enemyCount = 0, powerUpCount = 0;
+
+        int x = 0;
+        long tick = layoutTick, enemyTick = nextEnemyTick, powerUpTick = nextPowerUpTick;
+        for (int i = 0; i < PAIRS_PER_CHUNK; i++){
+            int speed = speedOfPair(definitions, pairIndex + i);
+            long pairTick = tick + pairTicks;
+            // Objects are placed where the right edge of the screen will be on their tick
+            for (; enemyTick <= pairTick; enemyTick += enemyTicks){
+                enemyX[enemyCount] = x + (int) (enemyTick - tick) * speed;
+                enemyY[enemyCount] = random.nextInt(panelHeight - groundHeight) + groundHeight;
+                enemies[enemyCount++] = definitions.pickEnemy(random);
+            }
+            for (; powerUpTick <= pairTick; powerUpTick += powerUpTicks){
+                powerUpX[powerUpCount] = x + (int) (powerUpTick - tick) * speed;
+                powerUpY[powerUpCount] = random.nextInt(panelHeight - groundHeight - powerUpSize);
+                powerUps[powerUpCount++] = definitions.pickPowerUp(random);
+            }
+            x += (int) pairTicks * speed;
+            pairX[i] = x;
+            pairTopY[i] = random.nextInt(-asteroidHeight, -groundHeight);
+            if(reach != null){
+                pairTopY[i] = moveWithinReach(reach, pairTopY[i], speed, definitions);
+                passGap(reach, pairTopY[i], speed, definitions);
+            }
+            tick = pairTick;
+        }
+        return new CourseChunk(layoutEpoch, x, pairX, pairTopY,
+                Arrays.copyOf(enemyX, enemyCount), Arrays.copyOf(enemyY, enemyCount), Arrays.copyOf(enemies, enemyCount),
+                Arrays.copyOf(powerUpX, powerUpCount), Arrays.copyOf(powerUpY, powerUpCount),
+                Arrays.copyOf(powerUps, powerUpCount));
+    }
+
+    /**
+     * Returns the speed the asteroids will have while the given pair comes up to the player.
+     * The score goes up by one for each asteroid passed, two for each pair, and the speed by one
+     * every time the score reaches a multiple of the speed increase score.
+     */
+    private static int speedOfPair(GameDefinitions definitions, int pairIndex){
+        GameDefinitions.AsteroidDefinition asteroid = definitions.getAsteroid();
+        return asteroid.speed() + 2 * pairIndex / asteroid.speedIncreaseScore();
+    }
+
+    /**
+     * Moves the top asteroid of a pair the least it takes for its gap to overlap the heights
+     * the player can reach by the time the pair gets to it.
+     */
+    private int moveWithinReach(int[] reach, int topAsteroidY, int speed, GameDefinitions definitions){
+        int travelTicks = getTravelTicks(speed, definitions);
+        int top = Math.max(0, reach[0] - climb(travelTicks, definitions));
+        int bottom = Math.min(getLowestY(), reach[1] + fall(travelTicks, definitions));
+        int gap = definitions.getAsteroid().gap();
+        int lowest = Math.max(-asteroidHeight, top - asteroidHeight - gap + playerHeight);
+        int highest = Math.min(-groundHeight - 1, bottom - asteroidHeight);
+        if(lowest > highest){
+            return topAsteroidY;
+        }
+        return Math.max(lowest, Math.min(highest, topAsteroidY));
+    }
+
+    /**
+     * Follows the heights the player can be at through the gap of a pair: they grow by how far the player
+     * can climb and fall on the way from the previous gap, then shrink to the gap.
+     *
+     * @param reach The range of heights of the top of the player, updated to the range behind the gap
+     * @return true if the player can fly through the gap, false otherwise
+     */
+    private boolean passGap(int[] reach, int topAsteroidY, int speed, GameDefinitions definitions){
+        int travelTicks = getTravelTicks(speed, definitions);
+        int top = Math.max(0, reach[0] - climb(travelTicks, definitions));
+        int bottom = Math.min(getLowestY(), reach[1] + fall(travelTicks, definitions));
+
+        int gapTop = topAsteroidY + asteroidHeight;
+        int gapBottom = gapTop + definitions.getAsteroid().gap() - playerHeight;
+        top = Math.max(top, gapTop);
+        bottom = Math.min(bottom, gapBottom);
+        // The player bobs up and down by the height of a jump while it keeps itself in the gap
+        if(top > bottom || gapBottom - gapTop < jumpHeight(definitions)){
+            return false;
+        }
+        reach[0] = top;
+        reach[1] = bottom;
+        return true;
+    }
+
+    /**
+     * Returns the number of ticks between leaving the gap of one pair and entering the gap of the next.
+     */
+    private int getTravelTicks(int speed, GameDefinitions definitions){
+        int pairTicks = GameClock.millisToTicks(definitions.getAsteroid().spawnInterval());
+        int gapTicks = (definitions.getAsteroid().width() + playerWidth + speed - 1) / speed;
+        return Math.max(0, pairTicks - gapTicks);
+    }
+
+    /**
+     * Returns how far the player can climb in the given number of ticks, jumping on every tick.
+     */
+    private static int climb(int ticks, GameDefinitions definitions){
+        return ticks * (definitions.getPlayer().jumpStrength() - GRAVITY);
+    }
+
+    /**
+     * Returns how far the player is sure to be able to fall in the given number of ticks,
+     * even if it has just jumped.
+     */
+    private static int fall(int ticks, GameDefinitions definitions){
+        int velocity = -definitions.getPlayer().jumpStrength();
+        int maxFallSpeed = definitions.getPlayer().maxFallSpeed();
+        int distance = 0;
+        for (int i = 0; i < ticks; i++){
+            velocity = Math.min(velocity + GRAVITY, maxFallSpeed);
+            distance += velocity;
+        }
+        return Math.max(0, distance);
+    }
+
+    /**
+     * Returns how high the player rises after a jump.
+     */
+    private static int jumpHeight(GameDefinitions definitions){
+        int jumpStrength = definitions.getPlayer().jumpStrength();
+        return jumpStrength * (jumpStrength - GRAVITY) / 2;
+    }
+
+    /**
+     * Returns the lowest y-coordinate the top of the player can be at without touching the ground.
+     */
+    private int getLowestY(){
+        return panelHeight - groundHeight - playerHeight - 1;
+    }
+}
@@ -4,16 +4,23 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.KeyEvent;
+import java.awt.image.BufferedImage;
 
 /**
  * The 'EndState' class represents the end screen of the game.
  * It handles the rendering of the background and the display of
  * final and best scores and the key binding for quitting or re-playing the game.
+ * The game frame is captured once from the first snapshot of each game over, and the whole
+ * end screen is composed once into a cached image that is only rebuilt when the scores change.
  */
 public class EndState {
     private GameStateHandler gameStateHandler;
     private GamePanel gamePanel;
-    private int panelWidth, finalScore, bestScore, boxWidth, boxHeight, boxX, boxY;
+    private int panelWidth, panelHeight, finalScore, bestScore, boxWidth, boxHeight, boxX, boxY;
+    private BufferedImage gameFrame = null, screen = null;
+    private boolean screenOutdated = true;
+    private int capturedGameNumber = -1;
+    private String finalScoreText = "FINAL SCORE: 0", bestScoreText = "BEST SCORE: 0";
 
     private static final int BOX_WIDTH_RATIO = 4;
     private static final int BOX_HEIGHT_RATIO = 5;
@@ -23,6 +30,8 @@ public class EndState {
     private static final int SMALL_FONT_SIZE = 35;
     private static final float TRANSPARENCY_LEVEL = 0.7f;
     private static final float FULL_OPACITY = 1.0f;
+    private static final Font LARGE_FONT = new Font(FONT_NAME, Font.BOLD, LARGE_FONT_SIZE);
+    private static final Font SMALL_FONT = new Font(FONT_NAME, Font.BOLD, SMALL_FONT_SIZE);
 
 
     /**
@@ -38,6 +47,7 @@ public class EndState {
         this.gameStateHandler = gameStateHandler;
         this.gamePanel = gamePanel;
         this.panelWidth = panelWidth;
+        this.panelHeight = panelHeight;
 
         // Calculate dimensions and positions for the end screen
         this.boxWidth = panelWidth - panelWidth/BOX_WIDTH_RATIO;
@@ -53,21 +63,50 @@ public class EndState {
      * the end box and the text messages.
      *
      * @param g the Graphics object used to draw
+     * @param snapshot The snapshot taken at game over
      */
-    public void draw(Graphics g){
-        Graphics2D g2d = (Graphics2D) g;
-        drawGameBackground(g2d);
-        drawGameOverBox(g2d);
-        drawTextMessages(g2d);
+    public void draw(Graphics g, RenderSnapshot snapshot){
+        if(snapshot.getGameNumber() != capturedGameNumber){
+            capturedGameNumber = snapshot.getGameNumber();
+            captureGameFrame(snapshot);
+            setFinalScore(snapshot.getScore());
+            setBestScore(snapshot.getBestScore());
+        }
+        if(screenOutdated){
+            composeScreen();
+        }
+        g.drawImage(screen, 0, 0, null);
     }
 
     /**
-     * Draws the background on the screen.
+     * Captures the final game frame, which stays frozen behind the end screen.
+     * Called once when the game is over.
      *
-     * @param g2d the Graphics2D object used to draw
+     * @param snapshot The snapshot taken at game over
+     */
+    private void captureGameFrame(RenderSnapshot snapshot){
+        if(gameFrame == null){
+            gameFrame = CompatibleImages.create(panelWidth, panelHeight, false);
+        }
+        Graphics2D g2d = gameFrame.createGraphics();
+        gamePanel.drawGame(g2d, snapshot);
+        g2d.dispose();
+        screenOutdated = true;
+    }
+
+    /**
+     * Composes the end screen from the frozen game frame, the end box and the text messages.
      */
-    private void drawGameBackground(Graphics2D g2d){
-        gamePanel.drawGame(g2d);
+    private void composeScreen(){
+        if(screen == null){
+            screen = CompatibleImages.create(panelWidth, panelHeight, false);
+        }
+        Graphics2D g2d = screen.createGraphics();
+        g2d.drawImage(gameFrame, 0, 0, null);
+        drawGameOverBox(g2d);
+        drawTextMessages(g2d);
+        g2d.dispose();
+        screenOutdated = false;
     }
 
     /**
@@ -82,7 +121,7 @@ public class EndState {
     }
 
     /**
-     * Draws the text messages on the screen.
+     * Draws the text messages.
      *
      * @param g2d the Graphics2D object used to draw
      */
@@ -91,11 +130,11 @@ public class EndState {
 
         g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, FULL_OPACITY));
         g2d.setColor(TEXT_COLOR);
-        drawCenteredText("GAME OVER", g2d, LARGE_FONT_SIZE, y);
-        drawCenteredText("FINAL SCORE: " + finalScore, g2d, SMALL_FONT_SIZE, y* 3 / 2);
-        drawCenteredText("BEST SCORE: " + bestScore, g2d, SMALL_FONT_SIZE, y*2);
-        drawCenteredText("Press R to PLAY AGAIN", g2d, SMALL_FONT_SIZE, y*5 / 2);
-        drawCenteredText("Press ESC to QUIT", g2d, SMALL_FONT_SIZE, y* 6 / 2);
+        drawCenteredText("GAME OVER", g2d, LARGE_FONT, y);
+        drawCenteredText(finalScoreText, g2d, SMALL_FONT, y* 3 / 2);
+        drawCenteredText(bestScoreText, g2d, SMALL_FONT, y*2);
+        drawCenteredText("Press R to PLAY AGAIN", g2d, SMALL_FONT, y*5 / 2);
+        drawCenteredText("Press ESC to QUIT", g2d, SMALL_FONT, y* 6 / 2);
     }
 
     /**
@@ -104,11 +143,11 @@ public class EndState {
      *
      * @param text The text to be drawn
      * @param g the Graphics2D object used to draw the text
-     * @param fontSize The font size to be used for the text
+     * @param font The font to be used for the text
      * @param y The y-coordinate at which to draw the text
      */
-    private void drawCenteredText(String text, Graphics2D g, int fontSize, int y){
-        g.setFont(new Font(FONT_NAME, Font.BOLD, fontSize));
+    private void drawCenteredText(String text, Graphics2D g, Font font, int y){
+        g.setFont(font);
         int textLength = (int)g.getFontMetrics().getStringBounds(text, g).getWidth();
         int xPos = (panelWidth - textLength) / 2;
         g.drawString(text, xPos, y);
@@ -118,11 +157,14 @@ public class EndState {
      * Set up key bindings for exiting och re-playing the game.
      */
     private void setUpKeyBindings(){
+        Runnable restart = () -> {
+            gamePanel.restartGame();
+            gameStateHandler.setGameState(GameStateHandler.GameState.GAME);
+        };
         Action restartGame = new AbstractAction()
         {
             @Override public void actionPerformed(final ActionEvent e) {
-                gamePanel.restartGame();
-                gameStateHandler.setGameState(GameStateHandler.GameState.GAME);
+                gamePanel.invokeOnGameThread(restart);
             }
         };
 
@@ -138,8 +180,12 @@ public class EndState {
      *
      * @param finalScore The final score
      */
-    public void setFinalScore(int finalScore){
-        this.finalScore = finalScore;
+    private void setFinalScore(int finalScore){
+        if(finalScore != this.finalScore){
+            this.finalScore = finalScore;
+            this.finalScoreText = "FINAL SCORE: " + finalScore;
+            screenOutdated = true;
+        }
     }
 
     /**
@@ -147,7 +193,11 @@ public class EndState {
      *
      * @param bestScore The best score
      */
-    public void setBestScore(int bestScore){
-        this.bestScore = bestScore;
+    private void setBestScore(int bestScore){
+        if(bestScore != this.bestScore){
+            this.bestScore = bestScore;
+            this.bestScoreText = "BEST SCORE: " + bestScore;
+            screenOutdated = true;
+        }
     }
 }
@@ -5,29 +5,28 @@ import java.awt.*;
 /**
  * The 'Enemy' class represents an enemy object in the game.
  * The enemy moves horizontally and vertically within defined boundaries.
+ * Its sprite, size and speeds come from the enemy variant it was spawned as.
  */
 public class Enemy extends GameObjects{
     private int minY, maxY;
-    private Image enemyImage;
     private boolean movingDown = true;
-    private static final int DEFAULT_HEIGHT = 60;
-    private static final int DEFAULT_WIDTH = 60;
-    private static final int VERTICAL_SPEED = 8;
-    private static final int HORIZONTAL_SPEED = 5;
+    private GameDefinitions.EnemyDefinition definition;
 
     /**
-     * Constructs an 'Enemy' object with the given starting position and panel boundaries.
+     * Constructs an 'Enemy' object of the given variant with the given starting position and panel boundaries.
      *
      * @param x The initial x-coordinate of the enemy
      * @param y The initial y-coordinate of the enemy
      * @param panelHeight the height of the game panel
      * @param groundHeight the height of the ground
+     * @param definition The variant of the enemy
      */
-    public Enemy(final int x, final int y, final int panelHeight, final int groundHeight) {
-        super(x, y, DEFAULT_WIDTH, DEFAULT_HEIGHT, "ship.png");
+    public Enemy(final int x, final int y, final int panelHeight, final int groundHeight,
+                 final GameDefinitions.EnemyDefinition definition) {
+        super(x, y, definition.width(), definition.height(), definition.sprite().getImagePath());
+        this.definition = definition;
         this.minY = 0;
-        this.maxY = panelHeight - groundHeight - getWidth();
-        this.enemyImage = getImage();
+        this.maxY = panelHeight - groundHeight - getHeight();
     }
 
     /**
@@ -37,26 +36,21 @@ public class Enemy extends GameObjects{
      * @param g the Graphics object used to draw the object.
      */
     @Override public void draw(final Graphics g) {
-        if(enemyImage != null){
-            g.drawImage(enemyImage, x, y, null);
-        }else{
-            g.setColor(Color.ORANGE);
-            g.fillRect(x, y, getWidth(), getHeight());
-        }
+        definition.sprite().draw(g, x, y, getWidth(), getHeight());
     }
 
     /**
      * Updates the enemy's x-position based on its movement speed and direction.
      */
     @Override public void update() {
-        x -= HORIZONTAL_SPEED;
+        x -= definition.horizontalSpeed();
         if(movingDown){
-            y += VERTICAL_SPEED;
+            y += definition.verticalSpeed();
             if(y >= maxY){
                 movingDown = false;
             }
         }else{
-            y -= VERTICAL_SPEED;
+            y -= definition.verticalSpeed();
             if (y <= minY){
                 movingDown = true;
             }
@@ -64,30 +58,21 @@ public class Enemy extends GameObjects{
     }
 
     /**
-     * Gets the width of the enemy.
-     * If the image is loaded, its width is returned; otherwise, a default width is used.
+     * Returns the variant the enemy was spawned as.
      *
-     * @return the width
+     * @return the enemy definition
      */
-    @Override public int getWidth() {
-        if (enemyImage != null) {
-            return enemyImage.getHeight(null);
-        } else {
-            return DEFAULT_WIDTH;
-        }
+    public GameDefinitions.EnemyDefinition getDefinition() {
+        return definition;
     }
 
     /**
-     * Gets the height of the enemy.
-     * If the image is loaded, its height is returned; otherwise, a default height is used.
+     * Sets new definitions for the variant of the enemy, which it moves by from the next update on.
+     * Its size stays the same.
      *
-     * @return the height
+     * @param definition The new definition of the variant
      */
-    @Override public int getHeight() {
-        if (enemyImage != null) {
-            return enemyImage.getWidth(null);
-        } else {
-            return DEFAULT_HEIGHT;
-        }
+    public void setDefinition(final GameDefinitions.EnemyDefinition definition) {
+        this.definition = definition;
     }
 }
@@ -3,6 +3,7 @@ package UfoDash;
 import java.awt.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 /**
  * The 'EnemyManager' class is responsible for managing the creation,
@@ -10,6 +11,7 @@ import java.util.List;
  */
 public class EnemyManager extends Manager{
     private List<Enemy> enemies;
+    private GameDefinitions definitions;
 
     /**
      * Constructs an 'EnemyManager' with the specified panel dimensions and
@@ -18,18 +20,33 @@ public class EnemyManager extends Manager{
      * @param panelWidth The width of the game panel
      * @param panelHeight The height of the game panel
      * @param groundHeight The height of the ground
+     * @param random The random generator used for spawning at random
+     * @param definitions The definitions of the enemy variants
      */
-    protected EnemyManager(final int panelWidth, final int panelHeight, final int groundHeight) {
-        super(panelWidth, panelHeight, groundHeight);
+    protected EnemyManager(final int panelWidth, final int panelHeight, final int groundHeight, final Random random,
+                           final GameDefinitions definitions) {
+        super(panelWidth, panelHeight, groundHeight, random);
+        this.definitions = definitions;
         enemies = new ArrayList<>();
     }
 
     /**
      * Creates and add a new enemy at a random y-position within the visible area of the game panel.
+     * The variant of the enemy is picked at random by the weights of the enemy definitions.
      */
     @Override public void spawn() {
-        int y = RANDOM.nextInt(panelHeight - groundHeight) + groundHeight;
-        enemies.add(new Enemy(panelWidth, y, panelHeight, groundHeight));
+        int y = random.nextInt(panelHeight - groundHeight) + groundHeight;
+        spawn(y, definitions.pickEnemy(random));
+    }
+
+    /**
+     * Creates and add a new enemy of the given variant at the right edge of the screen.
+     *
+     * @param y The y-coordinate to spawn the enemy at
+     * @param definition The variant of the enemy
+     */
+    public void spawn(int y, GameDefinitions.EnemyDefinition definition) {
+        enemies.add(new Enemy(panelWidth, y, panelHeight, groundHeight, definition));
     }
 
     /**
@@ -50,6 +67,17 @@ public class EnemyManager extends Manager{
         }
     }
 
+    /**
+     * Adds the enemies to the given render snapshot.
+     *
+     * @param snapshot The snapshot being captured
+     */
+    public void capture(RenderSnapshot snapshot){
+        for(Enemy enemy : enemies){
+            snapshot.addSprite(enemy.getDefinition().sprite(), enemy.getX(), enemy.getY(), enemy.getWidth(), enemy.getHeight());
+        }
+    }
+
     /**
      * Updates the position of each enemy and removes those that have left the screen.
      */
@@ -61,12 +89,25 @@ public class EnemyManager extends Manager{
     }
 
     /**
-     * Returns the interval in milliseconds at which the new enemies are spawned.
+     * Applies new enemy definitions. Enemies on screen whose variant is still defined take its new speeds.
      *
-     * @return the spawn interval for enemies
+     * @param definitions The definitions of the enemy variants
+     */
+    public void setDefinitions(GameDefinitions definitions) {
+        this.definitions = definitions;
+        for(Enemy enemy : enemies){
+            GameDefinitions.EnemyDefinition definition = definitions.findEnemy(enemy.getDefinition().name());
+            if(definition != null){
+                enemy.setDefinition(definition);
+            }
+        }
+    }
+
+    /**
+     * Removes all enemies, for a new game.
      */
-    @Override public int getSpawnerInterval() {
-        return 4000; //Spawns enemies every 4 seconds
+    @Override public void reset(){
+        enemies.clear();
     }
 
     /**
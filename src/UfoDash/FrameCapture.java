@@ -0,0 +1,122 @@
+package UfoDash;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * The 'FrameCapture' class plays a seeded game headless with an input policy and records it,
+ * as a PNG sequence or an animated GIF at any resolution. The same seed and policy always
+ * play the same game, so captures can be used as replay videos, bug-report clips or golden
+ * frames to compare rendering changes against.
+ * <p>
+ * The game advances one tick per frame, so the capture doesn't have to run in real time: it runs
+ * as fast as the 'FrameRecorder' encodes, and waits for its encoders when they fall behind
+ * instead of dropping frames. The frame rate only sets the frame delay of a GIF.
+ * <p>
+ * Started with {@code GameLoop --capture [frames=N] [width=N] [height=N] [format=png|gif]
+ * [out=DIR] [seed=N] [policy=scripted|random] [fps=N] [queue=N] [threads=N]}.
+ */
+public class FrameCapture {
+    public static final String LAUNCH_FLAG = "--capture";
+    private static final int PANEL_WIDTH = 700, PANEL_HEIGHT = 800;
+    private static final int GROUND_HEIGHT = PANEL_HEIGHT / 8;
+    private static final int PLAYER_START_Y = PANEL_HEIGHT / 3;
+    private static final double RANDOM_JUMP_CHANCE = 0.08;
+    private static final double RANDOM_SHOOT_CHANCE = 0.05;
+
+    private int frames = 600, width = PANEL_WIDTH, height = PANEL_HEIGHT, framesPerSecond = 60;
+    private int queueCapacity = 16, threads = Runtime.getRuntime().availableProcessors();
+    private long seed = 1;
+    private String policy = "scripted";
+    private FrameRecorder.Format format = FrameRecorder.Format.PNG;
+    private File directory = new File("captures", "capture");
+
+    /**
+     * Constructs a 'FrameCapture' configured by the given arguments.
+     * Each argument has the form 'name=value'; unknown names are reported and ignored.
+     *
+     * @param args The capture arguments
+     */
+    public FrameCapture(String[] args) {
+        for (String arg : args) {
+            String[] parts = arg.split("=", 2);
+            if(parts.length != 2){
+                System.err.println("Ignoring capture argument: " + arg);
+                continue;
+            }
+            switch (parts[0]) {
+                case "frames" -> frames = Integer.parseInt(parts[1]);
+                case "width" -> width = Integer.parseInt(parts[1]);
+                case "height" -> height = Integer.parseInt(parts[1]);
+                case "format" -> format = FrameRecorder.Format.valueOf(parts[1].toUpperCase());
+                case "out" -> directory = new File(parts[1]);
+                case "seed" -> seed = Long.parseLong(parts[1]);
+                case "policy" -> policy = parts[1];
+                case "fps" -> framesPerSecond = Integer.parseInt(parts[1]);
+                case "queue" -> queueCapacity = Integer.parseInt(parts[1]);
+                case "threads" -> threads = Integer.parseInt(parts[1]);
+                default -> System.err.println("Ignoring capture argument: " + arg);
+            }
+        }
+    }
+
+    /**
+     * Plays and records the game, then prints a summary of the recording.
+     * The recording stops after the given number of frames, or a second after the game is over.
+     */
+    public void run(){
+        GamePanel gamePanel = new GamePanel(PANEL_WIDTH, PANEL_HEIGHT, false);
+        gamePanel.setSize(PANEL_WIDTH, PANEL_HEIGHT);
+        GameStateHandler gameStateHandler = new GameStateHandler(gamePanel, PANEL_WIDTH, PANEL_HEIGHT);
+        gamePanel.setGameStateHandler(gameStateHandler);
+        GameComponents gameComponents = new GameComponents(PANEL_HEIGHT, PANEL_WIDTH, GROUND_HEIGHT, PLAYER_START_Y,
+                new Random(seed), false);
+        gamePanel.setGameComponents(gameComponents);
+        gameStateHandler.setGameState(GameStateHandler.GameState.GAME);
+        InputPolicy inputPolicy = policy.equals("random")
+                ? new RandomInputPolicy(new Random(~seed), RANDOM_JUMP_CHANCE, RANDOM_SHOOT_CHANCE)
+                : new ScriptedInputPolicy(PLAYER_START_Y);
+        OffscreenRenderer renderer = new OffscreenRenderer(gamePanel, gameStateHandler, PANEL_WIDTH, PANEL_HEIGHT);
+
+        FrameRecorder recorder;
+        try {
+            recorder = new FrameRecorder(directory, format, width, height, queueCapacity, threads, framesPerSecond);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return;
+        }
+
+        int endFrames = framesPerSecond;
+        for (int i = 0; i < frames && endFrames > 0; i++) {
+            if(gamePanel.isGameOver()){
+                endFrames--;
+            }else{
+                inputPolicy.apply(gameComponents);
+                gamePanel.update();
+            }
+            if(!recorder.captureWaiting(renderer, gamePanel.acquireSnapshot())){
+                break;
+            }
+        }
+
+        try {
+            recorder.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        System.out.println(recorder.getSummary());
+        System.out.printf("Final score %d after %.1f s of play%n", gameComponents.getPlayer().getCurrentScore(),
+                (double) gameComponents.getGameClock().getTicks() / GameClock.TICKS_PER_SECOND);
+    }
+
+    /**
+     * Runs the frame capture.
+     *
+     * @param args The capture arguments
+     */
+    public static void main(String[] args){
+        System.setProperty("java.awt.headless", "true");
+        new FrameCapture(args).run();
+    }
+}
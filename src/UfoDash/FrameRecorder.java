@@ -0,0 +1,322 @@
+package UfoDash;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The 'FrameRecorder' class captures rendered frames and encodes them on background threads,
+ * either as a numbered sequence of PNG files or as a single animated GIF.
+ *
+ * Frames are copied or rendered into a fixed set of reusable images. A captured frame waits in a
+ * bounded queue until an encoder takes it, and its image is returned to the set once it's written.
+ * When every image is still waiting to be encoded, a live recording drops the new frame instead of
+ * waiting, so capturing never stalls the game, and the number of dropped frames is reported.
+ * A recording that doesn't run in real time waits for an encoder instead, so it keeps every frame.
+ */
+public class FrameRecorder {
+    /** The file formats a recording can be written in. */
+    public enum Format {
+        PNG, GIF
+    }
+
+    private static final CapturedFrame END_OF_RECORDING = new CapturedFrame(-1, null);
+    private static final int CENTISECONDS_PER_SECOND = 100;
+    private static final int MIN_GIF_DELAY = 2;
+
+    private final File directory;
+    private final Format format;
+    private final int gifDelay;
+    private final BlockingQueue<BufferedImage> freeImages;
+    private final BlockingQueue<CapturedFrame> pendingFrames;
+    private final Thread[] encoders;
+    private final AtomicLong writtenFrames = new AtomicLong(), failedFrames = new AtomicLong();
+    private long capturedFrames, droppedFrames;
+    private int nextFrameIndex;
+    private boolean closed = false;
+
+    private ImageWriter gifWriter;
+    private ImageOutputStream gifOutput;
+
+    /**
+     * Constructs a 'FrameRecorder' and starts its encoders.
+     * An animated GIF has to be written in order, so it always uses a single encoder.
+     *
+     * @param directory The directory the recording is written to, created if it doesn't exist
+     * @param format The format of the recording
+     * @param width The width of the recorded frames
+     * @param height The height of the recorded frames
+     * @param queueCapacity The number of frames that can wait to be encoded before new frames are dropped or wait
+     * @param encoderThreads The number of threads encoding PNG frames
+     * @param framesPerSecond The rate frames are captured at, used as the frame delay of a GIF
+     * @throws IOException if the directory or the GIF file can't be created
+     */
+    public FrameRecorder(File directory, Format format, int width, int height, int queueCapacity,
+                         int encoderThreads, int framesPerSecond) throws IOException {
+        this.directory = directory;
+        this.format = format;
+        this.gifDelay = Math.max(MIN_GIF_DELAY, Math.round((float) CENTISECONDS_PER_SECOND / framesPerSecond));
+        if(!directory.isDirectory() && !directory.mkdirs()){
+            throw new IOException("Can't create the capture directory " + directory);
+        }
+
+        freeImages = new ArrayBlockingQueue<>(queueCapacity);
+        pendingFrames = new ArrayBlockingQueue<>(queueCapacity);
+        for (int i = 0; i < queueCapacity; i++){
+            freeImages.add(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB));
+        }
+
+        if(format == Format.GIF){
+            startGif();
+            encoderThreads = 1;
+        }
+        encoders = new Thread[encoderThreads];
+        for (int i = 0; i < encoderThreads; i++){
+            encoders[i] = new Thread(this::encodeFrames, "frame-encoder-" + i);
+            encoders[i].setDaemon(true);
+            encoders[i].start();
+        }
+    }
+
+    /**
+     * Copies the frame on screen out of the given back buffer and queues it for encoding.
+     * The frame isn't drawn again, so recording leaves the game and its metrics untouched.
+     * If no image is free because the encoders are behind, the frame is dropped.
+     *
+     * @param backBuffer The back buffer holding the frame
+     * @return true if the frame was captured, false if it was dropped
+     */
+    public boolean capture(BackBuffer backBuffer){
+        if(closed){
+            return false;
+        }
+        BufferedImage image = freeImages.poll();
+        if(image == null){
+            droppedFrames++;
+            return false;
+        }
+        backBuffer.copyTo(image);
+        queueFrame(image);
+        return true;
+    }
+
+    /**
+     * Renders a snapshot with the given renderer and queues it for encoding, waiting for an encoder
+     * to free an image if they're all taken. Used when the frames don't have to keep up with the game.
+     *
+     * @param renderer The renderer drawing the frame
+     * @param snapshot The snapshot of the frame
+     * @return true if the frame was captured, false if the recording is closed or the thread was interrupted
+     */
+    public boolean captureWaiting(OffscreenRenderer renderer, RenderSnapshot snapshot){
+        if(closed){
+            return false;
+        }
+        try {
+            BufferedImage image = freeImages.take();
+            renderer.render(image, snapshot);
+            queueFrame(image);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Queues a captured image for encoding.
+     */
+    private void queueFrame(BufferedImage image){
+        // There are as many queue slots as images, so the queue always has room
+        pendingFrames.add(new CapturedFrame(nextFrameIndex++, image));
+        capturedFrames++;
+    }
+
+    /**
+     * Takes frames from the queue and encodes them until the recording ends.
+     */
+    private void encodeFrames(){
+        try {
+            while (true){
+                CapturedFrame frame = pendingFrames.take();
+                if(frame == END_OF_RECORDING){
+                    return;
+                }
+                try {
+                    encode(frame);
+                    writtenFrames.incrementAndGet();
+                } catch (IOException e) {
+                    failedFrames.incrementAndGet();
+                    System.err.println("Failed to write frame " + frame.index() + ": " + e.getMessage());
+                } finally {
+                    freeImages.add(frame.image());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes one frame, as its own PNG file or as the next image of the GIF.
+     *
+     * @param frame The frame to write
+     * @throws IOException if the frame can't be written
+     */
+    private void encode(CapturedFrame frame) throws IOException {
+        if(format == Format.PNG){
+            File file = new File(directory, String.format("frame-%05d.png", frame.index()));
+            if(!ImageIO.write(frame.image(), "png", file)){
+                throw new IOException("No PNG writer available");
+            }
+        }else{
+            ImageWriteParam param = gifWriter.getDefaultWriteParam();
+            IIOMetadata metadata = createGifMetadata(frame.image(), param, frame.index() == 0);
+            gifWriter.writeToSequence(new IIOImage(frame.image(), null, metadata), param);
+        }
+    }
+
+    /**
+     * Opens the GIF file and starts its image sequence.
+     *
+     * @throws IOException if the file can't be created
+     */
+    private void startGif() throws IOException {
+        gifWriter = ImageIO.getImageWritersByFormatName("gif").next();
+        gifOutput = ImageIO.createImageOutputStream(new File(directory, "capture.gif"));
+        if(gifOutput == null){
+            throw new IOException("Can't create the GIF file in " + directory);
+        }
+        gifWriter.setOutput(gifOutput);
+        gifWriter.prepareWriteSequence(null);
+    }
+
+    /**
+     * Creates the metadata of one GIF image, holding the frame delay.
+     * The first image also makes the animation loop forever.
+     *
+     * @param image The image to write
+     * @param param The parameters of the writer
+     * @param first True for the first image of the animation
+     * @return the metadata of the image
+     * @throws IOException if the metadata can't be set
+     */
+    private IIOMetadata createGifMetadata(BufferedImage image, ImageWriteParam param, boolean first) throws IOException {
+        IIOMetadata metadata = gifWriter.getDefaultImageMetadata(ImageTypeSpecifier.createFromRenderedImage(image), param);
+        String formatName = metadata.getNativeMetadataFormatName();
+        IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(formatName);
+
+        IIOMetadataNode graphicControl = new IIOMetadataNode("GraphicControlExtension");
+        graphicControl.setAttribute("disposalMethod", "none");
+        graphicControl.setAttribute("userInputFlag", "FALSE");
+        graphicControl.setAttribute("transparentColorFlag", "FALSE");
+        graphicControl.setAttribute("delayTime", Integer.toString(gifDelay));
+        graphicControl.setAttribute("transparentColorIndex", "0");
+        root.appendChild(graphicControl);
+
+        if(first){
+            IIOMetadataNode applicationExtensions = new IIOMetadataNode("ApplicationExtensions");
+            IIOMetadataNode loop = new IIOMetadataNode("ApplicationExtension");
+            loop.setAttribute("applicationID", "NETSCAPE");
+            loop.setAttribute("authenticationCode", "2.0");
+            loop.setUserObject(new byte[]{1, 0, 0});
+            applicationExtensions.appendChild(loop);
+            root.appendChild(applicationExtensions);
+        }
+        metadata.setFromTree(formatName, root);
+        return metadata;
+    }
+
+    /**
+     * Stops capturing, waits for the queued frames to be written and closes the recording.
+     *
+     * @throws IOException if the GIF file can't be finished
+     */
+    public void close() throws IOException {
+        if(closed){
+            return;
+        }
+        closed = true;
+        try {
+            for (int i = 0; i < encoders.length; i++){
+                pendingFrames.put(END_OF_RECORDING);
+            }
+            for (Thread encoder : encoders){
+                encoder.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if(gifWriter != null){
+            gifWriter.endWriteSequence();
+            gifOutput.close();
+            gifWriter.dispose();
+        }
+    }
+
+    /**
+     * Returns the number of frames queued for encoding.
+     *
+     * @return the number of captured frames
+     */
+    public long getCapturedFrames() {
+        return capturedFrames;
+    }
+
+    /**
+     * Returns the number of frames dropped because the encoders were behind.
+     *
+     * @return the number of dropped frames
+     */
+    public long getDroppedFrames() {
+        return droppedFrames;
+    }
+
+    /**
+     * Returns the number of frames written so far.
+     *
+     * @return the number of written frames
+     */
+    public long getWrittenFrames() {
+        return writtenFrames.get();
+    }
+
+    /**
+     * Returns the number of frames that failed to be written.
+     *
+     * @return the number of failed frames
+     */
+    public long getFailedFrames() {
+        return failedFrames.get();
+    }
+
+    /**
+     * Returns a one line summary of the recording.
+     *
+     * @return the summary
+     */
+    public String getSummary() {
+        return String.format("Recorded %d frames to %s (%d written, %d dropped, %d failed)",
+                capturedFrames, directory, getWrittenFrames(), droppedFrames, getFailedFrames());
+    }
+
+    /**
+     * A frame waiting to be encoded.
+     *
+     * @param index The position of the frame in the recording
+     * @param image The rendered frame
+     */
+    private record CapturedFrame(int index, BufferedImage image) {
+    }
+}
@@ -0,0 +1,62 @@
+package UfoDash;
+
+import java.util.Arrays;
+
+/**
+ * The 'FrameTimes' class keeps the most recent frame times in a fixed-size ring,
+ * so percentiles can be calculated without allocating while frames are recorded.
+ * Recording and reading may happen on different threads.
+ */
+public class FrameTimes {
+    private final long[] samples;
+    private final long[] sorted;
+    private int next, count;
+
+    /**
+     * Constructs a 'FrameTimes' object that remembers the given number of frames.
+     *
+     * @param capacity The number of recent frames to keep
+     */
+    public FrameTimes(int capacity) {
+        this.samples = new long[capacity];
+        this.sorted = new long[capacity];
+    }
+
+    /**
+     * Records the time of one frame, replacing the oldest one if the ring is full.
+     *
+     * @param nanos The frame time in nanoseconds
+     */
+    public synchronized void record(long nanos){
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        if(count < samples.length){
+            count++;
+        }
+    }
+
+    /**
+     * Returns the given percentile of the recorded frame times.
+     *
+     * @param percentile The percentile, between 0 and 100
+     * @return the frame time in nanoseconds, or 0 if no frames are recorded
+     */
+    public synchronized long percentile(double percentile){
+        if(count == 0){
+            return 0;
+        }
+        System.arraycopy(samples, 0, sorted, 0, count);
+        Arrays.sort(sorted, 0, count);
+        int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+        return sorted[Math.max(0, Math.min(index, count - 1))];
+    }
+
+    /**
+     * Returns the number of recorded frame times.
+     *
+     * @return the number of frames, at most the capacity
+     */
+    public synchronized int getCount(){
+        return count;
+    }
+}
@@ -8,36 +8,40 @@ import java.awt.*;
  * behaviour of this type of power-up.
  */
 public class GainLifePowerUp extends PowerUp{
+    private final GameDefinitions.PowerUpDefinition definition;
+
     /**
-     * Constructs a 'GainLifePowerUp' object with its positions, size and speed.
+     * Constructs a 'GainLifePowerUp' object with its positions, size, speed and variant.
      *
      * @param x The x-coordinate of the power-up
      * @param y The y-coordinate of the power-up
      * @param width The width of the power-up
      * @param height The height of the power-up
      * @param speed The speed at which the power-up moves across the screen
+     * @param definition The variant of the power-up
      */
-    public GainLifePowerUp(final int x, final int y, final int width, final int height, final int speed) {
-        super(x, y, width, height, speed, "heart.png");
+    public GainLifePowerUp(final int x, final int y, final int width, final int height, final int speed,
+                           final GameDefinitions.PowerUpDefinition definition) {
+        super(x, y, width, height, speed, definition.sprite().getImagePath());
+        this.definition = definition;
     }
 
     /**
      * Draws the power-up on the screen if its active.
-     * If the image is not loaded, a red circle is drawn instead.
+     * If the image is not loaded, the fallback shape of its sprite is drawn instead.
      *
      * @param g the Graphics object used to draw the object.
      */
     @Override public void draw(final Graphics g) {
         if (isActive) {
-            if (getImage() != null) {
-                g.drawImage(image, x, y, width, height, null);
-            }else{
-                g.setColor(Color.RED);
-                g.fillOval(x, y, width, height);
-            }
+            definition.sprite().draw(g, x, y, width, height);
         }
     }
 
+    @Override public SpriteKind getSpriteKind() {
+        return definition.sprite();
+    }
+
     /**
      * Applies the effect of the power-up to the player by increasing the player's
      * life count. After applying the effect, the power-up is deactivated.
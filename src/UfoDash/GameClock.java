@@ -0,0 +1,72 @@
+package UfoDash;
+
+/**
+ * The 'GameClock' class counts the game updates (ticks) of one game.
+ * Everything timed in the game, such as spawning, power-up effects and collision
+ * cool-downs, is measured in ticks of this clock instead of wall-clock time.
+ * This keeps a game deterministic, pauses it together with the updates and lets
+ * headless simulations run it faster than real time.
+ * Timed events are 'GameTimer's created by the clock, which fire from its 'TimerWheel'
+ * as the clock ticks.
+ */
+public class GameClock {
+    public static final int TICKS_PER_SECOND = 60;
+    private static final int MILLIS_PER_SECOND = 1000;
+    private long ticks = 0;
+    private final TimerWheel timerWheel = new TimerWheel();
+
+    /**
+     * Advances the clock by one tick, and fires the timers due on it.
+     */
+    public void tick(){
+        ticks++;
+        timerWheel.advance();
+    }
+
+    /**
+     * Turns the clock back to tick 0 and cancels all its timers, for a new game.
+     * The timers can be scheduled again.
+     */
+    public void reset(){
+        ticks = 0;
+        timerWheel.reset();
+    }
+
+    /**
+     * Creates a timer counted in ticks of this clock. The timer isn't scheduled yet.
+     *
+     * @param action The action run when the timer fires, or null for a timer that only marks a period
+     * @return the new timer
+     */
+    public GameTimer createTimer(Runnable action){
+        return new GameTimer(timerWheel, action);
+    }
+
+    /**
+     * Returns the number of timers of this clock waiting to fire.
+     *
+     * @return the number of armed timers
+     */
+    public int getArmedTimers(){
+        return timerWheel.getArmedTimers();
+    }
+
+    /**
+     * Returns the number of ticks since the game started.
+     *
+     * @return the current tick
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Converts a duration in milliseconds to the number of ticks it lasts.
+     *
+     * @param millis The duration in milliseconds
+     * @return the duration in ticks, rounded to the nearest tick
+     */
+    public static int millisToTicks(int millis){
+        return Math.round((float) millis * TICKS_PER_SECOND / MILLIS_PER_SECOND);
+    }
+}
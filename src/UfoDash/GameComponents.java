@@ -1,21 +1,26 @@
 package UfoDash;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Random;
 
 /**
  * The 'GameComponents' class manages various components of the game.
  * It provides access to these components for other parts of the game.
+ * A new game reuses the components through 'reset', so the images and the loaded best score are kept.
  */
 public class GameComponents {
-    private List<Ground> grounds = new ArrayList<>();
     private Player player;
-    private HeadsUpDisplay headsUpDisplay;
     private EnemyManager enemyManager;
     private AsteroidManager asteroidManager;
     private CollisionHandler collisionHandler;
     private PowerUpManager powerUpManager;
     private ProjectileManager projectileManager;
+    private GameClock gameClock;
+    private Camera camera;
+    private ObstacleCourse obstacleCourse;
+    private ParticleSystem particleSystem;
+    private AudioMixer audioMixer;
+    private final Random random;
+    private int panelHeight, groundHeight, playerStartY;
 
     /**
      * Constructs a new instance of the 'GameComponents' with the specified parameters.
@@ -26,43 +31,190 @@ public class GameComponents {
      * @param playerStartY The starting vertical position of the player
      */
     public GameComponents(int panelHeight, int panelWidth, int groundHeight, int playerStartY) {
+        this(panelHeight, panelWidth, groundHeight, playerStartY, new Random(), true);
+    }
+
+    /**
+     * Constructs a new instance of the 'GameComponents' with its own random generator.
+     * Nothing is shared with other instances, so independent games can run on different threads.
+     *
+     * @param panelHeight The height of the game panel
+     * @param panelWidth The width of the game panel
+     * @param groundHeight The height of the ground
+     * @param playerStartY The starting vertical position of the player
+     * @param random The random generator of the game, which seeds the obstacle course
+     * @param persistScores True to load and save the best score file, false to keep scores in memory
+     */
+    public GameComponents(int panelHeight, int panelWidth, int groundHeight, int playerStartY, Random random,
+                          boolean persistScores) {
+        GameDefinitions definitions = GameDefinitions.getDefault();
+        this.panelHeight = panelHeight;
+        this.groundHeight = groundHeight;
+        this.playerStartY = playerStartY;
+        this.random = random;
 
-        grounds.add(new Ground(0, panelHeight - groundHeight, panelWidth, groundHeight));
-        grounds.add(new Ground(panelWidth, panelHeight - groundHeight, panelWidth, groundHeight));
-        player = new Player(panelWidth / 8, playerStartY);
-        headsUpDisplay = new HeadsUpDisplay(player, panelWidth);
-        asteroidManager = new AsteroidManager(panelWidth, panelHeight, groundHeight, player);
-        collisionHandler = new CollisionHandler();
-        powerUpManager = new PowerUpManager(panelWidth, panelHeight, groundHeight);
-        enemyManager = new EnemyManager(panelWidth, panelHeight, groundHeight);
-        projectileManager = new ProjectileManager();
+        gameClock = new GameClock();
+        camera = new Camera(definitions.getAsteroid().speed());
+        particleSystem = new ParticleSystem();
+        audioMixer = new AudioMixer();
+        player = new Player(panelWidth / 8, playerStartY, gameClock, new ScoreHandler(persistScores),
+                definitions.getPlayer(), particleSystem, audioMixer);
+        asteroidManager = new AsteroidManager(panelWidth, panelHeight, groundHeight, player, random, camera,
+                definitions.getAsteroid());
+        collisionHandler = new CollisionHandler(gameClock, particleSystem, audioMixer);
+        powerUpManager = new PowerUpManager(panelWidth, panelHeight, groundHeight, random, definitions);
+        enemyManager = new EnemyManager(panelWidth, panelHeight, groundHeight, random, definitions);
+        projectileManager = new ProjectileManager(panelWidth);
+        CourseGenerator courseGenerator = new CourseGenerator(panelHeight, groundHeight,
+                asteroidManager.getAsteroidHeight(), playerStartY, player.getWidth(), player.getHeight(), definitions);
+        obstacleCourse = new ObstacleCourse(courseGenerator, camera, player, asteroidManager, enemyManager,
+                powerUpManager, panelWidth);
+        obstacleCourse.restart(random.nextLong());
     }
 
     /**
-     * Returns the list of ground objects in the game.
+     * Lays out the obstacle course on a background thread from now on, ahead of the game, instead of
+     * when the next stretch is needed. Used by the window, so laying out the course never delays a frame.
+     */
+    public void startCourseGenerator(){
+        obstacleCourse.getGenerator().start();
+    }
+
+    /**
+     * Starts playing the game's sound effects into the given output. Until then, the game is silent,
+     * which keeps headless tools that never start it from decoding or mixing any sound.
      *
-     * @return a list of 'Ground' objects
+     * @param output The output the sound is played through
      */
-    public List<Ground> getGrounds() {
-        return grounds;
+    public void startAudio(AudioOutput output){
+        audioMixer.start(ClipBank.getDefault(), output);
     }
 
     /**
-     * Returns a reference to the player.
+     * Applies new game definitions to the running game. Objects already on screen take the new speeds,
+     * the obstacle course uses the new intervals and variants from its next stretch on, and the rest applies
+     * to new objects.
+     * The definitions are kept when the game is reset. Only called on the thread updating the game.
      *
-     * @return the player object
+     * @param definitions The definitions to apply
      */
-    public Player getPlayer() {
-        return player;
+    public void applyDefinitions(GameDefinitions definitions){
+        player.setDefinition(definitions.getPlayer());
+        asteroidManager.setDefinition(definitions.getAsteroid());
+        enemyManager.setDefinitions(definitions);
+        powerUpManager.setDefinitions(definitions);
+        obstacleCourse.getGenerator().setDefinitions(definitions);
+    }
+
+    /**
+     * Resets every component in place for a new game. Nothing is loaded, the random generator carries on
+     * and seeds a new obstacle course, and the best score is kept.
+     */
+    public void reset(){
+        gameClock.reset();
+        player.reset();
+        asteroidManager.reset();
+        enemyManager.reset();
+        powerUpManager.reset();
+        projectileManager.reset();
+        collisionHandler.reset();
+        particleSystem.reset();
+        obstacleCourse.restart(random.nextLong());
+    }
+
+    /**
+     * Advances the game by one update: advances the clock, spawns new objects,
+     * moves all game objects and then handles their collisions.
+     */
+    public void update(){
+        gameClock.tick();
+        updateSpawners();
+        updateObjects();
+        processCollisions();
+    }
+
+    /**
+     * Spawns the objects of the obstacle course the camera has reached. Power-ups are only spawned
+     * while the player is down to one life.
+     */
+    public void updateSpawners(){
+        obstacleCourse.update();
+    }
+
+    /**
+     * Updates the position of every game object and particle. The asteroids are moved by scrolling the camera.
+     */
+    public void updateObjects(){
+        player.update();
+        camera.update();
+        asteroidManager.update();
+        powerUpManager.update();
+        enemyManager.update();
+        projectileManager.update();
+        particleSystem.update();
     }
 
     /**
-     * Returns the heads-up display (HUD) for the game.
+     * Checks collisions between the player and the other game objects,
+     * and between projectiles and enemies.
+     */
+    public void processCollisions(){
+        collisionHandler.processCollisions(player, asteroidManager.getAsteroids(), powerUpManager.getPowerUps(),
+                enemyManager.getEnemies(), projectileManager.getProjectiles(), groundHeight, panelHeight, playerStartY);
+    }
+
+    /**
+     * Returns the clock of the game.
+     *
+     * @return the 'GameClock' object
+     */
+    public GameClock getGameClock() {
+        return gameClock;
+    }
+
+    /**
+     * Returns the camera scrolling past the asteroids.
      *
-     * @return the 'HeadsUpDisplay' object
+     * @return the 'Camera' object
      */
-    public HeadsUpDisplay getHeadsUpDisplay() {
-        return headsUpDisplay;
+    public Camera getCamera() {
+        return camera;
+    }
+
+    /**
+     * Returns the obstacle course the objects are spawned from.
+     *
+     * @return the 'ObstacleCourse' object
+     */
+    public ObstacleCourse getObstacleCourse() {
+        return obstacleCourse;
+    }
+
+    /**
+     * Returns the particle system of the game's effects.
+     *
+     * @return the 'ParticleSystem' object
+     */
+    public ParticleSystem getParticleSystem() {
+        return particleSystem;
+    }
+
+    /**
+     * Returns the mixer playing the game's sound effects.
+     *
+     * @return the 'AudioMixer' object
+     */
+    public AudioMixer getAudioMixer() {
+        return audioMixer;
+    }
+
+    /**
+     * Returns a reference to the player.
+     *
+     * @return the player object
+     */
+    public Player getPlayer() {
+        return player;
     }
 
     /**
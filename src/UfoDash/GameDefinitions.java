@@ -0,0 +1,339 @@
+package UfoDash;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+
+/**
+ * The 'GameDefinitions' class holds the gameplay numbers of the game: the player's physics, the asteroids,
+ * and the enemy and power-up variants, read from the 'definitions.properties' file on the class path
+ * instead of being compiled into the classes. New enemy and power-up variants are added by listing them
+ * in the file, using any of the existing sprite kinds.
+ * <p>
+ * The definitions are parsed once into flat, immutable records, which the managers and the objects they
+ * spawn keep and read directly, so using them costs no more than a field read. To change the definitions
+ * of a running game, a new 'GameDefinitions' is read and applied through 'GameComponents.applyDefinitions'.
+ * <p>
+ * Another file given by the 'ufodash.definitions' system property can override any of the definitions
+ * at startup, and in development mode the tuning file overrides them while the game runs.
+ */
+public final class GameDefinitions {
+    public static final String RESOURCE_PATH = "definitions.properties";
+    public static final String OVERRIDES_PROPERTY = "ufodash.definitions";
+
+    /** The physics of the player. */
+    public record PlayerDefinition(int jumpStrength, int maxFallSpeed) {
+    }
+
+    /** The asteroid pairs and how their speed increases with the score. */
+    public record AsteroidDefinition(int width, int speed, int gap, int speedIncreaseScore, int spawnInterval) {
+    }
+
+    /** One kind of enemy. */
+    public record EnemyDefinition(String name, SpriteKind sprite, int width, int height, int horizontalSpeed,
+                                  int verticalSpeed, int weight) {
+    }
+
+    /** The effect a power-up has on the player when picked up. */
+    public enum Effect {
+        SHIELD, LIFE
+    }
+
+    /** One kind of power-up. The duration only applies to effects that last. */
+    public record PowerUpDefinition(String name, SpriteKind sprite, Effect effect, int duration, int weight) {
+    }
+
+    /** The definitions the game starts with, read the first time they're needed. */
+    private static final class Holder {
+        private static final GameDefinitions DEFAULT = loadDefault();
+    }
+
+    private final PlayerDefinition player;
+    private final AsteroidDefinition asteroid;
+    private final EnemyDefinition[] enemies;
+    private final PowerUpDefinition[] powerUps;
+    private final int enemySpawnInterval, enemyTotalWeight;
+    private final int powerUpSpawnInterval, powerUpSize, powerUpSpeed, powerUpTotalWeight;
+    private final Properties properties;
+
+    /**
+     * Parses the definitions from the given properties.
+     *
+     * @throws IllegalArgumentException if a definition is missing or invalid
+     */
+    private GameDefinitions(Properties properties) {
+        this.properties = properties;
+        this.player = new PlayerDefinition(readInt("player.jumpStrength"), readInt("player.maxFallSpeed"));
+        this.asteroid = new AsteroidDefinition(readInt("asteroid.width"), readInt("asteroid.speed"),
+                readInt("asteroid.gap"), readInt("asteroid.speedIncreaseScore"), readInt("asteroid.spawnInterval"));
+
+        this.enemySpawnInterval = readInt("enemy.spawnInterval");
+        String[] enemyNames = readList("enemy.variants");
+        this.enemies = new EnemyDefinition[enemyNames.length];
+        int enemyWeights = 0;
+        for (int i = 0; i < enemyNames.length; i++){
+            String prefix = "enemy." + enemyNames[i] + ".";
+            enemies[i] = new EnemyDefinition(enemyNames[i], readSprite(prefix + "sprite"), readInt(prefix + "width"),
+                    readInt(prefix + "height"), readInt(prefix + "horizontalSpeed"), readInt(prefix + "verticalSpeed"),
+                    readInt(prefix + "weight"));
+            enemyWeights += enemies[i].weight();
+        }
+        this.enemyTotalWeight = enemyWeights;
+
+        this.powerUpSpawnInterval = readInt("powerUp.spawnInterval");
+        this.powerUpSize = readInt("powerUp.size");
+        this.powerUpSpeed = readInt("powerUp.speed");
+        String[] powerUpNames = readList("powerUp.variants");
+        this.powerUps = new PowerUpDefinition[powerUpNames.length];
+        int powerUpWeights = 0;
+        for (int i = 0; i < powerUpNames.length; i++){
+            String prefix = "powerUp." + powerUpNames[i] + ".";
+            Effect effect = readEnum(Effect.class, prefix + "effect");
+            int duration = effect == Effect.SHIELD ? readInt(prefix + "duration") : 0;
+            powerUps[i] = new PowerUpDefinition(powerUpNames[i], readSprite(prefix + "sprite"), effect, duration,
+                    readInt(prefix + "weight"));
+            powerUpWeights += powerUps[i].weight();
+        }
+        this.powerUpTotalWeight = powerUpWeights;
+    }
+
+    /**
+     * Returns the definitions the game starts with: the definitions file on the class path,
+     * with the overrides of the file given by the 'ufodash.definitions' system property, if any.
+     *
+     * @return the default definitions
+     */
+    public static GameDefinitions getDefault(){
+        return Holder.DEFAULT;
+    }
+
+    /**
+     * Reads the default definitions.
+     *
+     * @throws IllegalStateException if the definitions can't be read or are invalid
+     */
+    private static GameDefinitions loadDefault(){
+        Properties properties = new Properties();
+        try(InputStream in = ClassLoader.getSystemResourceAsStream(RESOURCE_PATH)) {
+            if(in == null){
+                throw new IllegalStateException("The game definitions " + RESOURCE_PATH + " aren't on the class path");
+            }
+            properties.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String overrides = System.getProperty(OVERRIDES_PROPERTY);
+            if(overrides != null){
+                readFile(Path.of(overrides), properties);
+            }
+            return new GameDefinitions(properties);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalStateException("Failed to read the game definitions: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns these definitions with the given definitions overriding them.
+     *
+     * @param overrides Any of the definitions, by name
+     * @return the new definitions
+     * @throws IllegalArgumentException if one of the given definitions is invalid
+     */
+    public GameDefinitions withOverrides(Map<String, String> overrides){
+        Properties overridden = new Properties();
+        overridden.putAll(properties);
+        overridden.putAll(overrides);
+        return new GameDefinitions(overridden);
+    }
+
+    /**
+     * Reads a properties file into the given properties, replacing those it defines.
+     */
+    private static void readFile(Path file, Properties properties) throws IOException {
+        try(Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+    }
+
+    /**
+     * Reads a positive whole number.
+     */
+    private int readInt(String name){
+        String value = read(name);
+        try {
+            int parsed = Integer.parseInt(value);
+            if(parsed > 0){
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Not a positive number: " + name + "=" + value);
+    }
+
+    /**
+     * Reads a comma separated list of names.
+     */
+    private String[] readList(String name){
+        String[] names = read(name).split("\\s*,\\s*");
+        if(names.length == 0 || names[0].isEmpty()){
+            throw new IllegalArgumentException("No names in " + name);
+        }
+        return names;
+    }
+
+    /**
+     * Reads a sprite kind by its name. Only kinds with an image can be used for a variant.
+     */
+    private SpriteKind readSprite(String name){
+        SpriteKind sprite = readEnum(SpriteKind.class, name);
+        if(sprite.getImagePath() == null){
+            throw new IllegalArgumentException("Not a sprite with an image: " + name + "=" + sprite);
+        }
+        return sprite;
+    }
+
+    /**
+     * Reads a constant of the given enum by its name, ignoring case.
+     */
+    private <E extends Enum<E>> E readEnum(Class<E> type, String name){
+        String value = read(name);
+        try {
+            return Enum.valueOf(type, value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Not a " + type.getSimpleName() + ": " + name + "=" + value);
+        }
+    }
+
+    /**
+     * Reads a definition that has to be there.
+     */
+    private String read(String name){
+        String value = properties.getProperty(name);
+        if(value == null || value.isBlank()){
+            throw new IllegalArgumentException("Missing definition " + name);
+        }
+        return value.trim();
+    }
+
+    /**
+     * Picks an enemy variant at random by weight. With a single variant, no random number is used,
+     * so adding weights never changes the games of a seed that only has one.
+     *
+     * @param random The random generator of the game
+     * @return the enemy definition
+     */
+    public EnemyDefinition pickEnemy(Random random){
+        if(enemies.length == 1){
+            return enemies[0];
+        }
+        int roll = random.nextInt(enemyTotalWeight);
+        for (int i = 0; i < enemies.length - 1; i++){
+            roll -= enemies[i].weight();
+            if(roll < 0){
+                return enemies[i];
+            }
+        }
+        return enemies[enemies.length - 1];
+    }
+
+    /**
+     * Picks a power-up variant at random by weight.
+     *
+     * @param random The random generator of the game
+     * @return the power-up definition
+     */
+    public PowerUpDefinition pickPowerUp(Random random){
+        if(powerUps.length == 1){
+            return powerUps[0];
+        }
+        int roll = random.nextInt(powerUpTotalWeight);
+        for (int i = 0; i < powerUps.length - 1; i++){
+            roll -= powerUps[i].weight();
+            if(roll < 0){
+                return powerUps[i];
+            }
+        }
+        return powerUps[powerUps.length - 1];
+    }
+
+    /**
+     * Returns the enemy variant with the given name.
+     *
+     * @param name The name of the variant
+     * @return the enemy definition, or null if there's no such variant
+     */
+    public EnemyDefinition findEnemy(String name){
+        for (EnemyDefinition enemy : enemies){
+            if(enemy.name().equals(name)){
+                return enemy;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the physics of the player.
+     *
+     * @return the physics of the player
+     */
+    public PlayerDefinition getPlayer() {
+        return player;
+    }
+
+    /**
+     * Returns the definition of the asteroids.
+     *
+     * @return the definition of the asteroids
+     */
+    public AsteroidDefinition getAsteroid() {
+        return asteroid;
+    }
+
+    /**
+     * Returns the interval between enemy spawns in milliseconds.
+     *
+     * @return the interval between enemy spawns in milliseconds
+     */
+    public int getEnemySpawnInterval() {
+        return enemySpawnInterval;
+    }
+
+    /**
+     * Returns the interval between power-up spawns in milliseconds.
+     *
+     * @return the interval between power-up spawns in milliseconds
+     */
+    public int getPowerUpSpawnInterval() {
+        return powerUpSpawnInterval;
+    }
+
+    /**
+     * Returns the width and height of the power-ups.
+     *
+     * @return the width and height of the power-ups
+     */
+    public int getPowerUpSize() {
+        return powerUpSize;
+    }
+
+    /**
+     * Returns the speed of the power-ups in pixels per tick.
+     *
+     * @return the speed of the power-ups in pixels per tick
+     */
+    public int getPowerUpSpeed() {
+        return powerUpSpeed;
+    }
+
+    @Override public String toString() {
+        return "GameDefinitions{" + player + ", " + asteroid + ", enemies every " + enemySpawnInterval + " ms "
+                + Arrays.toString(enemies) + ", power-ups every " + powerUpSpawnInterval + " ms "
+                + Arrays.toString(powerUps) + "}";
+    }
+}
@@ -1,26 +1,80 @@
 package UfoDash;
 
 
+import javax.sound.sampled.LineUnavailableException;
 import javax.swing.*;
-import java.awt.event.ActionEvent;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
 
 /**
  * The 'GameLoop' class initializes and manages the main game loop of the 'UFO Dash' game.
  * It sets up the game environment, the user interface and
  * handles the continuous updating and rendering of the game components
- * at a specified frame rate.
+ * at a specified frame rate. The game is updated on its own simulation thread,
+ * and rendered on the event dispatch thread from the snapshots it publishes.
+ * Before the game is built, the images are decoded in parallel behind a loading screen,
+ * and the sound effects are decoded into the clip bank.
+ * In development mode, changed images and game definitions are applied while the game runs.
  */
 public class GameLoop {
     private static final int WIDTH = 700, HEIGHT = 800, FRAME_RATE = 60;
+    private static final String RENDER_SCALE_PROPERTY = "ufodash.renderScale";
+    private static final String INPUT_TRIGGER_PROPERTY = "ufodash.inputTrigger";
+    private static final String DEV_MODE_PROPERTY = "ufodash.devMode";
+    private static final String TUNING_FILE_PROPERTY = "ufodash.tuningFile";
+    private static final String AUDIO_PROPERTY = "ufodash.audio";
+    private static final String IMAGES_DIRECTORY = "resources/images";
     private GamePanel gamePanel;
+    private GameMetrics gameMetrics;
+    private SimulationLoop simulationLoop;
+    private AssetPreloader assetPreloader;
+    private JFrame frame;
+    private LoadingPanel loadingPanel;
 
     /**
-     * Constructs a new instance of 'GameLoop' which initializes and starts the game.
+     * Constructs a new instance of 'GameLoop' which loads the images, then initializes and starts the game.
      */
     public GameLoop() {
-        initializeGame();
         setUpUI();
+        preloadAssets();
+        initializeGame();
+        showGame();
         startGame();
+        if(Boolean.getBoolean(DEV_MODE_PROPERTY)){
+            startHotReload();
+        }
+    }
+
+    /**
+     * Starts the development mode, which watches the images folder and the tuning file given by the
+     * 'ufodash.tuningFile' system property, 'tuning.properties' by default, and applies their changes live.
+     */
+    private void startHotReload(){
+        Path tuningFile = Path.of(System.getProperty(TUNING_FILE_PROPERTY, "tuning.properties"));
+        try {
+            new HotReloader(gamePanel, Path.of(IMAGES_DIRECTORY), tuningFile).start();
+        } catch (IOException e) {
+            System.err.println("Failed to start the development mode: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Decodes the images of the asset manifest in parallel while the loading screen shows the progress,
+     * so building the game afterward only looks them up. The sound effects are decoded meanwhile.
+     */
+    private void preloadAssets(){
+        assetPreloader.start();
+        ClipBank.getDefault();
+        try {
+            assetPreloader.awaitCompletion();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if(assetPreloader.getFailedCount() > 0){
+            System.err.println(assetPreloader.getFailedCount() + " of " + assetPreloader.getTotalCount()
+                    + " images failed to load");
+        }
     }
 
     /**
@@ -29,50 +83,155 @@ public class GameLoop {
      */
     private void initializeGame(){
         gamePanel = new GamePanel(WIDTH, HEIGHT);
+        gamePanel.setRenderScale(readRenderScale());
+        gamePanel.setInputTrigger(readInputTrigger());
         GameStateHandler gameStateHandler = new GameStateHandler(gamePanel, WIDTH, HEIGHT);
         gamePanel.setGameStateHandler(gameStateHandler);
+        gameMetrics = new GameMetrics(gamePanel);
+        gameMetrics.setAssetLoadMillis(assetPreloader.getLoadMillis());
+        gamePanel.setGameMetrics(gameMetrics);
+    }
+
+    /**
+     * Reads the render scale from the 'ufodash.renderScale' system property: a factor of the
+     * window size such as 0.5 or 2, or 'native' to render at the resolution of the screen.
+     *
+     * @return the render scale, 1 if the property is missing or invalid
+     */
+    private static double readRenderScale(){
+        String value = System.getProperty(RENDER_SCALE_PROPERTY, "1");
+        if(value.equalsIgnoreCase("native")){
+            return BackBuffer.NATIVE_SCALE;
+        }
+        try {
+            double renderScale = Double.parseDouble(value);
+            if(renderScale > 0){
+                return renderScale;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        System.err.println("Ignoring invalid render scale: " + value);
+        return 1;
+    }
+
+    /**
+     * Reads whether jumping and shooting happen on the press or the release of their key
+     * from the 'ufodash.inputTrigger' system property: 'press' or 'release'.
+     *
+     * @return the input trigger, press if the property is missing or invalid
+     */
+    private static InputAction.Trigger readInputTrigger(){
+        String value = System.getProperty(INPUT_TRIGGER_PROPERTY, "press");
+        try {
+            return InputAction.Trigger.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.err.println("Ignoring invalid input trigger: " + value);
+            return InputAction.Trigger.PRESS;
+        }
     }
 
     /**
-     * Sets up the user interface for the game.
+     * Sets up the user interface for the game, showing the loading screen until the game is built.
      */
     private void setUpUI(){
-        JFrame frame = new JFrame("UFO Dash");
+        frame = new JFrame("UFO Dash");
+        assetPreloader = new AssetPreloader(() -> loadingPanel.repaint());
+        loadingPanel = new LoadingPanel(assetPreloader, WIDTH, HEIGHT);
         frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         frame.setSize(WIDTH, HEIGHT);
-        frame.setResizable(false);
-        frame.getContentPane().add(gamePanel);
+        frame.setResizable(true);
+        frame.getContentPane().add(loadingPanel);
         frame.pack();
         frame.setVisible(true);
+    }
+
+    /**
+     * Replaces the loading screen with the game panel, on the event dispatch thread.
+     */
+    private void showGame(){
+        SwingUtilities.invokeLater(() -> {
+            frame.getContentPane().remove(loadingPanel);
+            frame.getContentPane().add(gamePanel);
+            frame.revalidate();
+            frame.repaint();
+
+            // Attempt to set focus on the game panel after the window is visible
+            gamePanel.requestFocusInWindow();
+        });
+    }
 
-        // Attempt to set focus on the game panel after the window is visible
-        gamePanel.requestFocusInWindow();
+    /**
+     * Opens the output the sound is played through, as set by the 'ufodash.audio' system property:
+     * 'on' plays through the sound card, 'off' mixes the sound without playing it.
+     *
+     * @return the audio output, a silent one if the sound is off or the sound card can't be opened
+     */
+    private static AudioOutput openAudioOutput(){
+        String value = System.getProperty(AUDIO_PROPERTY, "on");
+        if(value.equalsIgnoreCase("off")){
+            return new NullAudioOutput();
+        }
+        if(!value.equalsIgnoreCase("on")){
+            System.err.println("Ignoring invalid audio setting: " + value);
+        }
+        try {
+            return new LineAudioOutput(AudioMixer.LINE_BUFFER_BYTES);
+        } catch (LineUnavailableException | IllegalArgumentException e) {
+            System.err.println("Failed to open the sound card, playing without sound: " + e.getMessage());
+            return new NullAudioOutput();
+        }
     }
 
     /**
-     * Starts the main game loop, which updates and repaints the game panel
-     * at a fixed interval defined by the frame rate.
+     * Starts the main game loop, which updates the game panel on the simulation thread
+     * at a fixed interval defined by the frame rate, and has every update rendered.
+     * The sound effects start playing at the same time, and the obstacle course is laid out
+     * on a background thread ahead of the game. Headless tools never start either.
      */
     private void startGame(){
-        final Action gameLoop = new AbstractAction(){
-            public void actionPerformed(ActionEvent e){
-                if(!gamePanel.isGameOver()){
-                    gamePanel.update();
-                    gamePanel.repaint();
-                }
-            }
-        };
-        Timer timer = new Timer(1000/FRAME_RATE, gameLoop);
-        timer.setCoalesce(true);
-        timer.start();
+        gamePanel.getGameComponents().startCourseGenerator();
+        gamePanel.getGameComponents().startAudio(openAudioOutput());
+        simulationLoop = new SimulationLoop(gamePanel, FRAME_RATE);
+        gameMetrics.setSimulationLoop(simulationLoop);
+        simulationLoop.start();
+    }
+
+    /**
+     * Returns the live metrics of the game.
+     *
+     * @return the 'GameMetrics' object
+     */
+    public GameMetrics getGameMetrics() {
+        return gameMetrics;
     }
 
     /**
-     * The main method that starts the game by creating an instance of 'GameLoop'.
+     * The main method that starts the game by creating an instance of 'GameLoop',
+     * and registers the game metrics so they can be watched through JMX.
+     * When started with '--stress', '--batch', '--capture' or '--pack-sprites', the stress test,
+     * the batch simulator, a headless frame capture or the sprite archive packer is run instead of the game.
      *
      * @param args Command line arguments
      */
     public static void main(String[] args){
-        new GameLoop();
+        if(args.length > 0 && args[0].equals(StressTest.LAUNCH_FLAG)){
+            new StressTest(Arrays.copyOfRange(args, 1, args.length)).run();
+            return;
+        }
+        if(args.length > 0 && args[0].equals(BatchSimulator.LAUNCH_FLAG)){
+            BatchSimulator.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        if(args.length > 0 && args[0].equals(FrameCapture.LAUNCH_FLAG)){
+            FrameCapture.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        if(args.length > 0 && args[0].equals(SpriteArchivePacker.LAUNCH_FLAG)){
+            SpriteArchivePacker.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        GameLoop gameLoop = new GameLoop();
+        gameLoop.getGameMetrics().register();
     }
 }
@@ -0,0 +1,319 @@
+package UfoDash;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.awt.*;
+import java.lang.management.ManagementFactory;
+
+/**
+ * The 'GameMetrics' class collects live metrics of the running game and publishes them
+ * as an MXBean. Ticks are recorded on the simulation thread and frames on the event dispatch
+ * thread, each into its own one second window, while the metrics are read by JMX clients
+ * on their own threads. Ticks and frames stop on the title and game over screens, so a rate
+ * that hasn't been published again for two windows reads as 0 instead of its last in-game value.
+ */
+public class GameMetrics implements GameMetricsMXBean {
+    public static final String OBJECT_NAME = "UfoDash:type=GameMetrics";
+    private static final int FRAME_SAMPLES = 256;
+    private static final int INPUT_SAMPLES = 64;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final long STALE_NANOS = 2 * NANOS_PER_SECOND;
+
+    private final GamePanel gamePanel;
+    private final FrameTimes frameTimes = new FrameTimes(FRAME_SAMPLES);
+    private final FrameTimes inputLatencies = new FrameTimes(INPUT_SAMPLES);
+    private SimulationLoop simulationLoop = null;
+
+    /** Counters for the current one second window of ticks, only touched by the simulation thread. */
+    private long tickWindowStart = System.nanoTime();
+    private int windowTicks;
+    private long windowCollisionTests, windowAllocatedBytes;
+    private long lastAllocatedBytes = -1;
+
+    /** Counters for the current one second window of frames, only touched by the render thread. */
+    private long frameWindowStart = System.nanoTime();
+    private int windowFrames, windowFilledFrames;
+    private long windowPixelsTouched, windowDrawCalls, windowCulledSprites;
+
+    /** Rates of the last completed window, read by JMX clients. */
+    private volatile double framesPerSecond, ticksPerSecond, collisionTestsPerSecond, allocatedBytesPerFrame;
+    private volatile double pixelsTouchedPerFrame, drawCallsPerFrame, culledSpritesPerFrame;
+    private volatile long tickRatesPublished = System.nanoTime(), frameRatesPublished = System.nanoTime();
+
+    /** Startup times, set once. */
+    private volatile double assetLoadMillis;
+    private volatile long timeToFirstFrameMillis = -1;
+
+    /**
+     * Constructs a 'GameMetrics' object for the given game panel.
+     *
+     * @param gamePanel The game panel whose components are measured
+     */
+    public GameMetrics(GamePanel gamePanel) {
+        this.gamePanel = gamePanel;
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server.
+     */
+    public void register(){
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+        } catch (JMException e) {
+            System.err.println("Failed to register game metrics: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Sets the loop updating the game, so it can be counted as an active timer.
+     *
+     * @param simulationLoop The simulation loop
+     */
+    public void setSimulationLoop(SimulationLoop simulationLoop) {
+        this.simulationLoop = simulationLoop;
+    }
+
+    /**
+     * Records one game update, and the bytes the simulation thread allocated since the previous update.
+     *
+     * @param collisionTests The number of intersection tests done during the update
+     */
+    public void recordTick(long collisionTests){
+        windowTicks++;
+        windowCollisionTests += collisionTests;
+        long allocatedBytes = AllocationCounter.currentThreadAllocatedBytes();
+        if(lastAllocatedBytes >= 0){
+            windowAllocatedBytes += allocatedBytes - lastAllocatedBytes;
+        }
+        lastAllocatedBytes = allocatedBytes;
+        rollTickWindow();
+    }
+
+    /**
+     * Records one painted frame.
+     *
+     * @param frameNanos The time spent painting the frame in nanoseconds
+     */
+    public void recordFrame(long frameNanos){
+        frameTimes.record(frameNanos);
+        windowFrames++;
+        rollFrameWindow();
+    }
+
+    /**
+     * Records the number of pixels touched while painting one game frame.
+     *
+     * @param pixelsTouched The number of pixels written by the layers of the frame
+     */
+    public void recordFill(long pixelsTouched){
+        windowPixelsTouched += pixelsTouched;
+        windowFilledFrames++;
+    }
+
+    /**
+     * Records the draw calls made while painting one game frame. Called after 'recordFill' for the same frame.
+     *
+     * @param drawCalls The number of sprites and cached layers drawn
+     * @param culledSprites The number of sprites skipped for being outside the repainted regions
+     */
+    public void recordDrawCalls(int drawCalls, int culledSprites){
+        windowDrawCalls += drawCalls;
+        windowCulledSprites += culledSprites;
+    }
+
+    /**
+     * Sets the time the images took to decode at startup.
+     *
+     * @param assetLoadMillis The asset load time in milliseconds
+     */
+    public void setAssetLoadMillis(double assetLoadMillis) {
+        this.assetLoadMillis = assetLoadMillis;
+    }
+
+    /**
+     * Records that the first frame of the game is on screen, as the time since the JVM started,
+     * and prints it along with the asset load time.
+     */
+    public void recordFirstFrame(){
+        timeToFirstFrameMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        System.out.printf("First frame after %d ms (assets decoded in %.1f ms)%n", timeToFirstFrameMillis, assetLoadMillis);
+    }
+
+    /**
+     * Records the time from a key event to the first frame showing its effect on screen.
+     *
+     * @param latencyNanos The input-to-photon latency in nanoseconds
+     */
+    public void recordInputLatency(long latencyNanos){
+        inputLatencies.record(latencyNanos);
+    }
+
+    /**
+     * Publishes the tick rates of the current window once it's at least a second old, and starts a new one.
+     */
+    private void rollTickWindow(){
+        long now = System.nanoTime();
+        long elapsed = now - tickWindowStart;
+        if(elapsed >= NANOS_PER_SECOND){
+            double seconds = (double) elapsed / NANOS_PER_SECOND;
+            ticksPerSecond = windowTicks / seconds;
+            collisionTestsPerSecond = windowCollisionTests / seconds;
+            allocatedBytesPerFrame = windowTicks > 0 ? (double) windowAllocatedBytes / windowTicks : 0;
+            windowTicks = 0;
+            windowCollisionTests = 0;
+            windowAllocatedBytes = 0;
+            tickWindowStart = now;
+            tickRatesPublished = now;
+        }
+    }
+
+    /**
+     * Publishes the frame rates of the current window once it's at least a second old, and starts a new one.
+     */
+    private void rollFrameWindow(){
+        long now = System.nanoTime();
+        long elapsed = now - frameWindowStart;
+        if(elapsed >= NANOS_PER_SECOND){
+            double seconds = (double) elapsed / NANOS_PER_SECOND;
+            framesPerSecond = windowFrames / seconds;
+            pixelsTouchedPerFrame = windowFilledFrames > 0 ? (double) windowPixelsTouched / windowFilledFrames : 0;
+            drawCallsPerFrame = windowFilledFrames > 0 ? (double) windowDrawCalls / windowFilledFrames : 0;
+            culledSpritesPerFrame = windowFilledFrames > 0 ? (double) windowCulledSprites / windowFilledFrames : 0;
+            windowFrames = 0;
+            windowPixelsTouched = 0;
+            windowDrawCalls = 0;
+            windowCulledSprites = 0;
+            windowFilledFrames = 0;
+            frameWindowStart = now;
+            frameRatesPublished = now;
+        }
+    }
+
+    /**
+     * Returns a rate, or 0 if it was published too long ago to still be current.
+     *
+     * @param rate The published rate
+     * @param published The time the rate was published, from 'System.nanoTime'
+     * @return the rate, or 0 if it's stale
+     */
+    private static double current(double rate, long published){
+        return System.nanoTime() - published > STALE_NANOS ? 0 : rate;
+    }
+
+    @Override public double getFramesPerSecond() {
+        return current(framesPerSecond, frameRatesPublished);
+    }
+
+    @Override public double getTicksPerSecond() {
+        return current(ticksPerSecond, tickRatesPublished);
+    }
+
+    @Override public double getFrameTimeP50Millis() {
+        return frameTimes.percentile(50) / NANOS_PER_MILLI;
+    }
+
+    @Override public double getFrameTimeP95Millis() {
+        return frameTimes.percentile(95) / NANOS_PER_MILLI;
+    }
+
+    @Override public double getFrameTimeP99Millis() {
+        return frameTimes.percentile(99) / NANOS_PER_MILLI;
+    }
+
+    @Override public double getInputLatencyP50Millis() {
+        return inputLatencies.percentile(50) / NANOS_PER_MILLI;
+    }
+
+    @Override public double getInputLatencyP95Millis() {
+        return inputLatencies.percentile(95) / NANOS_PER_MILLI;
+    }
+
+    @Override public double getInputLatencyP99Millis() {
+        return inputLatencies.percentile(99) / NANOS_PER_MILLI;
+    }
+
+    @Override public long getDroppedInputEvents() {
+        return gamePanel.getInputBuffer().getDroppedEvents();
+    }
+
+    @Override public double getAssetLoadMillis() {
+        return assetLoadMillis;
+    }
+
+    @Override public long getTimeToFirstFrameMillis() {
+        return timeToFirstFrameMillis;
+    }
+
+    @Override public int getAsteroidCount() {
+        return gamePanel.getGameComponents().getAsteroidManager().getAsteroids().size();
+    }
+
+    @Override public int getEnemyCount() {
+        return gamePanel.getGameComponents().getEnemyManager().getEnemies().size();
+    }
+
+    @Override public int getPowerUpCount() {
+        return gamePanel.getGameComponents().getPowerUpManager().getPowerUps().size();
+    }
+
+    @Override public int getProjectileCount() {
+        return gamePanel.getGameComponents().getProjectileManager().getProjectiles().size();
+    }
+
+    @Override public int getActiveTimerCount() {
+        int activeTimers = (simulationLoop != null && simulationLoop.isRunning()) ? 1 : 0;
+        return activeTimers + gamePanel.getGameComponents().getGameClock().getArmedTimers();
+    }
+
+    @Override public double getCollisionTestsPerSecond() {
+        return current(collisionTestsPerSecond, tickRatesPublished);
+    }
+
+    @Override public double getAllocatedBytesPerFrame() {
+        return current(allocatedBytesPerFrame, tickRatesPublished);
+    }
+
+    @Override public double getPixelsTouchedPerFrame() {
+        return current(pixelsTouchedPerFrame, frameRatesPublished);
+    }
+
+    @Override public double getDrawCallsPerFrame() {
+        return current(drawCallsPerFrame, frameRatesPublished);
+    }
+
+    @Override public double getCulledSpritesPerFrame() {
+        return current(culledSpritesPerFrame, frameRatesPublished);
+    }
+
+    @Override public double getFillRatio() {
+        // Pixels are counted at the size the game is laid out at, not the size of the window
+        Dimension panelSize = gamePanel.getPreferredSize();
+        double panelPixels = (double) panelSize.width * panelSize.height;
+        return panelPixels > 0 ? getPixelsTouchedPerFrame() / panelPixels : 0;
+    }
+
+    @Override public int getReadyCourseChunks() {
+        return gamePanel.getGameComponents().getObstacleCourse().getGenerator().getReadyChunks();
+    }
+
+    @Override public long getLateCourseChunks() {
+        return gamePanel.getGameComponents().getObstacleCourse().getLateChunks();
+    }
+
+    @Override public int getLiveParticleCount() {
+        return gamePanel.getGameComponents().getParticleSystem().getCount();
+    }
+
+    @Override public int getActiveVoiceCount() {
+        return gamePanel.getGameComponents().getAudioMixer().getActiveVoices();
+    }
+
+    @Override public long getStolenVoiceCount() {
+        return gamePanel.getGameComponents().getAudioMixer().getStolenVoices();
+    }
+
+    @Override public long getDroppedSoundTriggers() {
+        return gamePanel.getGameComponents().getAudioMixer().getDroppedTriggers();
+    }
+}
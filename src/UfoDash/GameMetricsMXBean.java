@@ -0,0 +1,216 @@
+package UfoDash;
+
+/**
+ * The 'GameMetricsMXBean' interface defines the live metrics of a running game
+ * that are published through JMX, so they can be watched with tools such as
+ * JConsole or VisualVM.
+ */
+public interface GameMetricsMXBean {
+    /**
+     * Returns the number of frames painted during the last second.
+     *
+     * @return the frames per second
+     */
+    double getFramesPerSecond();
+
+    /**
+     * Returns the number of game updates (ticks) during the last second.
+     *
+     * @return the ticks per second
+     */
+    double getTicksPerSecond();
+
+    /**
+     * Returns the median time spent painting a frame, over the recent frames.
+     *
+     * @return the 50th percentile frame time in milliseconds
+     */
+    double getFrameTimeP50Millis();
+
+    /**
+     * Returns the 95th percentile of the time spent painting a frame, over the recent frames.
+     *
+     * @return the 95th percentile frame time in milliseconds
+     */
+    double getFrameTimeP95Millis();
+
+    /**
+     * Returns the 99th percentile of the time spent painting a frame, over the recent frames.
+     *
+     * @return the 99th percentile frame time in milliseconds
+     */
+    double getFrameTimeP99Millis();
+
+    /**
+     * Returns the median time from a jump or shoot key event to the first frame showing its effect
+     * on screen, over the recent inputs.
+     *
+     * @return the 50th percentile input-to-photon latency in milliseconds
+     */
+    double getInputLatencyP50Millis();
+
+    /**
+     * Returns the 95th percentile of the time from a key event to the first frame showing its effect,
+     * over the recent inputs.
+     *
+     * @return the 95th percentile input-to-photon latency in milliseconds
+     */
+    double getInputLatencyP95Millis();
+
+    /**
+     * Returns the 99th percentile of the time from a key event to the first frame showing its effect,
+     * over the recent inputs.
+     *
+     * @return the 99th percentile input-to-photon latency in milliseconds
+     */
+    double getInputLatencyP99Millis();
+
+    /**
+     * Returns the number of key events dropped because the input buffer was full.
+     *
+     * @return the number of dropped input events
+     */
+    long getDroppedInputEvents();
+
+    /**
+     * Returns the time the asset preloader took to decode the images at startup.
+     *
+     * @return the asset load time in milliseconds
+     */
+    double getAssetLoadMillis();
+
+    /**
+     * Returns the time from the start of the JVM until the first frame of the game was on screen.
+     *
+     * @return the time to first frame in milliseconds, or -1 before the first frame
+     */
+    long getTimeToFirstFrameMillis();
+
+    /**
+     * Returns the number of asteroids currently managed by the 'AsteroidManager'.
+     *
+     * @return the number of asteroids
+     */
+    int getAsteroidCount();
+
+    /**
+     * Returns the number of enemies currently managed by the 'EnemyManager'.
+     *
+     * @return the number of enemies
+     */
+    int getEnemyCount();
+
+    /**
+     * Returns the number of power-ups currently managed by the 'PowerUpManager'.
+     *
+     * @return the number of power-ups
+     */
+    int getPowerUpCount();
+
+    /**
+     * Returns the number of projectiles currently managed by the 'ProjectileManager'.
+     *
+     * @return the number of projectiles
+     */
+    int getProjectileCount();
+
+    /**
+     * Returns the number of running timers: the simulation loop and the armed game timers,
+     * which time the spawners, the player's effects and the collision cool-down.
+     *
+     * @return the number of active timers
+     */
+    int getActiveTimerCount();
+
+    /**
+     * Returns the number of intersection tests done by the collision handler during the last second.
+     *
+     * @return the collision tests per second
+     */
+    double getCollisionTestsPerSecond();
+
+    /**
+     * Returns the average number of bytes allocated by the simulation thread per game update,
+     * including the render snapshot it publishes, during the last second.
+     *
+     * @return the allocated bytes per frame, or 0 if the JVM can't track allocations
+     */
+    double getAllocatedBytesPerFrame();
+
+    /**
+     * Returns the average number of pixels written per game frame during the last second,
+     * counting every layer drawn inside the repainted regions.
+     *
+     * @return the pixels touched per frame
+     */
+    double getPixelsTouchedPerFrame();
+
+    /**
+     * Returns the pixels touched per frame relative to the size the game is laid out at,
+     * whatever the size of the window or the render scale.
+     * A full repaint with no overdraw is 1.0, partial repaints are below it.
+     *
+     * @return the fill ratio, or 0 if the panel has no size
+     */
+    double getFillRatio();
+
+    /**
+     * Returns the average number of draw calls per game frame during the last second,
+     * counting each drawn sprite and each cached layer.
+     *
+     * @return the draw calls per frame
+     */
+    double getDrawCallsPerFrame();
+
+    /**
+     * Returns the average number of sprites per game frame that were skipped during the last second,
+     * for lying outside the repainted regions.
+     *
+     * @return the culled sprites per frame
+     */
+    double getCulledSpritesPerFrame();
+
+    /**
+     * Returns the number of obstacle course chunks laid out ahead of the game and waiting to be placed.
+     *
+     * @return the ready course chunks
+     */
+    int getReadyCourseChunks();
+
+    /**
+     * Returns the number of course chunks that were placed later than planned since the game was launched,
+     * because the course generator hadn't laid them out in time.
+     *
+     * @return the late course chunks
+     */
+    long getLateCourseChunks();
+
+    /**
+     * Returns the number of live particles of the game's effects.
+     *
+     * @return the particle count
+     */
+    int getLiveParticleCount();
+
+    /**
+     * Returns the number of sound effects that were playing after the latest block the mixer mixed.
+     *
+     * @return the active voices
+     */
+    int getActiveVoiceCount();
+
+    /**
+     * Returns the number of playing sound effects that were cut off to play a newer one,
+     * because every voice was taken.
+     *
+     * @return the stolen voices
+     */
+    long getStolenVoiceCount();
+
+    /**
+     * Returns the number of sound effects dropped because the mixer fell behind the game.
+     *
+     * @return the dropped sound triggers
+     */
+    long getDroppedSoundTriggers();
+}
@@ -1,27 +1,66 @@
 package UfoDash;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.KeyEvent;
+import java.io.File;
 import java.io.IOException;
-import java.net.URL;
-import java.util.ArrayList;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * The 'GamePanel' class is the main panel for the game, handling the drawing of the
  * game components and managing the game's state. It initializes all the game components,
  * sets up key bindings, and updates the game state during the game loop.
+ * Frames are rendered into a 'BackBuffer' at a configurable resolution and copied to the
+ * panel in one blit, scaled to whatever size the panel has. During a game, the frame is painted
+ * in layers by a 'LayerCompositor', and only the regions that changed since the previous update
+ * are rendered and repainted.
+ *
+ * The game is updated on the simulation thread, which publishes a 'RenderSnapshot' through a
+ * 'SnapshotExchange' after every update. The event dispatch thread only draws the latest snapshot,
+ * and never touches the game objects. Jumping and shooting go through an 'InputRingBuffer' with the
+ * time of each key event, and other key presses are handed over as commands. Both are processed
+ * at the start of the next update, and the delay from a key to the frame showing its effect is measured.
+ * Pressing F12 starts or stops recording the game into the captures folder.
  */
 public class GamePanel extends JPanel implements Drawable{
-    private Image backgroundImage = null;
+    private ParallaxScroller backgroundScroller;
     private GameStateHandler gameStateHandler = null;
-    private GameComponents gameComponents = null;
-    private List<Drawable> drawables = new ArrayList<>();
-    private int groundHeight, playerStartY, panelWidth, panelHeight;
-    private boolean gameOver = false;
+    private volatile GameComponents gameComponents = null;
+    private GameMetrics gameMetrics = null;
+    private LayerCompositor layerCompositor;
+    private BackBuffer backBuffer;
+    private final Rectangle repaintRegion = new Rectangle();
+    private GameStateHandler.GameState repaintedState = null;
+    private int groundHeight, playerStartY, panelWidth, panelHeight, gameNumber;
+    private boolean gameOver = false, firstFrameShown = false;
+    private final SnapshotExchange snapshotExchange = new SnapshotExchange();
+    private final RenderSnapshot syncSnapshot = new RenderSnapshot();
+    private RenderSnapshot renderedSnapshot;
+    private final Queue<Runnable> gameThreadCommands = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean renderRequested = new AtomicBoolean();
+    private final Runnable renderLatestSnapshot = this::renderLatestSnapshot;
+    private final InputRingBuffer inputBuffer = new InputRingBuffer(INPUT_BUFFER_CAPACITY);
+    private final InputRingBuffer.Handler inputHandler = this::handleInput;
+    private final boolean[] heldActions = new boolean[InputAction.values().length];
+    private volatile InputAction.Trigger inputTrigger = InputAction.Trigger.PRESS;
+    private long lastInputNanos, presentedInputNanos, pendingInputNanos;
+    private FrameRecorder frameRecorder = null;
+
+    private static final double DEFAULT_RENDER_SCALE = 1.0;
+    private static final String CAPTURE_DIRECTORY = "captures";
+    private static final DateTimeFormatter CLIP_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final int RECORDING_QUEUE_CAPACITY = 30;
+    private static final int RECORDING_ENCODER_THREADS = 2;
+    private static final int RECORDING_FRAMES_PER_SECOND = 60;
+    private static final int INPUT_BUFFER_CAPACITY = 64;
 
 
     /**
@@ -32,35 +71,64 @@ public class GamePanel extends JPanel implements Drawable{
      * @param panelHeight The height of the game panel
      */
     public GamePanel(int panelWidth, int panelHeight) {
+        this(panelWidth, panelHeight, true);
+    }
+
+    /**
+     * Constructs the game panel with specified dimensions, choosing whether the game reads and writes
+     * the best score file. Headless tools and benchmarks keep their scores in memory.
+     *
+     * @param panelWidth The width of the game panel
+     * @param panelHeight The height of the game panel
+     * @param persistScores True to load and save the best score file, false to keep scores in memory
+     */
+    public GamePanel(int panelWidth, int panelHeight, boolean persistScores) {
         this.panelWidth = panelWidth;
         this.panelHeight = panelHeight;
         this.playerStartY = panelHeight / 3;
         this.groundHeight = panelHeight / 8;
 
         setPreferredSize(new Dimension(panelWidth, panelHeight));
-        initializeGame();
+        // Space is far away, so it stays still and only has to be repainted where something moved over it
+        this.backgroundScroller = new ParallaxScroller().addLayer(new ParallaxLayer(loadImage("space.png"),
+                0, panelWidth, panelHeight, 0, false, Color.BLACK));
+        this.backBuffer = new BackBuffer(panelWidth, panelHeight, DEFAULT_RENDER_SCALE);
+        setBackground(Color.BLACK);
+        initializeGame(persistScores);
+        this.layerCompositor = new LayerCompositor(this, panelWidth, panelHeight, groundHeight,
+                gameComponents.getPlayer().getMaxLives());
+        this.renderedSnapshot = snapshotExchange.acquire();
         setUpKeyBindings();
     }
 
     /**
-     * Initializes the game's components and loads the background image.
+     * Initializes the game's components.
+     *
+     * @param persistScores True to load and save the best score file, false to keep scores in memory
      */
-    private void initializeGame(){
-        // Clear the drawables list to remove any leftover objects from the previous game
-        drawables.clear();
-        this.backgroundImage = loadImage("space.png");
-        this.gameComponents = new GameComponents(panelHeight, panelWidth, groundHeight, playerStartY);
-        addGameComponentsToDrawable();
-        gameOver = false;
+    private void initializeGame(boolean persistScores){
+        GameComponents components = new GameComponents(panelHeight, panelWidth, groundHeight, playerStartY,
+                new Random(), persistScores);
+        setGameComponents(components);
     }
 
-    private void addGameComponentsToDrawable(){
-        drawables.add(gameComponents.getPlayer());
-        drawables.add(gameComponents.getAsteroidManager());
-        drawables.addAll(gameComponents.getGrounds());
-        drawables.add(gameComponents.getPowerUpManager());
-        drawables.add(gameComponents.getEnemyManager());
-        drawables.add(gameComponents.getProjectileManager());
+    /**
+     * Starts playing the given game, for example a seeded game that plays the same way every run.
+     * Only called on the thread updating the game.
+     *
+     * @param gameComponents The components of the game to play
+     */
+    public void setGameComponents(GameComponents gameComponents){
+        this.gameComponents = gameComponents;
+        startNewGame();
+    }
+
+    /**
+     * Counts a new game, so the renderer starts over, and clears the game over flag.
+     */
+    private void startNewGame(){
+        gameNumber++;
+        gameOver = false;
     }
 
     /**
@@ -70,110 +138,348 @@ public class GamePanel extends JPanel implements Drawable{
      * @return the loaded image, or null if the image can't be found or loaded
      */
     private Image loadImage(String imagePath){
-        Image img = null;
-        try {
-            URL imageURL = ClassLoader.getSystemResource("images/" + imagePath);
-            if(imageURL != null){
-                img = ImageIO.read(imageURL);
-                if(img == null){
-                    System.err.println("Failed to load image: " + imagePath);
-                }
-            }else {
-                System.err.println("Image not found: " + imagePath);
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-            return img;
-        }
-        return img;
+        return SpriteCache.getImage(imagePath);
     }
 
     /**
-     * Overridden method to paint all game components on the screen.
+     * Overridden method to show the game on the screen, by copying the back buffer to the panel.
+     * If the back buffer had to be recreated for a new panel size, the whole frame is rendered again first.
      *
      * @param g the Graphics object used for drawing
      */
     @Override protected void paintComponent(final Graphics g) {
-        super.paintComponent(g);
         final Graphics2D g2d = (Graphics2D) g;
         if(gameStateHandler != null){
-            gameStateHandler.draw(g2d); //Draws based on the current game state
+            if(backBuffer.resize(getWidth(), getHeight(), g2d.getTransform())){
+                renderFrame(null);
+            }
+            backBuffer.blit(g2d, getWidth(), getHeight());
+            if(!firstFrameShown && gameMetrics != null){
+                firstFrameShown = true;
+                gameMetrics.recordFirstFrame();
+            }
+            if(pendingInputNanos != 0){
+                recordInputLatency();
+            }
+        }else{
+            super.paintComponent(g);
+        }
+    }
+
+    /**
+     * Renders the frame of the last acquired snapshot into the back buffer, and records it to the metrics.
+     *
+     * @param regions The logical regions to render, or null to render the whole frame
+     */
+    private void renderFrame(List<Rectangle> regions){
+        long frameStart = System.nanoTime();
+        if(regions == null){
+            renderRegion(null);
+        }else{
+            for (Rectangle region : regions){
+                renderRegion(region);
+            }
+        }
+        if(gameMetrics != null){
+            gameMetrics.recordFrame(System.nanoTime() - frameStart);
+            if(renderedSnapshot.getState() == GameStateHandler.GameState.GAME){
+                gameMetrics.recordFill(layerCompositor.takePixelsTouched());
+                gameMetrics.recordDrawCalls(layerCompositor.takeDrawCalls(), layerCompositor.takeCulledSprites());
+            }
         }
     }
 
+    /**
+     * Renders one region of the last acquired snapshot into the back buffer.
+     * Every state covers the whole panel, so the back buffer isn't cleared first.
+     *
+     * @param region The logical region to render, or null to render the whole frame
+     */
+    private void renderRegion(Rectangle region){
+        Graphics2D g2d = backBuffer.createGraphics(region);
+        gameStateHandler.draw(g2d, renderedSnapshot); //Draws based on the state of the snapshot
+        g2d.dispose();
+    }
+
+    /**
+     * Asks the event dispatch thread to render the latest snapshot, unless it has already been asked
+     * and hasn't got to it yet. Called by the simulation thread after each update.
+     */
+    public void requestRender(){
+        if(snapshotExchange.hasFreshSnapshot() && renderRequested.compareAndSet(false, true)){
+            SwingUtilities.invokeLater(renderLatestSnapshot);
+        }
+    }
+
+    /**
+     * Renders the latest snapshot on the event dispatch thread, if one was published since the last frame.
+     */
+    private void renderLatestSnapshot(){
+        renderRequested.set(false);
+        if(snapshotExchange.hasFreshSnapshot()){
+            repaintChangedRegions();
+        }
+    }
+
+    /**
+     * Renders the latest snapshot and requests a repaint of the panel. During a game,
+     * only the regions that changed are rendered and repainted, otherwise the whole panel is.
+     * If a recording is in progress, the rendered frame is copied out of the back buffer.
+     */
+    public void repaintChangedRegions(){
+        if(gameStateHandler == null){
+            repaint();
+            return;
+        }
+        RenderSnapshot snapshot = acquireSnapshot();
+        GameStateHandler.GameState state = snapshot.getState();
+        if(state == GameStateHandler.GameState.GAME && repaintedState == GameStateHandler.GameState.GAME){
+            List<Rectangle> regions = layerCompositor.collectDirtyRegions(snapshot);
+            renderFrame(regions);
+            for (Rectangle region : regions){
+                backBuffer.toComponent(region, repaintRegion);
+                repaint(repaintRegion);
+            }
+        }else{
+            // Keep the compositor up to date, so it knows where the entities were
+            layerCompositor.collectDirtyRegions(snapshot);
+            renderFrame(null);
+            repaint();
+        }
+        repaintedState = state;
+        // The first frame showing the effect of a new input measures its latency once it's on screen
+        if(snapshot.getInputNanos() > presentedInputNanos){
+            presentedInputNanos = snapshot.getInputNanos();
+            pendingInputNanos = presentedInputNanos;
+        }
+        if(frameRecorder != null){
+            frameRecorder.capture(backBuffer);
+        }
+    }
+
+    /**
+     * Flushes the frame to the screen and records the time from the key event behind it.
+     */
+    private void recordInputLatency(){
+        Toolkit.getDefaultToolkit().sync();
+        if(gameMetrics != null){
+            gameMetrics.recordInputLatency(System.nanoTime() - pendingInputNanos);
+        }
+        pendingInputNanos = 0;
+    }
+
+    /**
+     * Returns the latest snapshot published by the simulation thread, which stays the snapshot
+     * being rendered until the next call. Only called on the thread rendering the game.
+     *
+     * @return the snapshot to render
+     */
+    public RenderSnapshot acquireSnapshot(){
+        renderedSnapshot = snapshotExchange.acquire();
+        return renderedSnapshot;
+    }
+
+    /**
+     * Sets the internal resolution the game is rendered at, relative to the size of the panel.
+     * The game is laid out and simulated at the size of the panel whatever the render scale.
+     *
+     * @param renderScale The render scale, or 'BackBuffer.NATIVE_SCALE' to render at the resolution of the screen
+     */
+    public void setRenderScale(double renderScale){
+        backBuffer.setRenderScale(renderScale);
+        repaintedState = null;
+        repaint();
+    }
+
     /**
      * Draw the game's background.
      *
      * @param g the Graphics object used to draw the object
      */
     @Override public void draw(final Graphics g) {
-        if (backgroundImage != null) {
-            g.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
-        } else{
-            g.fillRect(0, 0, getWidth(), getHeight());
-        }
+        backgroundScroller.draw(g);
     }
 
     /**
-     * Draw all game components.
+     * Draw all game components, layer by layer, inside the clip of the graphics.
+     * The game is read directly, so this must be called on the thread updating the game,
+     * as the stress test and the benchmarks do.
      *
      * @param g the Graphics object used to draw the object
      */
     public void drawGame(Graphics g){
-        draw(g);
-        gameComponents.getHeadsUpDisplay().drawHeart(g);
-        gameComponents.getHeadsUpDisplay().drawScore(g);
-        for (Drawable drawable : drawables){
-            drawable.draw(g);
-        }
+        syncSnapshot.capture(GameStateHandler.GameState.GAME, gameNumber, gameComponents);
+        layerCompositor.paint((Graphics2D) g, syncSnapshot);
+    }
+
+    /**
+     * Draw the game components of a snapshot, layer by layer, inside the clip of the graphics.
+     *
+     * @param g the Graphics object used to draw the object
+     * @param snapshot The snapshot to draw
+     */
+    public void drawGame(Graphics g, RenderSnapshot snapshot){
+        layerCompositor.paint((Graphics2D) g, snapshot);
     }
 
     /**
-     * Updates the game state on each game loop iteration.
+     * Updates the game state on each tick of the simulation loop. The key events and commands
+     * received since the previous tick are processed first, then the game is updated and a snapshot
+     * of it is published. Once the game is over, nothing changes until a command restarts it,
+     * so nothing is published.
      */
     @Override public void update() {
+        inputBuffer.drain(inputHandler);
+        boolean commandsRan = runGameThreadCommands();
+        if(gameOver && !commandsRan){
+            return;
+        }
         if(gameStateHandler != null && gameStateHandler.getCurrentState() == GameStateHandler.GameState.GAME){
             int playerLives = gameComponents.getPlayer().getLives();
 
-            // Start asteroid, enemy and power-up-spawners if they aren't already running
-            if(!gameComponents.getAsteroidManager().isSpawnerStarted()){
-                gameComponents.getAsteroidManager().startSpawner();
+            // Spawn, update all game components and check collisions
+            gameComponents.update();
+            if(gameMetrics != null){
+                gameMetrics.recordTick(gameComponents.getCollisionHandler().getCollisionTests());
             }
-            if(!gameComponents.getEnemyManager().isSpawnerStarted()){
-                gameComponents.getEnemyManager().startSpawner();
-            }
-            if(!gameComponents.getPowerUpManager().isSpawnerStarted() && playerLives == 1){
-                gameComponents.getPowerUpManager().startSpawner();
-            }else if(gameComponents.getPowerUpManager().isSpawnerStarted() && playerLives > 1){
-                gameComponents.getPowerUpManager().stopSpawner();
-            }
-
-            // Update all game components
-            for (Drawable drawable : drawables){
-                drawable.update();
-            }
-
-            // Check collisions and game over condition
-            gameComponents.getCollisionHandler().processCollisions(
-                    gameComponents.getPlayer(),
-                    gameComponents.getAsteroidManager().getAsteroids(),
-                    gameComponents.getPowerUpManager().getPowerUps(),
-                    gameComponents.getEnemyManager().getEnemies(),
-                    gameComponents.getProjectileManager().getProjectiles(),
-                    groundHeight, panelHeight, playerStartY);
 
+            // Check game over condition
             if(playerLives == 0){
                 gameOver = true;
                 gameStateHandler.setGameState(GameStateHandler.GameState.END);
+                gameComponents.getAudioMixer().play(SoundEffect.GAME_OVER);
             }
         }
+        publishSnapshot();
+    }
+
+    /**
+     * Captures the game into a snapshot and hands it to the render thread.
+     */
+    private void publishSnapshot(){
+        GameStateHandler.GameState state = gameStateHandler != null
+                ? gameStateHandler.getCurrentState() : GameStateHandler.GameState.GAME;
+        RenderSnapshot snapshot = snapshotExchange.getWriteSnapshot();
+        snapshot.capture(state, gameNumber, gameComponents);
+        snapshot.setInputNanos(lastInputNanos);
+        snapshotExchange.publish();
+    }
+
+    /**
+     * Applies one key event from the input buffer to the game. Keys held down repeat their press
+     * events, so only the first press of a key counts. On the title screen, pressing the jump key
+     * starts the game. During a game, an action happens on the edge of the key stroke set by the
+     * input trigger.
+     *
+     * @param action The action of the key
+     * @param pressed True if the key was pressed, false if it was released
+     * @param timestampNanos The time the event was received
+     */
+    private void handleInput(InputAction action, boolean pressed, long timestampNanos){
+        boolean wasHeld = heldActions[action.ordinal()];
+        heldActions[action.ordinal()] = pressed;
+        if(pressed == wasHeld || gameStateHandler == null){
+            return;
+        }
+        GameStateHandler.GameState state = gameStateHandler.getCurrentState();
+        if(state == GameStateHandler.GameState.TITLE && action == InputAction.JUMP && pressed){
+            gameStateHandler.setGameState(GameStateHandler.GameState.GAME);
+            lastInputNanos = timestampNanos;
+            return;
+        }
+        if(state != GameStateHandler.GameState.GAME || pressed != (inputTrigger == InputAction.Trigger.PRESS)){
+            return;
+        }
+        Player player = gameComponents.getPlayer();
+        switch (action) {
+            case JUMP -> player.jump();
+            case SHOOT -> player.shoot(gameComponents.getProjectileManager());
+        }
+        lastInputNanos = timestampNanos;
+    }
+
+    /**
+     * Sets whether jumping and shooting happen when their key is pressed or when it's released.
+     *
+     * @param inputTrigger The edge of the key stroke the actions happen on
+     */
+    public void setInputTrigger(InputAction.Trigger inputTrigger){
+        this.inputTrigger = inputTrigger;
+    }
+
+    /**
+     * Returns the buffer carrying key events to the simulation thread.
+     *
+     * @return the 'InputRingBuffer' of the panel
+     */
+    public InputRingBuffer getInputBuffer() {
+        return inputBuffer;
+    }
+
+    /**
+     * Runs the commands posted to the simulation thread since the previous update.
+     *
+     * @return true if any command ran, false otherwise
+     */
+    private boolean runGameThreadCommands(){
+        boolean ran = false;
+        Runnable command;
+        while ((command = gameThreadCommands.poll()) != null){
+            command.run();
+            ran = true;
+        }
+        return ran;
     }
 
     /**
-     * Restarts the game by reinitializing the game components.
+     * Posts a command to run on the simulation thread at the start of the next update.
+     * Input handlers use this to change the game, which only the simulation thread may touch.
+     *
+     * @param command The command to run
+     */
+    public void invokeOnGameThread(Runnable command){
+        gameThreadCommands.add(command);
+    }
+
+    /**
+     * Starts recording every rendered frame as a PNG sequence in the captures folder,
+     * or stops the recording in progress. The recording is finished in the background,
+     * and a summary including the number of dropped frames is printed.
+     */
+    public void toggleRecording(){
+        if(frameRecorder != null){
+            FrameRecorder recorder = frameRecorder;
+            frameRecorder = null;
+            Thread closer = new Thread(() -> {
+                try {
+                    recorder.close();
+                    System.out.println(recorder.getSummary());
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }, "frame-recorder-close");
+            closer.start();
+            return;
+        }
+        if(gameStateHandler == null){
+            return;
+        }
+        File directory = new File(CAPTURE_DIRECTORY, "clip-" + LocalDateTime.now().format(CLIP_NAME_FORMAT));
+        try {
+            frameRecorder = new FrameRecorder(directory, FrameRecorder.Format.PNG, panelWidth, panelHeight,
+                    RECORDING_QUEUE_CAPACITY, RECORDING_ENCODER_THREADS, RECORDING_FRAMES_PER_SECOND);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Restarts the game by resetting the game components in place, which keeps the loaded images
+     * and best score and doesn't allocate. Only called on the thread updating the game.
      */
     public void restartGame(){
-        initializeGame();
+        gameComponents.reset();
+        startNewGame();
     }
 
     /**
@@ -194,18 +500,20 @@ public class GamePanel extends JPanel implements Drawable{
         this.gameStateHandler = gameStateHandler;
     }
 
+    /**
+     * Sets the metrics that frames and game updates are recorded to.
+     *
+     * @param gameMetrics The game metrics to record to
+     */
+    public void setGameMetrics(GameMetrics gameMetrics) {
+        this.gameMetrics = gameMetrics;
+    }
+
     /**
      * Set up key bindings for handling game input such as jumping and shooting.
+     * Both the press and the release of the jump and shoot keys are recorded in the input buffer.
      */
     private void setUpKeyBindings(){
-        Action jumpAction = new AbstractAction()
-        {
-            @Override public void actionPerformed(final ActionEvent e) {
-                if (gameStateHandler != null && gameStateHandler.getCurrentState() == GameStateHandler.GameState.GAME) {
-                    gameComponents.getPlayer().jump();
-                }
-            }
-        };
 
         // Create an action to close the window
         Action closeAction = new AbstractAction()
@@ -215,12 +523,10 @@ public class GamePanel extends JPanel implements Drawable{
             }
         };
 
-        Action shootAction = new AbstractAction()
+        Action recordAction = new AbstractAction()
         {
             @Override public void actionPerformed(final ActionEvent e) {
-                if (gameStateHandler != null && gameStateHandler.getCurrentState() == GameStateHandler.GameState.GAME) {
-                    gameComponents.getPlayer().shoot(gameComponents.getProjectileManager());
-                }
+                toggleRecording();
             }
         };
 
@@ -228,15 +534,38 @@ public class GamePanel extends JPanel implements Drawable{
         InputMap inputMap = getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW);
         ActionMap actionMap = getActionMap();
 
-        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_SPACE, 0, true), "jump");
-        actionMap.put("jump", jumpAction);
+        bindInput(inputMap, actionMap, KeyEvent.VK_SPACE, InputAction.JUMP);
 
         // Bind "ESCAPE" to closeAction
         inputMap.put(KeyStroke.getKeyStroke("ESCAPE"), "close");
         actionMap.put("close", closeAction);
 
-        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_ENTER, 0, true), "shoot");
-        actionMap.put("shoot", shootAction);
+        bindInput(inputMap, actionMap, KeyEvent.VK_ENTER, InputAction.SHOOT);
+
+        // Bind "F12" to start and stop recording a clip
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_F12, 0), "record");
+        actionMap.put("record", recordAction);
+    }
+
+    /**
+     * Binds the press and the release of a key to recording an input event with the time it arrived.
+     *
+     * @param inputMap The input map of the panel
+     * @param actionMap The action map of the panel
+     * @param keyCode The key to bind
+     * @param inputAction The action of the key
+     */
+    private void bindInput(InputMap inputMap, ActionMap actionMap, int keyCode, InputAction inputAction){
+        for (boolean pressed : new boolean[]{true, false}) {
+            String name = inputAction.name().toLowerCase() + (pressed ? "-press" : "-release");
+            inputMap.put(KeyStroke.getKeyStroke(keyCode, 0, !pressed), name);
+            actionMap.put(name, new AbstractAction()
+            {
+                @Override public void actionPerformed(final ActionEvent e) {
+                    inputBuffer.offer(inputAction, pressed, System.nanoTime());
+                }
+            });
+        }
     }
 
     /**
@@ -247,4 +576,13 @@ public class GamePanel extends JPanel implements Drawable{
     public Player getPlayer() {
         return gameComponents.getPlayer();
     }
+
+    /**
+     * Returns the components of the game currently being played.
+     *
+     * @return the 'GameComponents' object
+     */
+    public GameComponents getGameComponents() {
+        return gameComponents;
+    }
 }
@@ -6,10 +6,12 @@ import java.awt.*;
  * The 'GameStateHandler' class manages the different states in the game,
  * such as title screen, the game itself and end screen.
  * It also handles the rendering and updates based on the current state.
+ * The state is changed by the simulation thread, and frames are drawn from the
+ * state recorded in a 'RenderSnapshot', so drawing never reads the current state.
  */
 public class GameStateHandler {
     private GamePanel gamePanel;
-    private GameState currentState;
+    private volatile GameState currentState;
     private TitleState titleState;
     private EndState endState;
 
@@ -25,45 +27,43 @@ public class GameStateHandler {
     public GameStateHandler(GamePanel gamePanel, int panelWidth, int panelHeight) {
         this.gamePanel = gamePanel;
         currentState = GameState.TITLE;
-        titleState = new TitleState(this, gamePanel, panelWidth, panelHeight);
+        titleState = new TitleState(panelWidth, panelHeight);
         endState = new EndState(this, gamePanel, panelWidth, panelHeight);
     }
 
     /**
-     * Draws the current game state on the screen.
-     * The content to be rendered depends on the current state
-     * of the game.
+     * Draws the game state of a snapshot on the screen.
+     * The content to be rendered depends on the state
+     * of the game when the snapshot was taken.
      *
      * @param g the Graphics object used to draw
+     * @param snapshot The snapshot to draw
      */
-    public void draw(Graphics g) {
-        switch (currentState) {
+    public void draw(Graphics g, RenderSnapshot snapshot) {
+        switch (snapshot.getState()) {
             case TITLE:
                 titleState.draw(g);
                 titleState.update();
                 break;
             case GAME:
-                gamePanel.drawGame(g);
+                gamePanel.drawGame(g, snapshot);
                 break;
             case END:
-                endState.draw(g);
+                endState.draw(g, snapshot);
                 break;
 
         }
     }
 
     /**
-     * Sets the game to a new state.
-     * Updates the end state with the final and best score.
+     * Sets the game to a new state. Only called on the thread updating the game.
+     * The end screen picks up the final game frame and scores from the first
+     * snapshot taken after game over.
      *
      * @param state The new state to set for the game
      */
     public void setGameState(GameState state){
         this.currentState = state;
-        if(state == GameState.END){
-            endState.setFinalScore(gamePanel.getPlayer().getCurrentScore());
-            endState.setBestScore(gamePanel.getPlayer().getBestScore());
-        }
     }
 
     /**
@@ -0,0 +1,74 @@
+package UfoDash;
+
+/**
+ * The 'GameTimer' class is a handle to a timed event of a game, such as the end of a power-up
+ * effect, a cool-down or the next spawn. It's created once and then scheduled, moved and
+ * cancelled as often as needed, so timing an event never allocates.
+ * Timers are counted in ticks of the 'GameClock' that created them, and fire on the
+ * simulation thread while the clock ticks, so they pause and speed up with the game.
+ */
+public class GameTimer {
+    private final TimerWheel timerWheel;
+    private final Runnable action;
+
+    /** The position of the timer in the wheel, only used by the 'TimerWheel'. */
+    long deadline;
+    int level = -1, slot;
+    GameTimer previous, next;
+
+    /**
+     * Constructs a 'GameTimer' on the given wheel. It isn't scheduled yet.
+     *
+     * @param timerWheel The wheel running the timer
+     * @param action The action run when the timer fires, or null for a timer that only marks a period
+     */
+    GameTimer(TimerWheel timerWheel, Runnable action) {
+        this.timerWheel = timerWheel;
+        this.action = action;
+    }
+
+    /**
+     * Schedules the timer to fire after the given number of ticks. If it's already scheduled,
+     * the previous schedule is replaced.
+     *
+     * @param delayTicks The number of ticks until the timer fires, at least 1
+     */
+    public void schedule(long delayTicks){
+        timerWheel.schedule(this, timerWheel.getCurrentTick() + delayTicks);
+    }
+
+    /**
+     * Cancels the timer, if it's scheduled.
+     */
+    public void cancel(){
+        timerWheel.cancel(this);
+    }
+
+    /**
+     * Returns whether the timer is scheduled and hasn't fired yet.
+     *
+     * @return true if the timer is armed, false otherwise
+     */
+    public boolean isArmed(){
+        return level >= 0;
+    }
+
+    /**
+     * Returns the number of ticks until the timer fires.
+     *
+     * @return the remaining ticks, or 0 if the timer isn't armed
+     */
+    public long getRemainingTicks(){
+        return isArmed() ? deadline - timerWheel.getCurrentTick() : 0;
+    }
+
+    /**
+     * Runs the action of the timer. Called by the wheel once the timer has been removed,
+     * so the action may schedule the timer again.
+     */
+    void fire(){
+        if(action != null){
+            action.run();
+        }
+    }
+}
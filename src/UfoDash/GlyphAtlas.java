@@ -0,0 +1,147 @@
+package UfoDash;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * The 'GlyphAtlas' class rasterizes a fixed set of characters once, side by side in a
+ * single image. Text made of these characters is then drawn by copying each glyph's
+ * part of the image, instead of rasterizing the font again, and without allocating.
+ */
+public class GlyphAtlas {
+    private static final int GLYPH_PADDING = 2;
+    private final BufferedImage atlas;
+    private final String characters;
+    private final int[] glyphX, glyphWidth;
+    private final int ascent, height;
+
+    /**
+     * Constructs a 'GlyphAtlas' holding the given characters in the given font and color.
+     *
+     * @param characters The characters to rasterize
+     * @param font The font of the characters
+     * @param color The color of the characters
+     */
+    public GlyphAtlas(String characters, Font font, Color color) {
+        this.characters = characters;
+        this.glyphX = new int[characters.length()];
+        this.glyphWidth = new int[characters.length()];
+
+        // Measure the glyphs with a scratch image, as no screen graphics are available yet
+        BufferedImage scratch = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D scratchGraphics = scratch.createGraphics();
+        FontMetrics metrics = scratchGraphics.getFontMetrics(font);
+        scratchGraphics.dispose();
+        this.ascent = metrics.getAscent();
+        this.height = metrics.getAscent() + metrics.getDescent();
+
+        int width = 0;
+        for (int i = 0; i < characters.length(); i++) {
+            glyphX[i] = width;
+            glyphWidth[i] = metrics.charWidth(characters.charAt(i));
+            width += glyphWidth[i] + GLYPH_PADDING;
+        }
+
+        atlas = CompatibleImages.create(Math.max(width, 1), height, true);
+        Graphics2D g2d = atlas.createGraphics();
+        g2d.setFont(font);
+        g2d.setColor(color);
+        for (int i = 0; i < characters.length(); i++) {
+            g2d.drawString(String.valueOf(characters.charAt(i)), glyphX[i], ascent);
+        }
+        g2d.dispose();
+    }
+
+    /**
+     * Draws a single character with its top-left corner at the given position.
+     *
+     * @param g the Graphics object used to draw
+     * @param c The character to draw; characters not in the atlas are skipped
+     * @param x The x-coordinate of the character
+     * @param y The y-coordinate of the top of the character
+     * @return the x-coordinate after the character
+     */
+    public int drawChar(Graphics g, char c, int x, int y){
+        int index = characters.indexOf(c);
+        if(index < 0){
+            return x;
+        }
+        int sourceX = glyphX[index];
+        int width = glyphWidth[index];
+        g.drawImage(atlas, x, y, x + width, y + height, sourceX, 0, sourceX + width, height, null);
+        return x + width;
+    }
+
+    /**
+     * Draws text with its top-left corner at the given position.
+     *
+     * @param g the Graphics object used to draw
+     * @param text The text to draw
+     * @param x The x-coordinate of the text
+     * @param y The y-coordinate of the top of the text
+     * @return the x-coordinate after the text
+     */
+    public int drawText(Graphics g, String text, int x, int y){
+        for (int i = 0; i < text.length(); i++) {
+            x = drawChar(g, text.charAt(i), x, y);
+        }
+        return x;
+    }
+
+    /**
+     * Draws a non-negative number with its top-left corner at the given position.
+     *
+     * @param g the Graphics object used to draw
+     * @param number The number to draw
+     * @param digits A scratch array large enough for the digits of the number
+     * @param x The x-coordinate of the number
+     * @param y The y-coordinate of the top of the number
+     * @return the x-coordinate after the number
+     */
+    public int drawNumber(Graphics g, int number, int[] digits, int x, int y){
+        int count = 0;
+        do {
+            digits[count++] = number % 10;
+            number /= 10;
+        } while (number > 0 && count < digits.length);
+        for (int i = count - 1; i >= 0; i--) {
+            x = drawChar(g, (char) ('0' + digits[i]), x, y);
+        }
+        return x;
+    }
+
+    /**
+     * Returns the width of the given text when drawn from this atlas.
+     *
+     * @param text The text to measure
+     * @return the width in pixels
+     */
+    public int getWidth(String text){
+        int width = 0;
+        for (int i = 0; i < text.length(); i++) {
+            int index = characters.indexOf(text.charAt(i));
+            if(index >= 0){
+                width += glyphWidth[index];
+            }
+        }
+        return width;
+    }
+
+    /**
+     * Returns the distance from the top of a glyph to its baseline.
+     *
+     * @return the ascent in pixels
+     */
+    public int getAscent() {
+        return ascent;
+    }
+
+    /**
+     * Returns the height of a glyph.
+     *
+     * @return the height in pixels
+     */
+    public int getHeight() {
+        return height;
+    }
+}
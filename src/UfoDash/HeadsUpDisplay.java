@@ -1,16 +1,17 @@
 package UfoDash;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
-import java.io.IOException;
-import java.net.URL;
+import java.awt.image.BufferedImage;
 
 /**
  * The 'HeadsUpDisplay' class manages the display of the player's information,
  * such as lives and score, on the screen during the game.
+ * The hearts and the score are each kept in a cached image that is only rebuilt
+ * when the lives or the score change, so drawing the HUD is two image copies per frame.
+ * The values are passed in when drawing, so the HUD can be drawn from a render snapshot.
  */
 public class HeadsUpDisplay {
-    private Player player;
+    private int maxLives;
     private Image fullHeartImg = null;
     private Image emptyHeartImg = null;
     private int panelWidth;
@@ -19,82 +20,132 @@ public class HeadsUpDisplay {
     private static final int PADDING = 10;
     private static final int SCORE_X_POS = 10;
     private static final int SCORE_Y_POS = 50;
+    private static final int MAX_SCORE_DIGITS = 10;
+    private static final String SCORE_LABEL = "Score: ";
+    private static final Font SCORE_FONT = new Font("Comic Sans MS", Font.BOLD, 50);
+
+    private final GlyphAtlas scoreGlyphs = new GlyphAtlas(SCORE_LABEL + "0123456789", SCORE_FONT, Color.RED);
+    private final int[] scoreDigits = new int[MAX_SCORE_DIGITS];
+    private final BufferedImage heartStrip, scoreStrip;
+    private final Graphics2D heartStripGraphics, scoreStripGraphics;
+    private final int heartStripX, scoreStripY;
+    private int displayedLives = -1;
+    private int displayedScore = -1;
 
     /**
-     * Initializes the 'HeadsUpDisplay' with a reference to the player and the panel's width.
+     * Initializes the 'HeadsUpDisplay' with the player's maximum number of lives and the panel's width.
      *
-     * @param player The player object whose information is displayed
+     * @param maxLives The maximum number of lives the player can have
      * @param panelWidth The width of the game panel
      */
-    public HeadsUpDisplay(Player player, int panelWidth) {
-        this.player = player;
+    public HeadsUpDisplay(int maxLives, int panelWidth) {
+        this.maxLives = maxLives;
         this.panelWidth = panelWidth;
 
-        try{
-            String fullHeartImgPath ="whole_heart.png";
-            String emptyHeartImgPath ="no_heart.png";
-            URL fullHeartImageURL = ClassLoader.getSystemResource("images/" + fullHeartImgPath);
-            URL emptyHeartImageURL = ClassLoader.getSystemResource("images/" + emptyHeartImgPath);
+        this.fullHeartImg = SpriteCache.getImage("whole_heart.png");
+        this.emptyHeartImg = SpriteCache.getImage("no_heart.png");
 
-            if(fullHeartImageURL != null){
-                fullHeartImg = ImageIO.read(fullHeartImageURL);
-                if(fullHeartImg == null){
-                    System.err.println("Failed to load image: " + fullHeartImgPath);
-                }
+        this.heartStripX = panelWidth - maxLives * (HEART_WIDTH + PADDING);
+        this.heartStrip = CompatibleImages.create(maxLives * (HEART_WIDTH + PADDING) - PADDING, HEART_HEIGHT, true);
+        this.heartStripGraphics = createStripGraphics(heartStrip);
 
-            }else {
-                System.err.println("Image not found: " + fullHeartImageURL);
-            }
+        int scoreWidth = scoreGlyphs.getWidth(SCORE_LABEL) + scoreGlyphs.getWidth("0") * MAX_SCORE_DIGITS;
+        this.scoreStripY = SCORE_Y_POS - scoreGlyphs.getAscent();
+        this.scoreStrip = CompatibleImages.create(scoreWidth, scoreGlyphs.getHeight(), true);
+        this.scoreStripGraphics = createStripGraphics(scoreStrip);
+    }
 
-            if(emptyHeartImageURL != null){
-                emptyHeartImg = ImageIO.read(emptyHeartImageURL);
-                if(emptyHeartImg == null){
-                    System.err.println("Failed to load image: " + emptyHeartImgPath);
-                }
-            }else {
-                System.err.println("Image not found: " + emptyHeartImageURL);
-            }
-        }catch (IOException e){
-            e.printStackTrace();
-            fullHeartImg = null;
-            emptyHeartImg = null;
-        }
+    /**
+     * Creates the graphics used to rebuild a cached strip. They are kept for the lifetime
+     * of the HUD, so rebuilding doesn't allocate.
+     *
+     * @param strip The cached strip image
+     * @return the graphics of the strip
+     */
+    private static Graphics2D createStripGraphics(BufferedImage strip){
+        Graphics2D g2d = strip.createGraphics();
+        g2d.setBackground(new Color(0, 0, 0, 0));
+        return g2d;
     }
 
     /**
      * Draws the player's hearts (lives) in the top-right corner of the screen.
      *
      * @param g the Graphics object used to draw the object
+     * @param lives The player's current number of lives
      */
-    public void drawHeart(Graphics g){
-        int lives = player.getLives();
-        int maxLives = player.getMaxLives();
+    public void drawHeart(Graphics g, int lives){
+        if(lives != displayedLives){
+            displayedLives = lives;
+            rebuildHeartStrip(lives);
+        }
+        g.drawImage(heartStrip, heartStripX, PADDING, null);
+    }
+
+    /**
+     * Redraws the cached strip of hearts for the given number of lives.
+     *
+     * @param lives The player's current number of lives
+     */
+    private void rebuildHeartStrip(int lives){
+        heartStripGraphics.clearRect(0, 0, heartStrip.getWidth(), heartStrip.getHeight());
 
         for (int i = 0; i < maxLives; i++) {
-            // Calculate the x and y coordinates for positioning the hearts
-            int x = panelWidth - (i + 1) * (HEART_WIDTH + PADDING);
-            int y = PADDING;
+            // Calculate the x coordinate within the strip, the first heart is the rightmost one
+            int x = (maxLives - 1 - i) * (HEART_WIDTH + PADDING);
 
             Image heartImage = (i<lives) ?  fullHeartImg : emptyHeartImg;
             Color fallbackColor = (i<lives) ? Color.RED : Color.GRAY;
 
             if(heartImage != null){
-                g.drawImage(heartImage, x, y, HEART_WIDTH, HEART_HEIGHT, null);
+                heartStripGraphics.drawImage(heartImage, x, 0, HEART_WIDTH, HEART_HEIGHT, null);
             }else{
-                g.setColor(fallbackColor);
-                g.fillRect(x, y, HEART_WIDTH, HEART_HEIGHT);
+                heartStripGraphics.setColor(fallbackColor);
+                heartStripGraphics.fillRect(x, 0, HEART_WIDTH, HEART_HEIGHT);
             }
         }
     }
 
+    /**
+     * Sets the given rectangle to the area covered by the hearts.
+     *
+     * @param bounds The rectangle to set
+     */
+    public void getHeartBounds(Rectangle bounds){
+        bounds.setBounds(heartStripX, PADDING, heartStrip.getWidth(), heartStrip.getHeight());
+    }
+
+    /**
+     * Sets the given rectangle to the area covered by the score.
+     *
+     * @param bounds The rectangle to set
+     */
+    public void getScoreBounds(Rectangle bounds){
+        bounds.setBounds(SCORE_X_POS, scoreStripY, scoreStrip.getWidth(), scoreStrip.getHeight());
+    }
+
     /**
      * Draws the player's current score in the top-left corner of the screen.
      *
      * @param g the Graphics object used to draw the object
+     * @param score The player's current score
+     */
+    public void drawScore(Graphics g, int score){
+        if(score != displayedScore){
+            displayedScore = score;
+            rebuildScoreStrip(score);
+        }
+        g.drawImage(scoreStrip, SCORE_X_POS, scoreStripY, null);
+    }
+
+    /**
+     * Redraws the cached score strip from the glyph atlas.
+     *
+     * @param score The player's current score
      */
-    public void drawScore(Graphics g){
-        g.setColor(Color.RED);
-        g.setFont(new Font("Comic Sans MS", Font.BOLD, 50));
-        g.drawString("Score: " + player.getCurrentScore(), SCORE_X_POS, SCORE_Y_POS);
+    private void rebuildScoreStrip(int score){
+        scoreStripGraphics.clearRect(0, 0, scoreStrip.getWidth(), scoreStrip.getHeight());
+        int x = scoreGlyphs.drawText(scoreStripGraphics, SCORE_LABEL, 0, 0);
+        scoreGlyphs.drawNumber(scoreStripGraphics, score, scoreDigits, x, 0);
     }
 }
@@ -0,0 +1,159 @@
+package UfoDash;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The 'HotReloader' class is the development mode of the game: it watches the images folder and the
+ * tuning file on a background thread, so art and difficulty can be changed without restarting the game.
+ * <p>
+ * Changed images are decoded again on the watching thread and swapped into the sprite cache, then the
+ * sprite kinds pack a new atlas and swap it in at once. A changed tuning file is read on the watching
+ * thread too, over the game definitions, and the tuned definitions are handed to the simulation thread,
+ * which applies them to the running game between two ticks. Editors often write a file in several steps, so changes are collected
+ * for a short while before they're applied.
+ * <p>
+ * Images that are pre-scaled when the game starts, such as the backgrounds, the ground and the hearts,
+ * only change on the next start.
+ */
+public class HotReloader implements Runnable {
+    private static final long SETTLE_MILLIS = 100;
+
+    private final GamePanel gamePanel;
+    private final Path imagesDirectory, tuningFile;
+    private WatchService watchService;
+    private Thread thread;
+
+    /**
+     * Constructs a 'HotReloader' for the given game.
+     *
+     * @param gamePanel The game panel running the game to tune
+     * @param imagesDirectory The folder of the image files
+     * @param tuningFile The tuning file, which doesn't have to exist yet
+     */
+    public HotReloader(GamePanel gamePanel, Path imagesDirectory, Path tuningFile) {
+        this.gamePanel = gamePanel;
+        this.imagesDirectory = imagesDirectory.toAbsolutePath().normalize();
+        this.tuningFile = tuningFile.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Applies the tuning file if it exists, and starts watching for changes on a daemon thread.
+     *
+     * @throws IOException if the folders can't be watched
+     */
+    public void start() throws IOException {
+        watchService = FileSystems.getDefault().newWatchService();
+        if(Files.isDirectory(imagesDirectory)){
+            imagesDirectory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        }else{
+            System.err.println("Not watching images, no folder " + imagesDirectory);
+        }
+        Path tuningDirectory = tuningFile.getParent();
+        if(!tuningDirectory.equals(imagesDirectory)){
+            tuningDirectory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        }
+        if(Files.isRegularFile(tuningFile)){
+            applyTuning();
+        }
+
+        thread = new Thread(this, "hot-reload");
+        thread.setDaemon(true);
+        thread.start();
+        System.out.println("Watching " + imagesDirectory + " and " + tuningFile + " for changes");
+    }
+
+    /**
+     * Stops watching for changes.
+     */
+    public void stop(){
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            System.err.println("Failed to stop watching: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Waits for changes and applies them until the reloader is stopped.
+     */
+    @Override public void run(){
+        try {
+            while (true){
+                WatchKey key = watchService.take();
+                Set<String> changedImages = new TreeSet<>();
+                boolean tuningChanged = false;
+                // Collects the further events of the same save before applying anything
+                while (key != null){
+                    Path directory = (Path) key.watchable();
+                    for (WatchEvent<?> event : key.pollEvents()){
+                        if(event.kind() == StandardWatchEventKinds.OVERFLOW){
+                            continue;
+                        }
+                        Path file = directory.resolve((Path) event.context());
+                        if(file.equals(tuningFile)){
+                            tuningChanged = true;
+                        }else if(directory.equals(imagesDirectory) && file.getFileName().toString().endsWith(".png")){
+                            changedImages.add(file.getFileName().toString());
+                        }
+                    }
+                    key.reset();
+                    key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                if(!changedImages.isEmpty()){
+                    reloadImages(changedImages);
+                }
+                if(tuningChanged && Files.isRegularFile(tuningFile)){
+                    applyTuning();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Stopped
+        }
+    }
+
+    /**
+     * Decodes the changed images again and swaps in a new sprite atlas.
+     */
+    private void reloadImages(Set<String> imagePaths){
+        int reloaded = 0;
+        for (String imagePath : imagePaths){
+            if(SpriteCache.reload(imagePath, imagesDirectory.resolve(imagePath))){
+                reloaded++;
+            }
+        }
+        if(reloaded > 0){
+            SpriteKind.reloadImages();
+            System.out.println("Reloaded " + String.join(", ", imagePaths));
+        }
+    }
+
+    /**
+     * Reads the tuning file over the game definitions and has the simulation thread apply them
+     * to the running game. A file with an invalid definition is ignored, keeping the previous ones.
+     */
+    private void applyTuning(){
+        try {
+            Tuning tuning = Tuning.load(tuningFile);
+            GameDefinitions definitions = tuning.applyTo(GameDefinitions.getDefault());
+            gamePanel.invokeOnGameThread(() -> gamePanel.getGameComponents().applyDefinitions(definitions));
+            System.out.println("Applied tuning " + tuning);
+        } catch (IOException e) {
+            System.err.println("Failed to read the tuning file: " + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            System.err.println("Ignored the tuning file, " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package UfoDash;
+
+/**
+ * The 'InputAction' enum lists the actions the player controls with the keyboard during a game,
+ * and the 'Trigger' that decides whether they happen when the key is pressed or released.
+ */
+public enum InputAction {
+    JUMP, SHOOT;
+
+    /** The edge of a key stroke an action happens on. */
+    public enum Trigger {
+        PRESS, RELEASE
+    }
+}
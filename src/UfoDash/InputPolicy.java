@@ -0,0 +1,14 @@
+package UfoDash;
+
+/**
+ * The 'InputPolicy' interface defines how a simulated player plays the game.
+ * A policy is asked once per tick, before the game is updated, whether to jump and shoot.
+ */
+public interface InputPolicy {
+    /**
+     * Applies the input of this tick to the game, such as making the player jump or shoot.
+     *
+     * @param gameComponents The game being played
+     */
+    void apply(GameComponents gameComponents);
+}
@@ -0,0 +1,98 @@
+package UfoDash;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The 'InputRingBuffer' class carries key presses and releases from the event dispatch thread
+ * to the simulation thread. Each event is stored with the time it was received, in nanoseconds,
+ * so the delay from the key to the screen can be measured.
+ *
+ * The buffer is a fixed-size ring for a single producer and a single consumer. The producer only
+ * writes the tail and the consumer only writes the head, so neither side takes a lock or allocates.
+ * When the ring is full, new events are dropped and counted instead of blocking the producer.
+ */
+public class InputRingBuffer {
+    /**
+     * Receives the events drained from the buffer, in the order they were added.
+     */
+    public interface Handler {
+        /**
+         * Handles one input event.
+         *
+         * @param action The action of the key
+         * @param pressed True if the key was pressed, false if it was released
+         * @param timestampNanos The time the event was received, from 'System.nanoTime'
+         */
+        void handle(InputAction action, boolean pressed, long timestampNanos);
+    }
+
+    private static final InputAction[] ACTIONS = InputAction.values();
+
+    private final int[] events;
+    private final long[] timestamps;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong(), tail = new AtomicLong();
+    private volatile long droppedEvents;
+
+    /**
+     * Constructs an 'InputRingBuffer' holding the given number of events.
+     *
+     * @param capacity The number of events, rounded up to a power of two
+     */
+    public InputRingBuffer(int capacity) {
+        int size = capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.events = new int[size];
+        this.timestamps = new long[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Adds an event to the buffer. Only called by the producing thread.
+     *
+     * @param action The action of the key
+     * @param pressed True if the key was pressed, false if it was released
+     * @param timestampNanos The time the event was received, from 'System.nanoTime'
+     * @return true if the event was added, false if the buffer was full and it was dropped
+     */
+    public boolean offer(InputAction action, boolean pressed, long timestampNanos){
+        long currentTail = tail.get();
+        if(currentTail - head.get() > mask){
+            droppedEvents++;
+            return false;
+        }
+        int index = (int) currentTail & mask;
+        events[index] = (action.ordinal() << 1) | (pressed ? 1 : 0);
+        timestamps[index] = timestampNanos;
+        // Publishes the event, the consumer reads the tail before reading the slot
+        tail.lazySet(currentTail + 1);
+        return true;
+    }
+
+    /**
+     * Hands every event added so far to the given handler, oldest first. Only called by the consuming thread.
+     *
+     * @param handler The handler receiving the events
+     * @return the number of events drained
+     */
+    public int drain(Handler handler){
+        long currentHead = head.get();
+        long currentTail = tail.get();
+        for (long i = currentHead; i < currentTail; i++){
+            int index = (int) i & mask;
+            int event = events[index];
+            handler.handle(ACTIONS[event >> 1], (event & 1) != 0, timestamps[index]);
+        }
+        // Frees the slots only after they were read
+        head.lazySet(currentTail);
+        return (int) (currentTail - currentHead);
+    }
+
+    /**
+     * Returns the number of events dropped because the buffer was full.
+     *
+     * @return the number of dropped events
+     */
+    public long getDroppedEvents() {
+        return droppedEvents;
+    }
+}
@@ -0,0 +1,267 @@
+package UfoDash;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The 'LayerCompositor' class paints a game frame as five layers, from back to front:
+ * the static background, the entities, the particles, the scrolling ground and the HUD.
+ * The background and the ground are pre-scaled 'ParallaxScroller' strips, and the HUD keeps its own
+ * cached strips, so each layer is only copied, never redrawn from scratch.
+ * Everything is painted from a 'RenderSnapshot', so painting never touches the game objects
+ * the simulation thread is updating. The ground is scrolled to the tick of the snapshot.
+ *
+ * For each new snapshot, the compositor works out which regions of the panel changed,
+ * so only those are repainted. Painting is limited to the clip of the graphics, and
+ * anything outside of it is skipped. The entities go through a 'RenderQueue', which culls them
+ * against the clip and groups them by image, and the particles are drawn as one batch by a 'ParticleRenderer'.
+ * The number of pixels touched and draw calls made
+ * are counted, to measure the fill rate.
+ */
+public class LayerCompositor {
+    /** Extra room around an entity, for sprites and effects drawn outside of its bounds. */
+    private static final int DIRTY_MARGIN = 16;
+    private static final int GROUND_SPEED = 5;
+
+    private final Drawable background;
+    private final int panelWidth, panelHeight;
+    private final HeadsUpDisplay headsUpDisplay;
+    private final ParallaxScroller groundScroller;
+
+    private final Rectangle panelBounds, clip = new Rectangle();
+    private final Rectangle entityRegion = new Rectangle(), previousEntityRegion = new Rectangle();
+    private final Rectangle particleRegion = new Rectangle();
+    private final Rectangle groundRegion = new Rectangle(), heartRegion = new Rectangle(), scoreRegion = new Rectangle();
+    private final Rectangle[] dirtyRegionPool = {new Rectangle(), new Rectangle(), new Rectangle(), new Rectangle()};
+    private final List<Rectangle> dirtyRegions = new ArrayList<>(dirtyRegionPool.length);
+    private int entityLeft, entityTop, entityRight, entityBottom;
+    private int displayedGameNumber = -1, displayedLives, displayedScore;
+    private final RenderQueue renderQueue = new RenderQueue();
+    private final ParticleRenderer particleRenderer;
+    private long pixelsTouched;
+    private int drawCalls, culledSprites;
+
+    /**
+     * Constructs a 'LayerCompositor' for a panel of the given size.
+     *
+     * @param background The static background, drawn first over the whole panel
+     * @param panelWidth The width of the game panel
+     * @param panelHeight The height of the game panel
+     * @param groundHeight The height of the ground
+     * @param maxLives The maximum number of lives shown by the HUD
+     */
+    public LayerCompositor(Drawable background, int panelWidth, int panelHeight, int groundHeight, int maxLives) {
+        this.background = background;
+        this.panelWidth = panelWidth;
+        this.panelHeight = panelHeight;
+        this.panelBounds = new Rectangle(0, 0, panelWidth, panelHeight);
+        this.groundScroller = new ParallaxScroller().addLayer(new ParallaxLayer(SpriteCache.getImage("ground.png"),
+                panelHeight - groundHeight, panelWidth, groundHeight, GROUND_SPEED, true, Color.GRAY));
+        this.headsUpDisplay = new HeadsUpDisplay(maxLives, panelWidth);
+        this.particleRenderer = new ParticleRenderer(panelWidth, panelHeight);
+        groundScroller.getScrollingBounds(groundRegion);
+        headsUpDisplay.getHeartBounds(heartRegion);
+        headsUpDisplay.getScoreBounds(scoreRegion);
+    }
+
+    /**
+     * Works out the regions of the panel that changed since the previous snapshot:
+     * the area covered by the entities and particles in both snapshots, the scrolling ground,
+     * and the parts of the HUD showing lives or a score that changed.
+     * A snapshot of a new game forgets where the entities of the previous game were.
+     * The returned list and its rectangles are reused on the next call.
+     *
+     * @param snapshot The snapshot about to be painted
+     * @return the regions to repaint
+     */
+    public List<Rectangle> collectDirtyRegions(RenderSnapshot snapshot){
+        dirtyRegions.clear();
+        if(snapshot.getGameNumber() != displayedGameNumber){
+            displayedGameNumber = snapshot.getGameNumber();
+            displayedLives = snapshot.getLives();
+            displayedScore = snapshot.getScore();
+            previousEntityRegion.setBounds(0, 0, panelWidth, panelHeight);
+        }
+
+        entityLeft = Integer.MAX_VALUE;
+        entityTop = Integer.MAX_VALUE;
+        entityRight = Integer.MIN_VALUE;
+        entityBottom = Integer.MIN_VALUE;
+        for (int i = 0; i < snapshot.getSpriteCount(); i++){
+            addEntity(snapshot.getX(i), snapshot.getY(i), snapshot.getWidth(i), snapshot.getHeight(i));
+        }
+        particleRenderer.plot(snapshot);
+        if(!particleRenderer.isEmpty()){
+            particleRenderer.getBounds(particleRegion);
+            addEntity(particleRegion.x, particleRegion.y, particleRegion.width, particleRegion.height);
+        }
+
+        if(entityRight > entityLeft){
+            entityRegion.setBounds(entityLeft - DIRTY_MARGIN, entityTop - DIRTY_MARGIN,
+                    entityRight - entityLeft + DIRTY_MARGIN * 2, entityBottom - entityTop + DIRTY_MARGIN * 2);
+        }else{
+            entityRegion.setBounds(0, 0, 0, 0);
+        }
+
+        // The old positions have to be repainted too, to erase the entities from there
+        if(previousEntityRegion.isEmpty()){
+            previousEntityRegion.setBounds(entityRegion);
+        }else if(!entityRegion.isEmpty()){
+            previousEntityRegion.add(entityRegion);
+        }
+        addDirtyRegion(previousEntityRegion);
+        previousEntityRegion.setBounds(entityRegion);
+
+        addDirtyRegion(groundRegion);
+
+        int lives = snapshot.getLives();
+        if(lives != displayedLives){
+            displayedLives = lives;
+            addDirtyRegion(heartRegion);
+        }
+        int score = snapshot.getScore();
+        if(score != displayedScore){
+            displayedScore = score;
+            addDirtyRegion(scoreRegion);
+        }
+        return dirtyRegions;
+    }
+
+    /**
+     * Grows the entity region to cover an entity.
+     */
+    private void addEntity(int x, int y, int width, int height){
+        entityLeft = Math.min(entityLeft, x);
+        entityTop = Math.min(entityTop, y);
+        entityRight = Math.max(entityRight, x + width);
+        entityBottom = Math.max(entityBottom, y + height);
+    }
+
+    /**
+     * Adds a region to the dirty regions, limited to the panel.
+     */
+    private void addDirtyRegion(Rectangle region){
+        Rectangle dirty = dirtyRegionPool[dirtyRegions.size()];
+        Rectangle.intersect(region, panelBounds, dirty);
+        if(!dirty.isEmpty()){
+            dirtyRegions.add(dirty);
+        }
+    }
+
+    /**
+     * Paints the layers of a snapshot inside the clip of the given graphics.
+     *
+     * @param g2d the Graphics2D object used to draw
+     * @param snapshot The snapshot to paint
+     */
+    public void paint(Graphics2D g2d, RenderSnapshot snapshot){
+        // Without a clip, the rectangle is left as it is
+        clip.setBounds(panelBounds);
+        g2d.getClipBounds(clip);
+        Rectangle.intersect(clip, panelBounds, clip);
+        if(clip.isEmpty()){
+            return;
+        }
+
+        // Background layer
+        background.draw(g2d);
+        touch(0, 0, panelWidth, panelHeight);
+        drawCalls++;
+
+        // Entity layer, culled against the clip and grouped by image
+        renderQueue.begin(clip);
+        for (int i = 0; i < snapshot.getSpriteCount(); i++){
+            renderQueue.submit(snapshot.getKind(i), snapshot.getX(i), snapshot.getY(i),
+                    snapshot.getWidth(i), snapshot.getHeight(i));
+        }
+        renderQueue.flush(g2d);
+        pixelsTouched += renderQueue.getPixelsTouched();
+        drawCalls += renderQueue.getDrawCalls();
+        culledSprites += renderQueue.getCulledSprites();
+
+        // Particle layer, plotted once per snapshot and drawn in one call
+        particleRenderer.plot(snapshot);
+        long particlePixels = particleRenderer.draw(g2d, clip);
+        if(particlePixels > 0){
+            pixelsTouched += particlePixels;
+            drawCalls++;
+        }
+
+        // Ground layer, in front of the entities
+        if(isVisible(groundRegion.x, groundRegion.y, groundRegion.width, groundRegion.height)){
+            groundScroller.scrollTo(snapshot.getTick());
+            groundScroller.draw(g2d);
+            drawCalls++;
+        }
+
+        // HUD layer
+        headsUpDisplay.drawHeart(g2d, snapshot.getLives());
+        touch(heartRegion.x, heartRegion.y, heartRegion.width, heartRegion.height);
+        headsUpDisplay.drawScore(g2d, snapshot.getScore());
+        touch(scoreRegion.x, scoreRegion.y, scoreRegion.width, scoreRegion.height);
+        drawCalls += 2;
+    }
+
+    /**
+     * Returns whether an object overlaps the clip, counting the pixels it touches if it does.
+     *
+     * @return true if the object has to be drawn, false if it can be skipped
+     */
+    private boolean isVisible(int x, int y, int width, int height){
+        if(x - DIRTY_MARGIN >= clip.x + clip.width || x + width + DIRTY_MARGIN <= clip.x
+                || y - DIRTY_MARGIN >= clip.y + clip.height || y + height + DIRTY_MARGIN <= clip.y){
+            return false;
+        }
+        touch(x, y, width, height);
+        return true;
+    }
+
+    /**
+     * Counts the pixels of the clip covered by the given area.
+     */
+    private void touch(int x, int y, int width, int height){
+        int left = Math.max(x, clip.x);
+        int top = Math.max(y, clip.y);
+        int right = Math.min(x + width, clip.x + clip.width);
+        int bottom = Math.min(y + height, clip.y + clip.height);
+        if(right > left && bottom > top){
+            pixelsTouched += (long) (right - left) * (bottom - top);
+        }
+    }
+
+    /**
+     * Returns the number of pixels touched since the last call, and starts counting again.
+     *
+     * @return the number of pixels touched
+     */
+    public long takePixelsTouched(){
+        long pixels = pixelsTouched;
+        pixelsTouched = 0;
+        return pixels;
+    }
+
+    /**
+     * Returns the number of draw calls since the last call, and starts counting again.
+     * Each sprite counts as one, as does each cached layer.
+     *
+     * @return the number of draw calls
+     */
+    public int takeDrawCalls(){
+        int calls = drawCalls;
+        drawCalls = 0;
+        return calls;
+    }
+
+    /**
+     * Returns the number of sprites skipped for being outside the clip since the last call,
+     * and starts counting again.
+     *
+     * @return the number of culled sprites
+     */
+    public int takeCulledSprites(){
+        int culled = culledSprites;
+        culledSprites = 0;
+        return culled;
+    }
+}
@@ -0,0 +1,53 @@
+package UfoDash;
+
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+
+/**
+ * The 'LineAudioOutput' class plays the mixed sound through a 'SourceDataLine' of the sound card.
+ * The line is opened with a buffer of only a few mixer blocks, so a sound starts playing soon after
+ * it's triggered.
+ */
+public class LineAudioOutput implements AudioOutput {
+    private final SourceDataLine line;
+
+    /**
+     * Opens and starts a line in the format of the mixer.
+     *
+     * @param bufferBytes The size of the buffer of the line, in bytes
+     * @throws LineUnavailableException if the sound card has no line free for the format
+     */
+    public LineAudioOutput(int bufferBytes) throws LineUnavailableException {
+        this.line = AudioSystem.getSourceDataLine(AudioMixer.FORMAT);
+        line.open(AudioMixer.FORMAT, bufferBytes);
+        line.start();
+    }
+
+    /**
+     * Writes the samples to the line, blocking until its buffer has room for them.
+     *
+     * @param buffer The samples as 16-bit little-endian bytes
+     * @param length The number of bytes to write
+     */
+    @Override public void write(byte[] buffer, int length){
+        line.write(buffer, 0, length);
+    }
+
+    /**
+     * Stops and closes the line, releasing it for other programs.
+     */
+    @Override public void close(){
+        line.stop();
+        line.close();
+    }
+
+    /**
+     * Returns the size of the buffer the line was opened with, which may be larger than asked for.
+     *
+     * @return the buffer size in bytes
+     */
+    public int getBufferBytes() {
+        return line.getBufferSize();
+    }
+}
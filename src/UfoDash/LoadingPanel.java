@@ -0,0 +1,52 @@
+package UfoDash;
+
+import javax.swing.*;
+import java.awt.*;
+import java.io.Serial;
+
+/**
+ * The 'LoadingPanel' class is shown while the 'AssetPreloader' decodes the images of the game,
+ * before the title screen. It draws a progress bar filled to the share of decoded images.
+ */
+public class LoadingPanel extends JPanel {
+    @Serial
+    private static final long serialVersionUID = 1L;
+    private static final Color BAR_COLOR = new Color(255, 185, 0);
+    private static final Font FONT = new Font("Comic Sans MS", Font.BOLD, 40);
+    private static final int BAR_WIDTH = 400, BAR_HEIGHT = 30, BAR_BORDER = 2;
+    private final AssetPreloader assetPreloader;
+
+    /**
+     * Constructs a 'LoadingPanel' showing the progress of the given preloader.
+     *
+     * @param assetPreloader The preloader decoding the images
+     * @param panelWidth The width of the panel
+     * @param panelHeight The height of the panel
+     */
+    public LoadingPanel(AssetPreloader assetPreloader, int panelWidth, int panelHeight) {
+        this.assetPreloader = assetPreloader;
+        setPreferredSize(new Dimension(panelWidth, panelHeight));
+        setBackground(Color.BLACK);
+    }
+
+    /**
+     * Draws the text and the progress bar in the middle of the panel.
+     *
+     * @param g the Graphics object used for drawing
+     */
+    @Override protected void paintComponent(final Graphics g) {
+        super.paintComponent(g);
+        int barX = (getWidth() - BAR_WIDTH) / 2;
+        int barY = (getHeight() - BAR_HEIGHT) / 2;
+
+        g.setColor(BAR_COLOR);
+        g.setFont(FONT);
+        String text = "Loading...";
+        int textWidth = g.getFontMetrics().stringWidth(text);
+        g.drawString(text, (getWidth() - textWidth) / 2, barY - BAR_HEIGHT);
+
+        g.drawRect(barX, barY, BAR_WIDTH, BAR_HEIGHT);
+        int filledWidth = (int) ((BAR_WIDTH - 2 * BAR_BORDER) * assetPreloader.getProgress());
+        g.fillRect(barX + BAR_BORDER, barY + BAR_BORDER, filledWidth, BAR_HEIGHT - 2 * BAR_BORDER + 1);
+    }
+}
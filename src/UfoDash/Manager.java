@@ -1,18 +1,15 @@
 package UfoDash;
 
-import javax.swing.*;
-import java.awt.event.ActionEvent;
 import java.util.Random;
 
 /**
- * Abstract base class for managing spawning of game objects.
- * Provides methods to start and stop spawning, and handle common spawning logic.
+ * Abstract base class for managing the objects of one kind.
+ * Objects are spawned where the 'ObstacleCourse' places them; 'spawn' places one at random,
+ * for the tools that fill the game with objects.
  */
 public abstract class Manager implements Drawable{
     protected int panelWidth, panelHeight, groundHeight;
-    protected boolean spawnerStarted = false;
-    protected Timer timer = null;
-    protected static final Random RANDOM = new Random();
+    protected final Random random;
 
     /**
      * Constructs the 'Manager' with specified dimensions.
@@ -20,60 +17,24 @@ public abstract class Manager implements Drawable{
      * @param panelWidth The width of the game panel
      * @param panelHeight The height of the game panel
      * @param groundHeight The height of the ground
+     * @param random The random generator used by 'spawn', owned by a single game
      */
-    protected Manager(final int panelWidth, final int panelHeight, final int groundHeight) {
+    protected Manager(final int panelWidth, final int panelHeight, final int groundHeight, final Random random) {
         this.panelWidth = panelWidth;
         this.panelHeight = panelHeight;
         this.groundHeight = groundHeight;
+        this.random = random;
     }
 
     /**
-     * Starts the spawning process if it's not already running.
-     * Uses timer to periodically create new objects based on the spawn interval.
+     * Resets the manager for a new game by removing all objects.
+     * Subclasses also reset their own state, keeping their lists and loaded images.
      */
-    public void startSpawner(){
-        if(!spawnerStarted){
-            final Action spawner = new AbstractAction(){
-                @Override public void actionPerformed(final ActionEvent e) {
-                    spawn();
-                }
-            };
-            timer = new Timer(getSpawnerInterval(), spawner);
-            timer.setCoalesce(true);
-            timer.start();
-            spawnerStarted = true;
-        }
-    }
-
-    /**
-     * Stop spawning process if it's running.
-     */
-    public void stopSpawner(){
-        if(spawnerStarted && timer != null){
-            timer.stop();
-            spawnerStarted = false;
-        }
-    }
-
-    /**
-     * Returns if the spawning process has started.
-     *
-     * @return true if spawner is started, false otherwise
-     */
-    public boolean isSpawnerStarted() {
-        return spawnerStarted;
-    }
-
-    /**
-     * Abstract method to define how often new objects should be spawned.
-     *
-     * @return the interval between spawns in milliseconds
-     */
-    public abstract int getSpawnerInterval();
+    public abstract void reset();
 
     /**
-     * Abstract method to spawn new objects. This method should be implemented by subclasses
-     * to specify what type of objects to spawn.
+     * Abstract method to spawn a new object at a random place at the right edge of the screen.
+     * This method should be implemented by subclasses to specify what type of objects to spawn.
      */
     public abstract void spawn();
 
@@ -0,0 +1,53 @@
+package UfoDash;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The 'NullAudioOutput' class discards the mixed sound, at the speed it would have been played.
+ * It stands in for the sound card when there is none or sound is turned off, such as in headless runs,
+ * so the mixer runs exactly as it would with sound and the number of samples written can be checked.
+ */
+public class NullAudioOutput implements AudioOutput {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    /** After a stall longer than this, the output catches up with the clock instead of racing to make up for it. */
+    private static final long MAX_LAG_NANOS = NANOS_PER_SECOND / 10;
+
+    private long nextWriteNanos = 0;
+    private volatile long writtenFrames = 0;
+
+    /**
+     * Discards the samples, after waiting until the previously written samples would have been played.
+     *
+     * @param buffer The samples as 16-bit little-endian bytes
+     * @param length The number of bytes to write
+     */
+    @Override public void write(byte[] buffer, int length){
+        int frames = length / AudioMixer.FORMAT.getFrameSize();
+        long now = System.nanoTime();
+        if(nextWriteNanos == 0 || now - nextWriteNanos > MAX_LAG_NANOS){
+            nextWriteNanos = now;
+        }
+        // Waits until the previous samples would have been played
+        if(nextWriteNanos > now){
+            LockSupport.parkNanos(nextWriteNanos - now);
+        }
+        nextWriteNanos += frames * NANOS_PER_SECOND / AudioMixer.SAMPLE_RATE;
+        writtenFrames += frames;
+    }
+
+    /**
+     * Restarts the pacing, so the next write doesn't wait.
+     */
+    @Override public void close(){
+        nextWriteNanos = 0;
+    }
+
+    /**
+     * Returns the number of sample frames written to the output.
+     *
+     * @return the written frames
+     */
+    public long getWrittenFrames() {
+        return writtenFrames;
+    }
+}
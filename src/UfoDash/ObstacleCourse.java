@@ -0,0 +1,130 @@
+package UfoDash;
+
+/**
+ * The 'ObstacleCourse' class spawns the objects of the course laid out by the 'CourseGenerator'
+ * as the camera reaches them. The chunks of the course are placed one after the other in the world:
+ * asteroids are spawned at their place in the world, enemies and power-ups at the right edge of the screen
+ * when it gets to their place, and power-ups only while the player is down to one life.
+ * <p>
+ * If the generator falls behind, the next chunk is moved along the world to where the camera is when
+ * it arrives, so its objects never appear in the middle of the screen. The late chunks are counted.
+ */
+public class ObstacleCourse {
+    private final CourseGenerator generator;
+    private final Camera camera;
+    private final Player player;
+    private final AsteroidManager asteroidManager;
+    private final EnemyManager enemyManager;
+    private final PowerUpManager powerUpManager;
+    private final int panelWidth;
+
+    private CourseChunk chunk = null;
+    private int chunkX, nextChunkX;
+    private int pairCursor, enemyCursor, powerUpCursor;
+    private volatile long lateChunks = 0;
+
+    /**
+     * Constructs an 'ObstacleCourse' spawning the objects of the given generator into the managers.
+     *
+     * @param generator The generator laying out the course
+     * @param camera The camera scrolling along the course
+     * @param player The player, whose lives decide whether power-ups are spawned
+     * @param asteroidManager The manager of the asteroids
+     * @param enemyManager The manager of the enemies
+     * @param powerUpManager The manager of the power-ups
+     * @param panelWidth The width of the game panel
+     */
+    public ObstacleCourse(CourseGenerator generator, Camera camera, Player player, AsteroidManager asteroidManager,
+                          EnemyManager enemyManager, PowerUpManager powerUpManager, int panelWidth) {
+        this.generator = generator;
+        this.camera = camera;
+        this.player = player;
+        this.asteroidManager = asteroidManager;
+        this.enemyManager = enemyManager;
+        this.powerUpManager = powerUpManager;
+        this.panelWidth = panelWidth;
+        this.nextChunkX = panelWidth;
+    }
+
+    /**
+     * Starts a new course at the start of the world, for a new game.
+     *
+     * @param seed The seed of the new course
+     */
+    public void restart(long seed){
+        generator.restart(seed);
+        chunk = null;
+        nextChunkX = camera.toWorldX(panelWidth);
+    }
+
+    /**
+     * Spawns the objects the right edge of the screen has reached, taking new chunks as they're needed.
+     * Called once per tick, before the camera scrolls.
+     */
+    public void update(){
+        int edgeX = camera.toWorldX(panelWidth);
+        while (true){
+            if(chunk == null){
+                if(edgeX < nextChunkX || (chunk = generator.poll()) == null){
+                    return;
+                }
+                // A chunk that arrives after its objects were due is moved to where the camera is now
+                chunkX = Math.max(nextChunkX, edgeX - chunk.getLeadIn());
+                if(chunkX > nextChunkX){
+                    lateChunks++;
+                }
+                nextChunkX = chunkX + chunk.length();
+                pairCursor = 0;
+                enemyCursor = 0;
+                powerUpCursor = 0;
+            }
+            spawnDue(edgeX);
+            if(pairCursor < chunk.pairX().length || enemyCursor < chunk.enemyX().length
+                    || powerUpCursor < chunk.powerUpX().length){
+                return;
+            }
+            chunk = null;
+        }
+    }
+
+    /**
+     * Spawns the objects of the current chunk that the right edge of the screen has reached.
+     */
+    private void spawnDue(int edgeX){
+        int[] pairX = chunk.pairX();
+        while (pairCursor < pairX.length && chunkX + pairX[pairCursor] <= edgeX){
+            asteroidManager.spawnPair(chunkX + pairX[pairCursor], chunk.pairTopY()[pairCursor]);
+            pairCursor++;
+        }
+        int[] enemyX = chunk.enemyX();
+        while (enemyCursor < enemyX.length && chunkX + enemyX[enemyCursor] <= edgeX){
+            enemyManager.spawn(chunk.enemyY()[enemyCursor], chunk.enemies()[enemyCursor]);
+            enemyCursor++;
+        }
+        int[] powerUpX = chunk.powerUpX();
+        while (powerUpCursor < powerUpX.length && chunkX + powerUpX[powerUpCursor] <= edgeX){
+            if(player.getLives() == 1){
+                powerUpManager.spawn(chunk.powerUpY()[powerUpCursor], chunk.powerUps()[powerUpCursor]);
+            }
+            powerUpCursor++;
+        }
+    }
+
+    /**
+     * Returns the generator laying out the course.
+     *
+     * @return the 'CourseGenerator' object
+     */
+    public CourseGenerator getGenerator() {
+        return generator;
+    }
+
+    /**
+     * Returns the number of chunks that arrived from the generator after their objects were due.
+     *
+     * @return the number of late chunks
+     */
+    public long getLateChunks() {
+        return lateChunks;
+    }
+}
@@ -0,0 +1,71 @@
+package UfoDash;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * The 'OffscreenRenderer' class draws a snapshot of the game into an image instead
+ * of a window, so frames can be rendered headless and at any resolution. The game is drawn
+ * at the size of the panel and scaled to the size of the target image.
+ * It has to be used on the thread rendering the panel's snapshots.
+ */
+public class OffscreenRenderer {
+    private final GamePanel gamePanel;
+    private final GameStateHandler gameStateHandler;
+    private final int panelWidth, panelHeight;
+
+    /**
+     * Constructs an 'OffscreenRenderer' for the game shown by the given panel.
+     *
+     * @param gamePanel The panel publishing the snapshots of the game
+     * @param gameStateHandler The handler drawing the game states
+     * @param panelWidth The width of the game panel
+     * @param panelHeight The height of the game panel
+     */
+    public OffscreenRenderer(GamePanel gamePanel, GameStateHandler gameStateHandler, int panelWidth, int panelHeight) {
+        this.gamePanel = gamePanel;
+        this.gameStateHandler = gameStateHandler;
+        this.panelWidth = panelWidth;
+        this.panelHeight = panelHeight;
+    }
+
+    /**
+     * Creates a new opaque image of the given size and renders the current frame into it.
+     *
+     * @param width The width of the image
+     * @param height The height of the image
+     * @return the rendered frame
+     */
+    public BufferedImage render(int width, int height){
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        render(image);
+        return image;
+    }
+
+    /**
+     * Acquires the latest snapshot of the panel and renders it into the given image, scaled to fill it.
+     * Only used when nothing else renders the panel's snapshots, such as in a headless capture.
+     *
+     * @param image The image to render into
+     */
+    public void render(BufferedImage image){
+        render(image, gamePanel.acquireSnapshot());
+    }
+
+    /**
+     * Renders the given snapshot into the given image, scaled to fill it. Drawing goes through the
+     * game states, so it must not be used on a snapshot the panel renders as well.
+     *
+     * @param image The image to render into
+     * @param snapshot The snapshot to render
+     */
+    public void render(BufferedImage image, RenderSnapshot snapshot){
+        Graphics2D g2d = image.createGraphics();
+        if(image.getWidth() != panelWidth || image.getHeight() != panelHeight){
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2d.scale((double) image.getWidth() / panelWidth, (double) image.getHeight() / panelHeight);
+        }
+        gameStateHandler.draw(g2d, snapshot);
+        g2d.dispose();
+    }
+}
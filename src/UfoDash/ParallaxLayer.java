@@ -0,0 +1,102 @@
+package UfoDash;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * The 'ParallaxLayer' class is one horizontally scrolling layer of the scenery.
+ * Its image is scaled once into a seamless strip the size of the layer, and the layer
+ * keeps an offset into the strip. Drawing copies the part of the strip right of the offset,
+ * followed by the part left of it, so a frame takes at most two blits and no scaling.
+ */
+public class ParallaxLayer implements Drawable {
+    private final BufferedImage strip;
+    private final Color fallbackColor;
+    private final int y, width, height, speed;
+    private int offset;
+
+    /**
+     * Constructs a 'ParallaxLayer' covering the given band of the panel.
+     *
+     * @param image The image of the layer, or null to fill the band with the fallback color
+     * @param y The y-coordinate of the top of the layer
+     * @param width The width of the layer, which is also the length of one scroll cycle
+     * @param height The height of the layer
+     * @param speed The number of pixels the layer scrolls left per update, 0 for a static layer
+     * @param translucent True if the image has transparent parts, false for an opaque layer
+     * @param fallbackColor The color used when the image is not available
+     */
+    public ParallaxLayer(Image image, int y, int width, int height, int speed, boolean translucent,
+                         Color fallbackColor) {
+        this.strip = image != null ? CompatibleImages.scaled(image, width, height, translucent) : null;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+        this.speed = speed;
+        this.fallbackColor = fallbackColor;
+        this.offset = 0;
+    }
+
+    /**
+     * Scrolls the layer left by its speed, wrapping around at the end of the strip.
+     */
+    @Override public void update() {
+        offset += speed;
+        if(offset >= width){
+            offset -= width;
+        }
+    }
+
+    /**
+     * Draws the layer. If the image is not available, the band is filled with the fallback color.
+     *
+     * @param g the Graphics object used to draw
+     */
+    @Override public void draw(Graphics g) {
+        if(strip == null){
+            g.setColor(fallbackColor);
+            g.fillRect(0, y, width, height);
+            return;
+        }
+        int firstWidth = width - offset;
+        g.drawImage(strip, 0, y, firstWidth, y + height, offset, 0, width, height, null);
+        if(offset > 0){
+            g.drawImage(strip, firstWidth, y, width, y + height, 0, 0, offset, height, null);
+        }
+    }
+
+    /**
+     * Moves the layer to where it is after the given number of updates, so a layer
+     * can be drawn for any tick of a game without being updated along with it.
+     *
+     * @param updates The number of updates since the start of the strip
+     */
+    public void scrollTo(long updates) {
+        offset = (int) (updates * speed % width);
+    }
+
+    /**
+     * Moves the layer back to the start of its strip.
+     */
+    public void reset() {
+        offset = 0;
+    }
+
+    /**
+     * Returns whether the layer moves between updates.
+     *
+     * @return true if the layer scrolls, false if it's static
+     */
+    public boolean isScrolling() {
+        return speed != 0;
+    }
+
+    /**
+     * Sets the given rectangle to the band covered by the layer.
+     *
+     * @param bounds The rectangle to set
+     */
+    public void getBounds(Rectangle bounds) {
+        bounds.setBounds(0, y, width, height);
+    }
+}
@@ -0,0 +1,87 @@
+package UfoDash;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The 'ParallaxScroller' class draws a stack of 'ParallaxLayer's from back to front,
+ * each moving at its own speed, so distant layers can scroll slower than near ones.
+ * It is used for the title screen background as well as the scenery of the game.
+ */
+public class ParallaxScroller implements Drawable {
+    private final List<ParallaxLayer> layers = new ArrayList<>();
+    private final Rectangle layerBounds = new Rectangle();
+
+    /**
+     * Adds a layer in front of the layers added before it.
+     *
+     * @param layer The layer to add
+     * @return this scroller, to chain further layers
+     */
+    public ParallaxScroller addLayer(ParallaxLayer layer) {
+        layers.add(layer);
+        return this;
+    }
+
+    /**
+     * Draws every layer, from back to front.
+     *
+     * @param g the Graphics object used to draw
+     */
+    @Override public void draw(Graphics g) {
+        for (int i = 0; i < layers.size(); i++){
+            layers.get(i).draw(g);
+        }
+    }
+
+    /**
+     * Scrolls every layer by its own speed.
+     */
+    @Override public void update() {
+        for (int i = 0; i < layers.size(); i++){
+            layers.get(i).update();
+        }
+    }
+
+    /**
+     * Moves every layer to where it is after the given number of updates.
+     *
+     * @param updates The number of updates since the start of the strips
+     */
+    public void scrollTo(long updates) {
+        for (int i = 0; i < layers.size(); i++){
+            layers.get(i).scrollTo(updates);
+        }
+    }
+
+    /**
+     * Moves every layer back to the start of its strip.
+     */
+    public void reset() {
+        for (int i = 0; i < layers.size(); i++){
+            layers.get(i).reset();
+        }
+    }
+
+    /**
+     * Sets the given rectangle to the area covered by the scrolling layers,
+     * which is the area that changes with every update. Static layers are left out.
+     *
+     * @param bounds The rectangle to set, left empty if no layer scrolls
+     */
+    public void getScrollingBounds(Rectangle bounds) {
+        bounds.setBounds(0, 0, 0, 0);
+        for (int i = 0; i < layers.size(); i++){
+            ParallaxLayer layer = layers.get(i);
+            if(layer.isScrolling()){
+                layer.getBounds(layerBounds);
+                if(bounds.isEmpty()){
+                    bounds.setBounds(layerBounds);
+                }else{
+                    bounds.add(layerBounds);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package UfoDash;
+
+/**
+ * The 'ParticleEmitter' enum lists the particle effects of the game: the burst of an enemy that is shot,
+ * the exhaust of the UFO when it jumps and the sparkle of a picked-up power-up.
+ * Each emitter gives how many particles a burst has, in which directions and how fast they fly,
+ * how long they live and the colors they're picked from.
+ */
+public enum ParticleEmitter {
+    EXPLOSION(160, 1.0f, 6.0f, 0, (float) (Math.PI * 2), 45, 0xFFFFF4C0, 0xFFFFC040, 0xFFFF7020, 0xFFD02010),
+    THRUSTER(24, 2.0f, 5.0f, (float) (Math.PI * 0.65), 0.8f, 20, 0xFFFFFFFF, 0xFF80E0FF, 0xFF3090FF),
+    PICKUP(60, 0.5f, 3.0f, 0, (float) (Math.PI * 2), 35, 0xFFFFFFFF, 0xFF90FF90, 0xFFFFE060);
+
+    private final int count;
+    private final float minSpeed, maxSpeed, direction, spread;
+    private final int lifetime;
+    private final int[] colors;
+
+    /**
+     * @param count The number of particles of a burst
+     * @param minSpeed The lowest speed of a particle, in pixels per tick
+     * @param maxSpeed The highest speed of a particle, in pixels per tick
+     * @param direction The angle the particles fly at on average, in radians clockwise from the right
+     * @param spread The range of angles around the direction, in radians
+     * @param lifetime The longest a particle lives, in ticks
+     * @param colors The colors the particles are picked from, as opaque ARGB
+     */
+    ParticleEmitter(int count, float minSpeed, float maxSpeed, float direction, float spread, int lifetime,
+                    int... colors) {
+        this.count = count;
+        this.minSpeed = minSpeed;
+        this.maxSpeed = maxSpeed;
+        this.direction = direction;
+        this.spread = spread;
+        this.lifetime = lifetime;
+        this.colors = colors;
+    }
+
+    /**
+     * Returns the number of particles of a burst.
+     *
+     * @return the particle count
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the lowest speed of a particle.
+     *
+     * @return the speed in pixels per tick
+     */
+    public float getMinSpeed() {
+        return minSpeed;
+    }
+
+    /**
+     * Returns the highest speed of a particle.
+     *
+     * @return the speed in pixels per tick
+     */
+    public float getMaxSpeed() {
+        return maxSpeed;
+    }
+
+    /**
+     * Returns the angle the particles fly at on average.
+     *
+     * @return the angle in radians, clockwise from the right
+     */
+    public float getDirection() {
+        return direction;
+    }
+
+    /**
+     * Returns the range of angles around the direction.
+     *
+     * @return the spread in radians
+     */
+    public float getSpread() {
+        return spread;
+    }
+
+    /**
+     * Returns the longest a particle lives. Each particle lives between half of it and all of it.
+     *
+     * @return the lifetime in ticks
+     */
+    public int getLifetime() {
+        return lifetime;
+    }
+
+    /**
+     * Returns one of the colors of the emitter.
+     *
+     * @param index Any non-negative number, wrapped to the colors of the emitter
+     * @return the color as opaque ARGB
+     */
+    public int getColor(int index) {
+        return colors[index % colors.length];
+    }
+}
@@ -0,0 +1,131 @@
+package UfoDash;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+
+/**
+ * The 'ParticleRenderer' class draws the particles of a snapshot as a batch. Drawing tens of thousands
+ * of particles one call at a time would cost more than the rest of the frame, so instead they're plotted
+ * straight into the pixels of a transparent overlay the size of the panel, and the overlay is drawn
+ * in one call over the part of the clip the particles cover.
+ *
+ * A snapshot is plotted once, however many regions it's painted in, and only the area the previous
+ * particles covered is cleared before the next ones are plotted.
+ */
+public class ParticleRenderer {
+    /** The width and height of a particle, in pixels. */
+    public static final int PARTICLE_SIZE = 2;
+
+    private final int width, height;
+    private final BufferedImage overlay;
+    private final int[] pixels;
+    private final Rectangle visible = new Rectangle();
+    private int left, top, right, bottom;
+    private int plottedGameNumber = -1;
+    private long plottedTick = -1;
+
+    /**
+     * Constructs a 'ParticleRenderer' for a panel of the given size.
+     *
+     * @param width The width of the game panel
+     * @param height The height of the game panel
+     */
+    public ParticleRenderer(int width, int height) {
+        this.width = width;
+        this.height = height;
+        // A premultiplied overlay is blended without converting every pixel first
+        this.overlay = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+        this.pixels = ((DataBufferInt) overlay.getRaster().getDataBuffer()).getData();
+    }
+
+    /**
+     * Plots the particles of a snapshot into the overlay, unless they're already plotted.
+     * Particles outside the panel are skipped.
+     *
+     * @param snapshot The snapshot to plot
+     */
+    public void plot(RenderSnapshot snapshot){
+        if(snapshot.getGameNumber() == plottedGameNumber && snapshot.getTick() == plottedTick){
+            return;
+        }
+        plottedGameNumber = snapshot.getGameNumber();
+        plottedTick = snapshot.getTick();
+        clear();
+
+        int newLeft = width, newTop = height, newRight = 0, newBottom = 0;
+        for (int i = 0; i < snapshot.getParticleCount(); i++){
+            int x = snapshot.getParticleX(i), y = snapshot.getParticleY(i);
+            if(x < 0 || y < 0 || x > width - PARTICLE_SIZE || y > height - PARTICLE_SIZE){
+                continue;
+            }
+            int color = snapshot.getParticleColor(i);
+            int offset = y * width + x;
+            pixels[offset] = color;
+            pixels[offset + 1] = color;
+            pixels[offset + width] = color;
+            pixels[offset + width + 1] = color;
+            newLeft = Math.min(newLeft, x);
+            newTop = Math.min(newTop, y);
+            newRight = Math.max(newRight, x + PARTICLE_SIZE);
+            newBottom = Math.max(newBottom, y + PARTICLE_SIZE);
+        }
+        left = newLeft;
+        top = newTop;
+        right = newRight;
+        bottom = newBottom;
+    }
+
+    /**
+     * Clears the area of the overlay covered by the plotted particles.
+     */
+    private void clear(){
+        for (int y = top; y < bottom; y++){
+            int offset = y * width;
+            Arrays.fill(pixels, offset + left, offset + right, 0);
+        }
+        right = 0;
+        bottom = 0;
+    }
+
+    /**
+     * Returns whether no particle is plotted.
+     *
+     * @return true if the overlay is empty, false otherwise
+     */
+    public boolean isEmpty(){
+        return right <= left || bottom <= top;
+    }
+
+    /**
+     * Gives the area covered by the plotted particles.
+     *
+     * @param bounds The rectangle set to the area, or to an empty rectangle if no particle is plotted
+     */
+    public void getBounds(Rectangle bounds){
+        if(isEmpty()){
+            bounds.setBounds(0, 0, 0, 0);
+        }else{
+            bounds.setBounds(left, top, right - left, bottom - top);
+        }
+    }
+
+    /**
+     * Draws the plotted particles that lie inside the given clip.
+     *
+     * @param g the Graphics object used to draw
+     * @param clip The area to draw in
+     * @return the number of pixels of the clip covered by the overlay that was drawn, 0 if nothing was drawn
+     */
+    public long draw(Graphics g, Rectangle clip){
+        getBounds(visible);
+        Rectangle.intersect(visible, clip, visible);
+        if(visible.isEmpty()){
+            return 0;
+        }
+        int x2 = visible.x + visible.width, y2 = visible.y + visible.height;
+        g.drawImage(overlay, visible.x, visible.y, x2, y2, visible.x, visible.y, x2, y2, null);
+        return (long) visible.width * visible.height;
+    }
+}
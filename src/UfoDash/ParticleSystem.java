@@ -0,0 +1,182 @@
+package UfoDash;
+
+import java.util.Arrays;
+
+/**
+ * The 'ParticleSystem' class moves the particles of the effects of a game, such as explosions and the
+ * exhaust of the UFO. Particles aren't objects: each one is a slot in a set of primitive arrays
+ * holding its position, velocity, remaining life and color, so emitting, moving and removing particles
+ * never allocates, however many there are. The arrays start small and double when a burst doesn't fit,
+ * up to the capacity, so the many games of the batch simulator don't each hold the full capacity.
+ *
+ * The live particles are kept at the front of the arrays. A particle that dies is replaced by the last live one,
+ * so removing it takes constant time and updating walks the arrays front to back. When every slot is taken,
+ * the rest of a burst is dropped. Particles get their own random generator, so effects never change
+ * the random numbers of the game, and a seeded game plays the same with or without them.
+ */
+public class ParticleSystem {
+    /** The most particles alive at once. */
+    public static final int CAPACITY = 1 << 16;
+    /** The share of its velocity a particle keeps from one tick to the next. */
+    private static final float DRAG = 0.96f;
+    private static final int RANDOM_SEED = 0x2545F491;
+    /** The slots the arrays start with, enough for the effects of most games. */
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    private float[] xs = new float[INITIAL_CAPACITY], ys = new float[INITIAL_CAPACITY];
+    private float[] velocitiesX = new float[INITIAL_CAPACITY], velocitiesY = new float[INITIAL_CAPACITY];
+    private int[] lives = new int[INITIAL_CAPACITY], lifetimes = new int[INITIAL_CAPACITY], colors = new int[INITIAL_CAPACITY];
+    private int count = 0;
+    private int randomState = RANDOM_SEED;
+    private long droppedParticles = 0;
+
+    /**
+     * Emits a burst of particles from the given point.
+     *
+     * @param emitter The effect to emit
+     * @param x The x-coordinate of the point
+     * @param y The y-coordinate of the point
+     */
+    public void emit(ParticleEmitter emitter, float x, float y){
+        int burst = emitter.getCount();
+        if(burst > xs.length - count && xs.length < CAPACITY){
+            grow(count + burst);
+        }
+        if(burst > CAPACITY - count){
+            droppedParticles += burst - (CAPACITY - count);
+            burst = CAPACITY - count;
+        }
+        float speedRange = emitter.getMaxSpeed() - emitter.getMinSpeed();
+        float firstAngle = emitter.getDirection() - emitter.getSpread() / 2;
+        int lifetime = emitter.getLifetime();
+        for (int i = 0; i < burst; i++){
+            float angle = firstAngle + nextFloat() * emitter.getSpread();
+            float speed = emitter.getMinSpeed() + nextFloat() * speedRange;
+            xs[count] = x;
+            ys[count] = y;
+            velocitiesX[count] = (float) Math.cos(angle) * speed;
+            velocitiesY[count] = (float) Math.sin(angle) * speed;
+            // Particles of a burst die over the second half of the lifetime, so it fades out instead of vanishing
+            lives[count] = lifetime - (int) (nextFloat() * (lifetime / 2));
+            lifetimes[count] = lifetime;
+            colors[count] = emitter.getColor(nextInt());
+            count++;
+        }
+    }
+
+    /**
+     * Doubles the slots until the given number of particles fits, or the capacity is reached.
+     * The live particles are copied, the rest of the old arrays is dropped.
+     */
+    private void grow(int needed){
+        int capacity = xs.length;
+        while (capacity < needed && capacity < CAPACITY){
+            capacity *= 2;
+        }
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        velocitiesX = Arrays.copyOf(velocitiesX, capacity);
+        velocitiesY = Arrays.copyOf(velocitiesY, capacity);
+        lives = Arrays.copyOf(lives, capacity);
+        lifetimes = Arrays.copyOf(lifetimes, capacity);
+        colors = Arrays.copyOf(colors, capacity);
+    }
+
+    /**
+     * Moves every particle by one tick, and removes the particles that died.
+     */
+    public void update(){
+        int i = 0;
+        while (i < count){
+            if(--lives[i] <= 0){
+                count--;
+                moveParticle(count, i);
+                continue;
+            }
+            velocitiesX[i] *= DRAG;
+            velocitiesY[i] *= DRAG;
+            xs[i] += velocitiesX[i];
+            ys[i] += velocitiesY[i];
+            i++;
+        }
+    }
+
+    /**
+     * Copies a particle into another slot.
+     */
+    private void moveParticle(int from, int to){
+        xs[to] = xs[from];
+        ys[to] = ys[from];
+        velocitiesX[to] = velocitiesX[from];
+        velocitiesY[to] = velocitiesY[from];
+        lives[to] = lives[from];
+        lifetimes[to] = lifetimes[from];
+        colors[to] = colors[from];
+    }
+
+    /**
+     * Removes every particle and restarts the random generator, for a new game. The slots are kept.
+     */
+    public void reset(){
+        count = 0;
+        randomState = RANDOM_SEED;
+    }
+
+    /**
+     * Adds every particle to the given render snapshot, faded out by how much of its life has passed.
+     *
+     * @param snapshot The snapshot being captured
+     */
+    public void capture(RenderSnapshot snapshot){
+        snapshot.setParticleCount(count);
+        for (int i = 0; i < count; i++){
+            int alpha = lives[i] * 255 / lifetimes[i];
+            snapshot.setParticle(i, (int) xs[i], (int) ys[i], premultiply(colors[i], alpha));
+        }
+    }
+
+    /**
+     * Returns an opaque color with the given alpha, with its color channels multiplied by the alpha.
+     */
+    private static int premultiply(int color, int alpha){
+        int red = ((color >> 16) & 0xFF) * alpha / 255;
+        int green = ((color >> 8) & 0xFF) * alpha / 255;
+        int blue = (color & 0xFF) * alpha / 255;
+        return (alpha << 24) | (red << 16) | (green << 8) | blue;
+    }
+
+    /**
+     * Returns the next random number of the xorshift generator of the particles.
+     */
+    private int nextInt(){
+        randomState ^= randomState << 13;
+        randomState ^= randomState >>> 17;
+        randomState ^= randomState << 5;
+        return randomState & Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns a random number from 0 inclusive to 1 exclusive.
+     */
+    private float nextFloat(){
+        return (nextInt() >>> 7) * 0x1.0p-24f;
+    }
+
+    /**
+     * Returns the number of live particles.
+     *
+     * @return the particle count
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the number of particles dropped because every slot was taken.
+     *
+     * @return the number of dropped particles
+     */
+    public long getDroppedParticles() {
+        return droppedParticles;
+    }
+}
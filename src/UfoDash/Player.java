@@ -1,10 +1,6 @@
 package UfoDash;
 
-import javax.imageio.ImageIO;
-import javax.swing.*;
 import java.awt.*;
-import java.io.IOException;
-import java.net.URL;
 
 /**
  * The 'Player' class represents the main character controlled by the player.
@@ -12,60 +8,48 @@ import java.net.URL;
  * such as movement, jumping, activating shields and handling collisions.
  */
 public class Player extends GameObjects{
-    private static final int SHIELD_GAP = 10;
-    private static final int SHIELD_ARC_ANGLE = 360;
     private static final int DEFAULT_HEIGHT = 70;
     private static final int DEFAULT_WIDTH = 90;
     private static final int MAX_LIVES = 3;
     private static final int COLLISION_DURATION = 200;
-    private static final int JUMP_STRENGTH = -15;
-    private static final int MAX_VELOCITY_Y = 15;
 
     private int velocityY;
-    private Image playerImg, playerCollidedImg;
+    private Image playerImg;
     private int lives = MAX_LIVES;
     private boolean isShieldActive = false;
     private boolean isCollided = false;
-    private Timer shieldTimer = null, collisionTimer = null;
+    private boolean isInvulnerable = false;
+    private int jumpStrength, maxFallSpeed;
+    private final int startX, startY;
+    private final GameTimer shieldTimer, collisionTimer;
     private ScoreHandler scoreHandler;
+    private final ParticleSystem particleSystem;
+    private final AudioMixer audioMixer;
 
     /**
      * Constructs a 'Player' object with the specified starting position.
-     * It also loads the player's images.
+     * It also loads the player's image.
      *
      * @param startX The initial x-coordinate of the player
      * @param startY The initial y-coordinate of the player
+     * @param gameClock The clock of the game that times the player's effects
+     * @param scoreHandler The score handler keeping the player's score
+     * @param definition The jump strength and fall speed of the player
+     * @param particleSystem The particle system the exhaust of the UFO is emitted into
+     * @param audioMixer The mixer playing the sounds of jumping and shooting
      */
-    public Player(int startX, int startY) {
+    public Player(int startX, int startY, GameClock gameClock, ScoreHandler scoreHandler,
+                  GameDefinitions.PlayerDefinition definition, ParticleSystem particleSystem, AudioMixer audioMixer) {
         super(startX, startY, DEFAULT_WIDTH, DEFAULT_HEIGHT, "ufo.png");
         this.playerImg = getImage();
-        this.playerCollidedImg = loadCollidedImage("ufoCollision.png");
-        this.scoreHandler = new ScoreHandler();
-    }
-
-    /**
-     * Loads the image to be used when the player is in a collision state.
-     *
-     * @param imagePath The path to the collision image
-     * @return the loaded image, or null if the image can't be found or loaded
-     */
-    private Image loadCollidedImage(String imagePath){
-        Image img = null;
-        try {
-            URL imageURL = ClassLoader.getSystemResource("images/" + imagePath);
-            if(imageURL != null){
-                img = ImageIO.read(imageURL);
-                if(img == null){
-                    System.err.println("Failed to load image: " + imagePath);
-                }
-            }else {
-                System.err.println("Image not found: " + imagePath);
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-            return img;
-        }
-        return img;
+        this.startX = startX;
+        this.startY = startY;
+        this.shieldTimer = gameClock.createTimer(() -> isShieldActive = false);
+        this.collisionTimer = gameClock.createTimer(() -> isCollided = false);
+        this.scoreHandler = scoreHandler;
+        this.particleSystem = particleSystem;
+        this.audioMixer = audioMixer;
+        setDefinition(definition);
     }
 
     /**
@@ -77,31 +61,56 @@ public class Player extends GameObjects{
      * @param g the Graphics object used to draw the object
      */
     @Override public void draw(final Graphics g) {
-        // Choose the correct image based on the collision state
-        if (playerImg != null) {
-            if(isCollided && !isShieldActive){
-                g.drawImage(playerCollidedImg, x, y, null);
-            }else{
-                g.drawImage(playerImg, x, y, null);
-            }
-        }else{
-            g.setColor(Color.GREEN);
-            g.fillRect(x, y, getWidth(), getHeight());
+        getSpriteKind().draw(g, x, y, getWidth(), getHeight());
+        if(isShieldActive){
+            SpriteKind.SHIELD.draw(g, x, y, getWidth(), getHeight());
         }
+    }
 
-        // Draw shield if it's active
+    /**
+     * Adds the player, and its shield if it's active, to the given render snapshot.
+     *
+     * @param snapshot The snapshot being captured
+     */
+    public void capture(RenderSnapshot snapshot){
+        snapshot.addSprite(getSpriteKind(), x, y, getWidth(), getHeight());
         if(isShieldActive){
-            g.setColor(Color.CYAN);
-            g.drawArc(x - SHIELD_GAP, y - SHIELD_GAP, getWidth() + SHIELD_GAP * 2, getHeight() + SHIELD_GAP * 2, 0, SHIELD_ARC_ANGLE);
+            snapshot.addSprite(SpriteKind.SHIELD, x, y, getWidth(), getHeight());
         }
     }
 
+    /**
+     * Returns the kind of sprite the player is drawn as, which depends on the collision state.
+     *
+     * @return the sprite kind of the player
+     */
+    private SpriteKind getSpriteKind(){
+        return isCollided && !isShieldActive ? SpriteKind.PLAYER_COLLIDED : SpriteKind.PLAYER;
+    }
+
+    /**
+     * Puts the player back at the start for a new game, with full lives, no effects and no score.
+     * The images and the loaded best score are kept.
+     */
+    public void reset(){
+        x = startX;
+        y = startY;
+        velocityY = 0;
+        lives = MAX_LIVES;
+        isShieldActive = false;
+        isCollided = false;
+        shieldTimer.cancel();
+        collisionTimer.cancel();
+        scoreHandler.resetCurrentScore();
+    }
+
     /**
      * Updates the player's x-position by applying gravity.
+     * The shield and collision effects are ended by their timers.
      */
     @Override public void update(){
         // Checks so the player doesn't fall to fast
-        if(velocityY < MAX_VELOCITY_Y){
+        if(velocityY < maxFallSpeed){
             int gravity = 1;
             velocityY += gravity;
         }
@@ -116,59 +125,44 @@ public class Player extends GameObjects{
      */
     public void shoot(ProjectileManager projectileManager){
         projectileManager.addProjectile(new Projectile(x + DEFAULT_WIDTH, y + DEFAULT_HEIGHT / 2));
-    }
-
-    /**
-     * Starts a timer for a specific duration and executes the provided callback
-     * when the timer finishes. If an existing timer is running, it's stopped.
-     *
-     * @param duration The duration of the timer in milliseconds
-     * @param existingTimer The timer to check and stop if running
-     * @param onFinish The action to perform when the timer finishes
-     */
-    private void startTimer(int duration, Timer existingTimer, Runnable onFinish) {
-        if (existingTimer != null && existingTimer.isRunning()) {
-            existingTimer.stop();
-        }
-        Timer newTimer = new Timer(duration, e -> {
-            onFinish.run();
-            ((Timer)e.getSource()).stop();
-        });
-        newTimer.setRepeats(false);
-        newTimer.setCoalesce(true);
-        newTimer.start();
+        audioMixer.play(SoundEffect.SHOOT);
     }
 
     /**
      * Activates a protective shield around the player for a specific duration.
+     * Picking up another shield while one is active restarts the duration.
      *
      * @param duration The duration of the shield in milliseconds
      */
     public void activateShield(int duration){
         isShieldActive = true;
-        startTimer(duration, shieldTimer, () -> isShieldActive = false);
+        shieldTimer.schedule(GameClock.millisToTicks(duration));
     }
 
     /**
-     * Sets the collision state of the player and starts a timer to reset
-     * the state after a specified duration.
+     * Sets the collision state of the player, which is reset
+     * after the collision duration has passed.
      *
      * @param collided True if the player has collided, false otherwise
      */
     public void setCollided(final boolean collided) {
         isCollided = collided;
         if (collided) {
-            startTimer(COLLISION_DURATION, collisionTimer, () -> isCollided = false);
+            collisionTimer.schedule(GameClock.millisToTicks(COLLISION_DURATION));
+        } else {
+            collisionTimer.cancel();
         }
     }
 
     /**
      * Makes the player jump by setting a negative velocity (upward movement).
-     * Ensures the player doesn't move above the screen.
+     * Ensures the player doesn't move above the screen, and fires the thruster under the UFO.
      */
     public void jump() {
-        velocityY = JUMP_STRENGTH;
+        velocityY = -jumpStrength;
         y = Math.max(y, 0); //Prevents the player from moving off-screen above
+        particleSystem.emit(ParticleEmitter.THRUSTER, x + getWidth() / 2f, y + getHeight());
+        audioMixer.play(SoundEffect.JUMP);
     }
 
     /**
@@ -179,10 +173,11 @@ public class Player extends GameObjects{
     }
 
     /**
-     * Decreases the player's lives by one if the shield is not active.
+     * Decreases the player's lives by one if the shield is not active
+     * and the player isn't invulnerable.
      */
     public void decreaseLives(){
-        if(!isShieldActive){
+        if(!isShieldActive && !isInvulnerable){
             lives--;
         }
     }
@@ -214,6 +209,15 @@ public class Player extends GameObjects{
         return scoreHandler.getBestScore();
     }
 
+    /**
+     * Returns the player's vertical velocity; positive values mean the player is falling.
+     *
+     * @return the vertical velocity in pixels per tick
+     */
+    public int getVelocityY(){
+        return velocityY;
+    }
+
     /**
      * Returns the maximum number of lives the player can have.
      *
@@ -260,6 +264,35 @@ public class Player extends GameObjects{
         }
     }
 
+    /**
+     * Sets the jump strength and fall speed of the player, used from the next update on.
+     *
+     * @param definition The jump strength and fall speed of the player
+     */
+    public void setDefinition(final GameDefinitions.PlayerDefinition definition) {
+        this.jumpStrength = definition.jumpStrength();
+        this.maxFallSpeed = definition.maxFallSpeed();
+    }
+
+    /**
+     * Sets whether the player is invulnerable, which keeps collisions from taking lives.
+     * Used by the stress test, so the game keeps running at any entity density.
+     *
+     * @param invulnerable True to make the player invulnerable, false otherwise
+     */
+    public void setInvulnerable(final boolean invulnerable) {
+        isInvulnerable = invulnerable;
+    }
+
+    /**
+     * Sets whether the player's new best scores are saved to the score file.
+     *
+     * @param scoreSaving True to save new best scores, false to only keep them in memory
+     */
+    public void setScoreSaving(final boolean scoreSaving) {
+        scoreHandler.setPersistent(scoreSaving);
+    }
+
     /**
      * Sets the y-coordinate of the player.
      *
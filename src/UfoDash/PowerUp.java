@@ -111,4 +111,11 @@ public abstract class PowerUp extends AbstractDrawable{
      * @param player Reference to the player object
      */
     public abstract void applyEffect(Player player);
+
+    /**
+     * Returns the kind of sprite the power-up is drawn as.
+     *
+     * @return the sprite kind of the power-up
+     */
+    public abstract SpriteKind getSpriteKind();
 }
@@ -3,15 +3,15 @@ package UfoDash;
 import java.awt.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 /**
  * The 'PowerUpManager' class is responsible for managing the creation,
  * movement and removal of power-ups in the game.
  */
 public class PowerUpManager extends Manager{
-    private static final int SIZE = 60;
-    private static final int SPEED = 5;
     private List<PowerUp> powerUps;
+    private GameDefinitions definitions;
 
     /**
      * Constructs an 'PowerUpManager' with the specified panel dimensions and
@@ -20,20 +20,39 @@ public class PowerUpManager extends Manager{
      * @param panelWidth The width of the game panel
      * @param panelHeight The height of the game panel
      * @param groundHeight The height of the ground
+     * @param random The random generator used for spawning at random
+     * @param definitions The definitions of the power-up variants, their size and speed
      */
-    protected PowerUpManager(final int panelWidth, final int panelHeight, final int groundHeight) {
-        super(panelWidth, panelHeight, groundHeight);
+    protected PowerUpManager(final int panelWidth, final int panelHeight, final int groundHeight, final Random random,
+                             final GameDefinitions definitions) {
+        super(panelWidth, panelHeight, groundHeight, random);
+        this.definitions = definitions;
         this.powerUps = new ArrayList<>();
     }
 
     /**
      * Creates and add a new power-up at a random y-position within the visible area of the game panel.
-     * A random power-up type is selected either 'GainLifePowerUp' or 'ShieldPowerUp'.
+     * The variant is picked at random by the weights of the power-up definitions,
+     * and its effect decides whether it's a 'GainLifePowerUp' or a 'ShieldPowerUp'.
      */
     @Override public void spawn() {
-        int y = RANDOM.nextInt(panelHeight - groundHeight - SIZE);
-        PowerUp newPowerUp = (RANDOM.nextBoolean()) ? new GainLifePowerUp(panelWidth, y, SIZE, SIZE, SPEED)
-                : new ShieldPowerUp(panelWidth, y, SIZE, SIZE, SPEED);
+        int y = random.nextInt(panelHeight - groundHeight - definitions.getPowerUpSize());
+        spawn(y, definitions.pickPowerUp(random));
+    }
+
+    /**
+     * Creates and add a new power-up of the given variant at the right edge of the screen.
+     *
+     * @param y The y-coordinate to spawn the power-up at
+     * @param definition The variant of the power-up
+     */
+    public void spawn(int y, GameDefinitions.PowerUpDefinition definition) {
+        int size = definitions.getPowerUpSize();
+        int speed = definitions.getPowerUpSpeed();
+        PowerUp newPowerUp = switch (definition.effect()) {
+            case LIFE -> new GainLifePowerUp(panelWidth, y, size, size, speed, definition);
+            case SHIELD -> new ShieldPowerUp(panelWidth, y, size, size, speed, definition);
+        };
         powerUps.add(newPowerUp);
     }
 
@@ -57,6 +76,20 @@ public class PowerUpManager extends Manager{
         }
     }
 
+    /**
+     * Adds the active power-ups to the given render snapshot.
+     *
+     * @param snapshot The snapshot being captured
+     */
+    public void capture(RenderSnapshot snapshot){
+        for(PowerUp powerUp : powerUps){
+            if(powerUp.isActive()){
+                snapshot.addSprite(powerUp.getSpriteKind(), powerUp.getX(), powerUp.getY(),
+                        powerUp.getWidth(), powerUp.getHeight());
+            }
+        }
+    }
+
     /**
      * Updates the position of each power-up and removes those that have left the screen.
      */
@@ -68,12 +101,19 @@ public class PowerUpManager extends Manager{
     }
 
     /**
-     * Returns the interval in milliseconds at which the new power-ups are spawned.
+     * Applies new power-up definitions. Power-ups on screen keep theirs.
      *
-     * @return the spawn interval for power-ups
+     * @param definitions The definitions of the power-up variants, their size and speed
+     */
+    public void setDefinitions(GameDefinitions definitions) {
+        this.definitions = definitions;
+    }
+
+    /**
+     * Removes all power-ups, for a new game.
      */
-    @Override public int getSpawnerInterval() {
-        return 2000;
+    @Override public void reset(){
+        powerUps.clear();
     }
 
     /**
@@ -12,12 +12,16 @@ import java.util.List;
  */
 public class ProjectileManager implements Drawable{
     private List<Projectile> projectiles;
+    private int panelWidth;
 
     /**
      * Initializes the 'ProjectileManager' by creating an empty
      * list to store projectiles.
+     *
+     * @param panelWidth The width of the game panel
      */
-    public ProjectileManager() {
+    public ProjectileManager(int panelWidth) {
+        this.panelWidth = panelWidth;
         projectiles = new ArrayList<>();
     }
 
@@ -41,16 +45,43 @@ public class ProjectileManager implements Drawable{
         }
     }
 
+    /**
+     * Adds the projectiles to the given render snapshot.
+     *
+     * @param snapshot The snapshot being captured
+     */
+    public void capture(RenderSnapshot snapshot){
+        for (Projectile projectile : projectiles) {
+            snapshot.addSprite(SpriteKind.PROJECTILE, projectile.getX(), projectile.getY(),
+                    projectile.getWidth(), projectile.getHeight());
+        }
+    }
+
     /**
      * Updates the position of all projectiles and removes any that
-     * have moved off-screen.
+     * have moved off-screen. Projectiles fly to the right, so they
+     * leave the screen past the right edge of the panel. The projectiles
+     * that stay are moved to the front of the list in order, so nothing is allocated.
      */
     @Override public void update() {
-        for (Projectile projectile : projectiles) {
+        int kept = 0;
+        for (int i = 0; i < projectiles.size(); i++) {
+            Projectile projectile = projectiles.get(i);
             projectile.update();
+            if(projectile.getX() <= panelWidth){
+                projectiles.set(kept++, projectile);
+            }
+        }
+        if(kept < projectiles.size()){
+            projectiles.subList(kept, projectiles.size()).clear();
         }
+    }
 
-        projectiles.removeIf(projectile -> projectile.getX() + projectile.getWidth() < 0);
+    /**
+     * Removes all projectiles, for a new game.
+     */
+    public void reset(){
+        projectiles.clear();
     }
 
     /**
@@ -0,0 +1,35 @@
+package UfoDash;
+
+import java.util.Random;
+
+/**
+ * The 'RandomInputPolicy' class plays the game by jumping and shooting at random,
+ * with a fixed chance per tick.
+ */
+public class RandomInputPolicy implements InputPolicy {
+    private final Random random;
+    private final double jumpChance, shootChance;
+
+    /**
+     * Constructs a 'RandomInputPolicy' with the given chances per tick.
+     *
+     * @param random The random generator of this policy, owned by a single game
+     * @param jumpChance The chance of jumping in a tick, between 0 and 1
+     * @param shootChance The chance of shooting in a tick, between 0 and 1
+     */
+    public RandomInputPolicy(Random random, double jumpChance, double shootChance) {
+        this.random = random;
+        this.jumpChance = jumpChance;
+        this.shootChance = shootChance;
+    }
+
+    @Override public void apply(GameComponents gameComponents) {
+        Player player = gameComponents.getPlayer();
+        if(random.nextDouble() < jumpChance){
+            player.jump();
+        }
+        if(random.nextDouble() < shootChance){
+            player.shoot(gameComponents.getProjectileManager());
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package UfoDash;
+
+import java.awt.*;
+import java.util.Arrays;
+
+/**
+ * The 'RenderQueue' class collects the sprites of a frame before drawing them.
+ * Sprites outside the viewport are rejected when they're submitted, and the rest are
+ * sorted by layer and then by kind, so sprites sharing an image are drawn one after
+ * another instead of being interleaved with other images.
+ *
+ * The queue keeps its entries in arrays that are reused between frames and sorts them
+ * in place, so a frame doesn't allocate once the arrays are large enough.
+ */
+public class RenderQueue {
+    /** Extra room around a sprite, for effects drawn outside of its bounds such as the shield. */
+    private static final int CULL_MARGIN = 16;
+    private static final int INITIAL_CAPACITY = 64;
+    /** The kinds of a layer are sorted below the next layer. */
+    private static final int LAYER_SHIFT = 8;
+
+    private final Rectangle viewport = new Rectangle();
+    private SpriteKind[] kinds = new SpriteKind[INITIAL_CAPACITY];
+    private int[] xs = new int[INITIAL_CAPACITY], ys = new int[INITIAL_CAPACITY];
+    private int[] widths = new int[INITIAL_CAPACITY], heights = new int[INITIAL_CAPACITY];
+    private int[] keys = new int[INITIAL_CAPACITY], order = new int[INITIAL_CAPACITY];
+    private int size, drawCalls, culledSprites;
+    private long pixelsTouched;
+
+    /**
+     * Starts a new frame, emptying the queue and setting the area sprites have to overlap to be drawn.
+     *
+     * @param viewport The visible area of the frame
+     */
+    public void begin(Rectangle viewport){
+        this.viewport.setBounds(viewport);
+        size = 0;
+        drawCalls = 0;
+        culledSprites = 0;
+        pixelsTouched = 0;
+    }
+
+    /**
+     * Adds a sprite to the queue, unless it's entirely outside the viewport.
+     *
+     * @param kind The kind of the sprite, which gives its image and layer
+     * @param x The x-coordinate of the sprite
+     * @param y The y-coordinate of the sprite
+     * @param width The width of the sprite
+     * @param height The height of the sprite
+     */
+    public void submit(SpriteKind kind, int x, int y, int width, int height){
+        if(x - CULL_MARGIN >= viewport.x + viewport.width || x + width + CULL_MARGIN <= viewport.x
+                || y - CULL_MARGIN >= viewport.y + viewport.height || y + height + CULL_MARGIN <= viewport.y){
+            culledSprites++;
+            return;
+        }
+        if(size == kinds.length){
+            grow();
+        }
+        // Every kind has its own image, so sorting by kind groups the sprites by image
+        kinds[size] = kind;
+        xs[size] = x;
+        ys[size] = y;
+        widths[size] = width;
+        heights[size] = height;
+        keys[size] = (kind.getLayer() << LAYER_SHIFT) | kind.ordinal();
+        order[size] = size;
+        size++;
+
+        int left = Math.max(x, viewport.x);
+        int top = Math.max(y, viewport.y);
+        int right = Math.min(x + width, viewport.x + viewport.width);
+        int bottom = Math.min(y + height, viewport.y + viewport.height);
+        if(right > left && bottom > top){
+            pixelsTouched += (long) (right - left) * (bottom - top);
+        }
+    }
+
+    /**
+     * Doubles the capacity of the queue.
+     */
+    private void grow(){
+        int capacity = kinds.length * 2;
+        kinds = Arrays.copyOf(kinds, capacity);
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        widths = Arrays.copyOf(widths, capacity);
+        heights = Arrays.copyOf(heights, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+        order = Arrays.copyOf(order, capacity);
+    }
+
+    /**
+     * Sorts the queued sprites by layer and kind, and draws them.
+     *
+     * @param g the Graphics object used to draw
+     */
+    public void flush(Graphics g){
+        sort();
+        for (int i = 0; i < size; i++){
+            int entry = order[i];
+            kinds[entry].draw(g, xs[entry], ys[entry], widths[entry], heights[entry]);
+        }
+        drawCalls += size;
+    }
+
+    /**
+     * Sorts the drawing order by key with an insertion sort. Snapshots list their sprites
+     * in the same order every frame, so the entries are nearly sorted already, and the
+     * sort stays close to linear without allocating. Equal keys keep their submission order.
+     */
+    private void sort(){
+        for (int i = 1; i < size; i++){
+            int entry = order[i];
+            int key = keys[entry];
+            if(keys[order[i - 1]] <= key){
+                continue;
+            }
+            int j = i - 1;
+            while (j >= 0 && keys[order[j]] > key){
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = entry;
+        }
+    }
+
+    /**
+     * Returns the number of sprites drawn by the last flush.
+     *
+     * @return the number of draw calls
+     */
+    public int getDrawCalls() {
+        return drawCalls;
+    }
+
+    /**
+     * Returns the number of sprites rejected since the frame began, for being outside the viewport.
+     *
+     * @return the number of culled sprites
+     */
+    public int getCulledSprites() {
+        return culledSprites;
+    }
+
+    /**
+     * Returns the number of viewport pixels covered by the queued sprites.
+     *
+     * @return the number of pixels touched
+     */
+    public long getPixelsTouched() {
+        return pixelsTouched;
+    }
+}
@@ -0,0 +1,287 @@
+package UfoDash;
+
+import java.util.Arrays;
+
+/**
+ * The 'RenderSnapshot' class holds everything needed to draw one frame: the game state,
+ * the position, size and kind of every sprite, the position and color of every particle,
+ * and the values shown by the HUD.
+ * The simulation thread fills a snapshot after each update, and the render thread draws
+ * from it without touching the game objects, so the two threads never share mutable state.
+ *
+ * Snapshots are reused through a 'SnapshotExchange' instead of being created for every
+ * update, so filling one doesn't allocate once its arrays are large enough.
+ */
+public class RenderSnapshot {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private GameStateHandler.GameState state = GameStateHandler.GameState.TITLE;
+    private int gameNumber, lives, score, bestScore;
+    private long tick, inputNanos;
+    private SpriteKind[] kinds = new SpriteKind[INITIAL_CAPACITY];
+    private int[] xs = new int[INITIAL_CAPACITY], ys = new int[INITIAL_CAPACITY];
+    private int[] widths = new int[INITIAL_CAPACITY], heights = new int[INITIAL_CAPACITY];
+    private int spriteCount;
+    private int[] particleXs = new int[INITIAL_CAPACITY], particleYs = new int[INITIAL_CAPACITY];
+    private int[] particleColors = new int[INITIAL_CAPACITY];
+    private int particleCount;
+
+    /**
+     * Fills the snapshot from the current state of a game. Only called by the thread updating the game.
+     *
+     * @param state The current game state
+     * @param gameNumber The number of the game, which changes whenever a new game starts
+     * @param gameComponents The components of the game
+     */
+    public void capture(GameStateHandler.GameState state, int gameNumber, GameComponents gameComponents){
+        this.state = state;
+        this.gameNumber = gameNumber;
+        this.tick = gameComponents.getGameClock().getTicks();
+        Player player = gameComponents.getPlayer();
+        this.lives = player.getLives();
+        this.score = player.getCurrentScore();
+        this.bestScore = player.getBestScore();
+
+        spriteCount = 0;
+        player.capture(this);
+        gameComponents.getAsteroidManager().capture(this);
+        gameComponents.getPowerUpManager().capture(this);
+        gameComponents.getEnemyManager().capture(this);
+        gameComponents.getProjectileManager().capture(this);
+        gameComponents.getParticleSystem().capture(this);
+    }
+
+    /**
+     * Sets the time of the latest key event applied to the game before the snapshot was taken.
+     *
+     * @param inputNanos The time of the key event from 'System.nanoTime', or 0 if there was none
+     */
+    public void setInputNanos(long inputNanos) {
+        this.inputNanos = inputNanos;
+    }
+
+    /**
+     * Adds a sprite to the snapshot.
+     *
+     * @param kind The kind of the sprite
+     * @param x The x-coordinate of the sprite
+     * @param y The y-coordinate of the sprite
+     * @param width The width of the sprite
+     * @param height The height of the sprite
+     */
+    public void addSprite(SpriteKind kind, int x, int y, int width, int height){
+        if(spriteCount == kinds.length){
+            grow();
+        }
+        kinds[spriteCount] = kind;
+        xs[spriteCount] = x;
+        ys[spriteCount] = y;
+        widths[spriteCount] = width;
+        heights[spriteCount] = height;
+        spriteCount++;
+    }
+
+    /**
+     * Sets the number of particles in the snapshot, making room for them if needed.
+     * The particles are then filled in with 'setParticle'.
+     *
+     * @param count The number of particles
+     */
+    public void setParticleCount(int count){
+        if(count > particleXs.length){
+            int capacity = Math.max(count, particleXs.length * 2);
+            // The old particles are overwritten anyway, so the arrays aren't copied
+            particleXs = new int[capacity];
+            particleYs = new int[capacity];
+            particleColors = new int[capacity];
+        }
+        particleCount = count;
+    }
+
+    /**
+     * Sets one of the particles of the snapshot.
+     *
+     * @param index The index of the particle, below the particle count
+     * @param x The x-coordinate of the particle
+     * @param y The y-coordinate of the particle
+     * @param color The color of the particle, as premultiplied ARGB
+     */
+    public void setParticle(int index, int x, int y, int color){
+        particleXs[index] = x;
+        particleYs[index] = y;
+        particleColors[index] = color;
+    }
+
+    /**
+     * Doubles the capacity of the sprite arrays.
+     */
+    private void grow(){
+        int capacity = kinds.length * 2;
+        kinds = Arrays.copyOf(kinds, capacity);
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        widths = Arrays.copyOf(widths, capacity);
+        heights = Arrays.copyOf(heights, capacity);
+    }
+
+    /**
+     * Returns the game state of the snapshot.
+     *
+     * @return the game state
+     */
+    public GameStateHandler.GameState getState() {
+        return state;
+    }
+
+    /**
+     * Returns the number of the game the snapshot was taken from.
+     *
+     * @return the game number
+     */
+    public int getGameNumber() {
+        return gameNumber;
+    }
+
+    /**
+     * Returns the tick of the game clock when the snapshot was taken.
+     *
+     * @return the tick
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Returns the time of the latest key event applied to the game before the snapshot was taken.
+     *
+     * @return the time of the key event from 'System.nanoTime', or 0 if there was none
+     */
+    public long getInputNanos() {
+        return inputNanos;
+    }
+
+    /**
+     * Returns the player's number of lives.
+     *
+     * @return the lives
+     */
+    public int getLives() {
+        return lives;
+    }
+
+    /**
+     * Returns the player's current score.
+     *
+     * @return the score
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Returns the player's best score.
+     *
+     * @return the best score
+     */
+    public int getBestScore() {
+        return bestScore;
+    }
+
+    /**
+     * Returns the number of sprites in the snapshot.
+     *
+     * @return the sprite count
+     */
+    public int getSpriteCount() {
+        return spriteCount;
+    }
+
+    /**
+     * Returns the kind of a sprite.
+     *
+     * @param index The index of the sprite
+     * @return the kind
+     */
+    public SpriteKind getKind(int index) {
+        return kinds[index];
+    }
+
+    /**
+     * Returns the x-coordinate of a sprite.
+     *
+     * @param index The index of the sprite
+     * @return the x-coordinate
+     */
+    public int getX(int index) {
+        return xs[index];
+    }
+
+    /**
+     * Returns the y-coordinate of a sprite.
+     *
+     * @param index The index of the sprite
+     * @return the y-coordinate
+     */
+    public int getY(int index) {
+        return ys[index];
+    }
+
+    /**
+     * Returns the width of a sprite.
+     *
+     * @param index The index of the sprite
+     * @return the width
+     */
+    public int getWidth(int index) {
+        return widths[index];
+    }
+
+    /**
+     * Returns the height of a sprite.
+     *
+     * @param index The index of the sprite
+     * @return the height
+     */
+    public int getHeight(int index) {
+        return heights[index];
+    }
+
+    /**
+     * Returns the number of particles in the snapshot.
+     *
+     * @return the particle count
+     */
+    public int getParticleCount() {
+        return particleCount;
+    }
+
+    /**
+     * Returns the x-coordinate of a particle.
+     *
+     * @param index The index of the particle
+     * @return the x-coordinate
+     */
+    public int getParticleX(int index) {
+        return particleXs[index];
+    }
+
+    /**
+     * Returns the y-coordinate of a particle.
+     *
+     * @param index The index of the particle
+     * @return the y-coordinate
+     */
+    public int getParticleY(int index) {
+        return particleYs[index];
+    }
+
+    /**
+     * Returns the color of a particle.
+     *
+     * @param index The index of the particle
+     * @return the color as premultiplied ARGB
+     */
+    public int getParticleColor(int index) {
+        return particleColors[index];
+    }
+}
@@ -10,6 +10,7 @@ public class ScoreHandler {
     private static final int SCORE_DIVISOR = 2; // Adjust the displayed score by dividing it
     private int currentScore = 0;
     private DataStorage dataStorage = new DataStorage();
+    private boolean persistent = true;
 
     private static final String SCORE_FILE = "bestScore.dat";
 
@@ -17,7 +18,21 @@ public class ScoreHandler {
      * Constructs a 'ScoreHandler' object that loads the best score from the file.
      */
     public ScoreHandler() {
-        this.dataStorage.setBestScore(loadBestScore());
+        this(true);
+    }
+
+    /**
+     * Constructs a 'ScoreHandler' object. A persistent score handler loads the best score
+     * from the file and saves new best scores to it, otherwise the best score starts
+     * at 0 and is only kept in memory.
+     *
+     * @param persistent True to load and save the best score, false to keep it in memory
+     */
+    public ScoreHandler(boolean persistent) {
+        this.persistent = persistent;
+        if(persistent){
+            this.dataStorage.setBestScore(loadBestScore());
+        }
     }
 
     /**
@@ -32,6 +47,13 @@ public class ScoreHandler {
         }
     }
 
+    /**
+     * Resets the current score for a new game. The best score is kept.
+     */
+    public void resetCurrentScore(){
+        currentScore = 0;
+    }
+
     /**
      * Returns the current score, adjusted by dividing it.
      *
@@ -51,10 +73,22 @@ public class ScoreHandler {
     }
 
     /**
-     * Saves the best score to a file.
+     * Sets whether a new best score is saved to the file.
+     *
+     * @param persistent True to save new best scores, false to only keep them in memory
+     */
+    public void setPersistent(boolean persistent){
+        this.persistent = persistent;
+    }
+
+    /**
+     * Saves the best score to a file, unless saving is turned off.
      * The file is created if it doesn't exist
      */
     private void saveBestScore(){
+        if(!persistent){
+            return;
+        }
         try(ObjectOutputStream objectOutputStream = new ObjectOutputStream(new FileOutputStream(getScoreFilePath()))) {
             objectOutputStream.writeObject(dataStorage);
         } catch (IOException e) {
@@ -0,0 +1,57 @@
+package UfoDash;
+
+import java.util.List;
+
+/**
+ * The 'ScriptedInputPolicy' class plays the game like a simple bot: it steers the player
+ * towards the middle of the gap of the next asteroid pair ahead, by jumping whenever it
+ * falls below it (offset so each jump peaks above it), and shoots at enemies that are in line with the player.
+ */
+public class ScriptedInputPolicy implements InputPolicy {
+    /** Roughly half the height a jump rises, so the player's bouncing is centered on the target. */
+    private static final int JUMP_OFFSET = 60;
+    private final int defaultTargetY;
+
+    /**
+     * Constructs a 'ScriptedInputPolicy'.
+     *
+     * @param defaultTargetY The height the player keeps while no asteroids are ahead
+     */
+    public ScriptedInputPolicy(int defaultTargetY) {
+        this.defaultTargetY = defaultTargetY;
+    }
+
+    @Override public void apply(GameComponents gameComponents) {
+        Player player = gameComponents.getPlayer();
+        int playerCenterY = player.getY() + player.getHeight() / 2;
+        int targetY = getTargetY(player, gameComponents.getAsteroidManager().getAsteroids());
+        if(player.getVelocityY() > 0 && playerCenterY > targetY + JUMP_OFFSET){
+            player.jump();
+        }
+        for (Enemy enemy : gameComponents.getEnemyManager().getEnemies()) {
+            if(enemy.getX() > player.getX() && playerCenterY >= enemy.getY() && playerCenterY <= enemy.getY() + enemy.getHeight()){
+                player.shoot(gameComponents.getProjectileManager());
+                break;
+            }
+        }
+    }
+
+    /**
+     * Returns the y-coordinate of the middle of the gap of the next asteroid pair ahead of the player.
+     * Asteroids are spawned in pairs, top asteroid first.
+     *
+     * @param player The player
+     * @param asteroids The asteroids of the game
+     * @return the y-coordinate to steer towards
+     */
+    private int getTargetY(Player player, List<Asteroid> asteroids){
+        for (int i = 0; i + 1 < asteroids.size(); i += 2) {
+            Asteroid top = asteroids.get(i);
+            if(top.getX() + top.getWidth() >= player.getX()){
+                Asteroid bottom = asteroids.get(i + 1);
+                return (top.getY() + top.getHeight() + bottom.getY()) / 2;
+            }
+        }
+        return defaultTargetY;
+    }
+}
@@ -8,47 +8,49 @@ import java.awt.*;
  * behaviour of this type of power-up.
  */
 public class ShieldPowerUp extends PowerUp{
-    private static final int SHIELD_DURATION = 5000;
+    private final GameDefinitions.PowerUpDefinition definition;
 
     /**
-     * Constructs a 'ShieldPowerUp' object with its positions, size and speed.
+     * Constructs a 'ShieldPowerUp' object with its positions, size, speed and variant.
      *
      * @param x The x-coordinate of the power-up
      * @param y The y-coordinate of the power-up
      * @param width The width of the power-up
      * @param height The height of the power-up
      * @param speed The speed at which the power-up moves across the screen
+     * @param definition The variant of the power-up
      */
-    public ShieldPowerUp(final int x, final int y, final int width, final int height, final int speed) {
-        super(x, y, width, height, speed, "shield.png");
+    public ShieldPowerUp(final int x, final int y, final int width, final int height, final int speed,
+                         final GameDefinitions.PowerUpDefinition definition) {
+        super(x, y, width, height, speed, definition.sprite().getImagePath());
+        this.definition = definition;
     }
 
     /**
      * Draws the power-up on the screen if its active.
-     * If the image is not loaded, a blue circle is drawn instead.
+     * If the image is not loaded, the fallback shape of its sprite is drawn instead.
      *
      * @param g the Graphics object used to draw the object.
      */
     @Override public void draw(final Graphics g) {
         if (isActive) {
-            if (image != null) {
-                g.drawImage(image, x, y, width, height, null);
-            }else{
-                g.setColor(Color.BLUE);
-                g.fillOval(x, y, width, height);
-            }
+            definition.sprite().draw(g, x, y, width, height);
         }
     }
 
+    @Override public SpriteKind getSpriteKind() {
+        return definition.sprite();
+    }
+
     /**
      * Applies the effect of the power-up to the player by activating a temporary
-     * shield, that prevents the player from losing lives upon collision.
+     * shield for the duration of its variant, that prevents the player from losing lives upon collision.
      * After applying the effect, the power-up is deactivated.
      *
      * @param player Reference to the player object
      */
     @Override public void applyEffect(final Player player) {
-        player.activateShield(SHIELD_DURATION);
+        player.activateShield(definition.duration());
         deactivate();
     }
 }
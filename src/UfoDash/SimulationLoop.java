@@ -0,0 +1,85 @@
+package UfoDash;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The 'SimulationLoop' class updates the game on its own thread at a fixed rate,
+ * independent of how fast the panel can be painted. After each update, the game panel
+ * publishes a render snapshot and asks the event dispatch thread to draw it, so a slow frame
+ * delays the picture but never the simulation.
+ *
+ * If the thread falls behind, the missed updates are run back to back to catch up,
+ * unless it's so far behind that catching up would only make the game jump.
+ */
+public class SimulationLoop implements Runnable {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final int MAX_CATCH_UP_TICKS = 5;
+
+    private final GamePanel gamePanel;
+    private final long tickNanos;
+    private volatile boolean running = false;
+    private Thread thread = null;
+
+    /**
+     * Constructs a 'SimulationLoop' updating the given panel.
+     *
+     * @param gamePanel The game panel to update
+     * @param ticksPerSecond The number of updates per second
+     */
+    public SimulationLoop(GamePanel gamePanel, int ticksPerSecond) {
+        this.gamePanel = gamePanel;
+        this.tickNanos = NANOS_PER_SECOND / ticksPerSecond;
+    }
+
+    /**
+     * Starts the simulation thread. It's a daemon thread, so it doesn't keep the game running
+     * once the window is closed.
+     */
+    public void start(){
+        if(running){
+            return;
+        }
+        running = true;
+        thread = new Thread(this, "simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the simulation thread after its current update.
+     */
+    public void stop(){
+        running = false;
+        if(thread != null){
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Updates the game at a fixed rate until the loop is stopped.
+     */
+    @Override public void run(){
+        long nextTick = System.nanoTime();
+        while (running){
+            gamePanel.update();
+            gamePanel.requestRender();
+
+            nextTick += tickNanos;
+            long wait = nextTick - System.nanoTime();
+            if(wait > 0){
+                LockSupport.parkNanos(wait);
+            }else if(-wait > tickNanos * MAX_CATCH_UP_TICKS){
+                nextTick = System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * Returns whether the simulation thread is running.
+     *
+     * @return true if the loop is running, false otherwise
+     */
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,62 @@
+package UfoDash;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The 'SnapshotExchange' class hands render snapshots from the simulation thread to the
+ * render thread without locks, as a triple buffer. The simulation thread fills its own
+ * snapshot and publishes it by swapping it with the spare one, and the render thread takes
+ * the latest published snapshot by swapping its own with the spare one. Neither side ever
+ * waits for the other: the simulation can publish any number of snapshots between two frames,
+ * and the renderer can draw the same snapshot again if nothing new was published.
+ *
+ * There must be a single publishing thread and a single acquiring thread.
+ */
+public class SnapshotExchange {
+    /** Set in the spare slot when it holds a snapshot the renderer hasn't taken yet. */
+    private static final int FRESH = 4;
+    private static final int INDEX_MASK = 3;
+
+    private final RenderSnapshot[] snapshots = {new RenderSnapshot(), new RenderSnapshot(), new RenderSnapshot()};
+    private final AtomicInteger spare = new AtomicInteger(2);
+    private int writeIndex = 0;
+    private int readIndex = 1;
+
+    /**
+     * Returns the snapshot the simulation thread fills before publishing it.
+     *
+     * @return the snapshot being written
+     */
+    public RenderSnapshot getWriteSnapshot(){
+        return snapshots[writeIndex];
+    }
+
+    /**
+     * Publishes the snapshot being written, and starts writing into the spare one.
+     */
+    public void publish(){
+        writeIndex = spare.getAndSet(writeIndex | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Returns the latest published snapshot. If nothing was published since the last call,
+     * the same snapshot is returned again.
+     *
+     * @return the snapshot to draw
+     */
+    public RenderSnapshot acquire(){
+        if((spare.get() & FRESH) != 0){
+            readIndex = spare.getAndSet(readIndex) & INDEX_MASK;
+        }
+        return snapshots[readIndex];
+    }
+
+    /**
+     * Returns whether a snapshot was published since the last call to 'acquire'.
+     *
+     * @return true if a newer snapshot is available, false otherwise
+     */
+    public boolean hasFreshSnapshot(){
+        return (spare.get() & FRESH) != 0;
+    }
+}
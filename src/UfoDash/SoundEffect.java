@@ -0,0 +1,99 @@
+package UfoDash;
+
+/**
+ * The 'SoundEffect' enum lists the sounds of the game. Each effect is read from a WAV file in the
+ * sounds folder when there is one, and is otherwise synthesized from a short tone or noise burst:
+ * a waveform swept from a start to an end frequency, faded out over the length of the sound.
+ */
+public enum SoundEffect {
+    JUMP("jump.wav", Waveform.SQUARE, 300, 700, 120, 0.25f),
+    SHOOT("shoot.wav", Waveform.SQUARE, 1200, 300, 90, 0.2f),
+    EXPLOSION("explosion.wav", Waveform.NOISE, 0, 0, 400, 0.5f),
+    PICKUP("pickup.wav", Waveform.SINE, 600, 1400, 180, 0.4f),
+    GAME_OVER("game_over.wav", Waveform.TRIANGLE, 440, 110, 900, 0.5f);
+
+    /** The shapes of the synthesized sounds. */
+    public enum Waveform {
+        SINE, SQUARE, TRIANGLE, NOISE
+    }
+
+    private final String fileName;
+    private final Waveform waveform;
+    private final float startFrequency, endFrequency;
+    private final int durationMillis;
+    private final float volume;
+
+    /**
+     * Constructs a sound effect, read from its file or synthesized from its waveform.
+     *
+     * @param fileName The name of the WAV file in the sounds folder
+     * @param waveform The waveform synthesized when there is no file
+     * @param startFrequency The frequency the synthesized sound starts at, in hertz
+     * @param endFrequency The frequency the synthesized sound ends at, in hertz
+     * @param durationMillis The length of the synthesized sound, in milliseconds
+     * @param volume The peak of the synthesized sound, from 0 to 1
+     */
+    SoundEffect(String fileName, Waveform waveform, float startFrequency, float endFrequency, int durationMillis,
+                float volume) {
+        this.fileName = fileName;
+        this.waveform = waveform;
+        this.startFrequency = startFrequency;
+        this.endFrequency = endFrequency;
+        this.durationMillis = durationMillis;
+        this.volume = volume;
+    }
+
+    /**
+     * Returns the name of the WAV file of the effect, in the sounds folder.
+     *
+     * @return the file name
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * Returns the waveform synthesized when there is no file.
+     *
+     * @return the waveform
+     */
+    public Waveform getWaveform() {
+        return waveform;
+    }
+
+    /**
+     * Returns the frequency the synthesized sound starts at.
+     *
+     * @return the frequency in hertz
+     */
+    public float getStartFrequency() {
+        return startFrequency;
+    }
+
+    /**
+     * Returns the frequency the synthesized sound ends at.
+     *
+     * @return the frequency in hertz
+     */
+    public float getEndFrequency() {
+        return endFrequency;
+    }
+
+    /**
+     * Returns the length of the synthesized sound.
+     *
+     * @return the length in milliseconds
+     */
+    public int getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * Returns the peak of the synthesized sound.
+     *
+     * @return the volume, from 0 to 1
+     */
+    public float getVolume() {
+        return volume;
+    }
+}
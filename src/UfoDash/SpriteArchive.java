@@ -0,0 +1,155 @@
+package UfoDash;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The 'SpriteArchive' class reads the images of the game from a single archive of already decoded pixels,
+ * written at build time by the 'SpriteArchivePacker'. The archive is memory-mapped and every image is
+ * copied straight out of it, so no PNG has to be decompressed and ImageIO isn't even loaded.
+ * <p>
+ * The archive starts with a magic number, a version and the number of images, followed by an index entry
+ * per image (its path, width, height and the offset of its pixels) and then the pixels themselves,
+ * as premultiplied ARGB integers, one row after another. All numbers are big-endian.
+ * <p>
+ * Images that aren't in the archive, or every image when there's no archive, are decoded from their
+ * PNG by the 'SpriteCache' instead.
+ */
+public final class SpriteArchive {
+    public static final String ARCHIVE_PATH = "images/sprites.bin";
+    static final int MAGIC = 0x55464F53; // "UFOS"
+    static final int VERSION = 1;
+
+    private static final SpriteArchive EMPTY = new SpriteArchive(null, Map.of());
+
+    /** The archive on the class path, opened the first time it's needed. */
+    private static final class Holder {
+        private static final SpriteArchive DEFAULT = open(ARCHIVE_PATH);
+    }
+
+    /** The position and size of one image in the archive. */
+    private record Entry(int width, int height, int offset) {
+    }
+
+    private final ByteBuffer pixels;
+    private final Map<String, Entry> entries;
+
+    private SpriteArchive(ByteBuffer pixels, Map<String, Entry> entries) {
+        this.pixels = pixels;
+        this.entries = entries;
+    }
+
+    /**
+     * Returns the archive on the class path.
+     *
+     * @return the archive, empty if there's none or it can't be read
+     */
+    public static SpriteArchive getDefault(){
+        return Holder.DEFAULT;
+    }
+
+    /**
+     * Opens the archive at the given class path location. An archive in a directory is memory-mapped,
+     * an archive inside a jar is read into memory once.
+     *
+     * @param resourcePath The class path location of the archive
+     * @return the archive, empty if there's none or it can't be read
+     */
+    public static SpriteArchive open(String resourcePath){
+        URL url = ClassLoader.getSystemResource(resourcePath);
+        if(url == null){
+            return EMPTY;
+        }
+        try {
+            ByteBuffer buffer;
+            if(url.getProtocol().equals("file")){
+                try(FileChannel channel = FileChannel.open(Path.of(url.toURI()), StandardOpenOption.READ)) {
+                    buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                }
+            }else{
+                try(InputStream in = url.openStream()) {
+                    buffer = ByteBuffer.wrap(in.readAllBytes());
+                }
+            }
+            return read(buffer);
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            System.err.println("Failed to open the sprite archive, decoding images instead: " + e.getMessage());
+            return EMPTY;
+        }
+    }
+
+    /**
+     * Reads the index of an archive.
+     *
+     * @param buffer The whole archive
+     * @return the archive
+     * @throws IOException if the buffer isn't an archive of this version
+     */
+    private static SpriteArchive read(ByteBuffer buffer) throws IOException {
+        if(buffer.getInt() != MAGIC || buffer.getInt() != VERSION){
+            throw new IOException("not a sprite archive of version " + VERSION);
+        }
+        int count = buffer.getInt();
+        Map<String, Entry> entries = new HashMap<>();
+        for (int i = 0; i < count; i++){
+            byte[] name = new byte[buffer.getShort() & 0xFFFF];
+            buffer.get(name);
+            entries.put(new String(name, StandardCharsets.UTF_8),
+                    new Entry(buffer.getInt(), buffer.getInt(), buffer.getInt()));
+        }
+        return new SpriteArchive(buffer, entries);
+    }
+
+    /**
+     * Returns a new image holding the pixels of the given path. Safe to call from several threads at once.
+     *
+     * @param imagePath The path to the image, relative to the images folder
+     * @return the image, or null if it isn't in the archive
+     */
+    public Image getImage(String imagePath){
+        Entry entry = entries.get(imagePath);
+        if(entry == null){
+            return null;
+        }
+        int[] data = new int[entry.width() * entry.height()];
+        // A view of its own, so threads reading other images don't move this one's position
+        IntBuffer source = pixels.duplicate().position(entry.offset()).slice().asIntBuffer();
+        source.get(data);
+
+        BufferedImage image = new BufferedImage(entry.width(), entry.height(), BufferedImage.TYPE_INT_ARGB_PRE);
+        // Copied into the image's own raster, so Java2D can still cache it for drawing
+        image.getRaster().setDataElements(0, 0, entry.width(), entry.height(), data);
+        return image;
+    }
+
+    /**
+     * Returns whether the archive holds the image of the given path.
+     *
+     * @param imagePath The path to the image, relative to the images folder
+     * @return true if the image is in the archive, false otherwise
+     */
+    public boolean contains(String imagePath){
+        return entries.containsKey(imagePath);
+    }
+
+    /**
+     * Returns the number of images in the archive.
+     *
+     * @return the number of images, 0 if there's no archive
+     */
+    public int size(){
+        return entries.size();
+    }
+}
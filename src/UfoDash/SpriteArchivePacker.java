@@ -0,0 +1,133 @@
+package UfoDash;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The 'SpriteArchivePacker' class decodes every PNG of the images folder once, at build time,
+ * and writes their premultiplied ARGB pixels into a single 'SpriteArchive' that the game maps
+ * at startup instead of decoding the PNGs.
+ * <p>
+ * Run by the 'sprite-archive' Maven profile, or with
+ * {@code GameLoop --pack-sprites [in=DIR] [out=FILE]}.
+ */
+public class SpriteArchivePacker {
+    public static final String LAUNCH_FLAG = "--pack-sprites";
+
+    private File imagesDirectory = new File("resources", "images");
+    private File archiveFile = new File(imagesDirectory, "sprites.bin");
+
+    /**
+     * Constructs a 'SpriteArchivePacker' configured by the given arguments.
+     * Each argument has the form 'name=value'; unknown names are reported and ignored.
+     *
+     * @param args The packer arguments
+     */
+    public SpriteArchivePacker(String[] args) {
+        for (String arg : args) {
+            String[] parts = arg.split("=", 2);
+            if(parts.length != 2){
+                System.err.println("Ignoring packer argument: " + arg);
+                continue;
+            }
+            switch (parts[0]) {
+                case "in" -> imagesDirectory = new File(parts[1]);
+                case "out" -> archiveFile = new File(parts[1]);
+                default -> System.err.println("Ignoring packer argument: " + arg);
+            }
+        }
+    }
+
+    /**
+     * Packs the PNGs of the images folder, sorted by name, into the archive file.
+     *
+     * @throws IOException if an image can't be decoded or the archive can't be written
+     */
+    public void run() throws IOException {
+        File[] files = imagesDirectory.listFiles((dir, name) -> name.endsWith(".png"));
+        if(files == null){
+            throw new IOException("Not a directory: " + imagesDirectory);
+        }
+        Arrays.sort(files);
+
+        List<String> names = new ArrayList<>();
+        List<BufferedImage> images = new ArrayList<>();
+        for (File file : files){
+            BufferedImage image = ImageIO.read(file);
+            if(image == null){
+                throw new IOException("Can't decode " + file);
+            }
+            names.add(file.getName());
+            images.add(toPremultiplied(image));
+        }
+
+        File parent = archiveFile.getAbsoluteFile().getParentFile();
+        if(!parent.isDirectory() && !parent.mkdirs()){
+            throw new IOException("Can't create the directory " + parent);
+        }
+        try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(archiveFile)))) {
+            out.writeInt(SpriteArchive.MAGIC);
+            out.writeInt(SpriteArchive.VERSION);
+            out.writeInt(images.size());
+
+            // The pixels start after the index, each entry holds its name, size and offset
+            int offset = 3 * Integer.BYTES;
+            for (String name : names){
+                offset += Short.BYTES + name.getBytes(StandardCharsets.UTF_8).length + 3 * Integer.BYTES;
+            }
+            for (int i = 0; i < images.size(); i++){
+                byte[] name = names.get(i).getBytes(StandardCharsets.UTF_8);
+                BufferedImage image = images.get(i);
+                out.writeShort(name.length);
+                out.write(name);
+                out.writeInt(image.getWidth());
+                out.writeInt(image.getHeight());
+                out.writeInt(offset);
+                offset += image.getWidth() * image.getHeight() * Integer.BYTES;
+            }
+            for (BufferedImage image : images){
+                int[] pixels = (int[]) image.getRaster().getDataElements(0, 0, image.getWidth(), image.getHeight(), null);
+                for (int pixel : pixels){
+                    out.writeInt(pixel);
+                }
+            }
+        }
+        System.out.println("Packed " + images.size() + " images into " + archiveFile + " (" + archiveFile.length() + " bytes)");
+    }
+
+    /**
+     * Draws an image into a premultiplied ARGB image, the format the archive stores.
+     */
+    private static BufferedImage toPremultiplied(BufferedImage image){
+        BufferedImage premultiplied = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g2d = premultiplied.createGraphics();
+        g2d.setComposite(AlphaComposite.Src);
+        g2d.drawImage(image, 0, 0, null);
+        g2d.dispose();
+        return premultiplied;
+    }
+
+    /**
+     * Packs the images with the given arguments.
+     *
+     * @param args The packer arguments
+     */
+    public static void main(String[] args){
+        try {
+            new SpriteArchivePacker(args).run();
+        } catch (IOException e) {
+            System.err.println("Failed to pack the sprite archive: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package UfoDash;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The 'SpriteCache' class decodes each image of the game only once and shares it between
+ * every object that uses it. Without it, every spawned asteroid, enemy, projectile and
+ * power-up would decode its image from disk again.
+ * The 'AssetPreloader' fills the cache at startup, so later requests are map lookups.
+ * Images are copied from the 'SpriteArchive' when it has them, and decoded from their PNG otherwise.
+ */
+public final class SpriteCache {
+    private static final Map<String, Image> IMAGES = new ConcurrentHashMap<>();
+
+    private SpriteCache() {
+    }
+
+    /**
+     * Returns the image at the given path, decoding it the first time it's requested.
+     *
+     * @param imagePath The path to the image file, relative to the images folder
+     * @return the image, or null if the image can't be found or loaded
+     */
+    public static Image getImage(String imagePath){
+        Image img = IMAGES.get(imagePath);
+        if(img == null){
+            img = decodeImage(imagePath);
+            if(img != null){
+                Image cached = IMAGES.putIfAbsent(imagePath, img);
+                if(cached != null){
+                    img = cached;
+                }
+            }
+        }
+        return img;
+    }
+
+    /**
+     * Decodes the image at the given path into the cache, unless it's already there.
+     * Safe to call from several threads at once.
+     *
+     * @param imagePath The path to the image file, relative to the images folder
+     * @return true if the image is in the cache, false if it can't be found or loaded
+     */
+    public static boolean preload(String imagePath){
+        return getImage(imagePath) != null;
+    }
+
+    /**
+     * Decodes an image again from the given file and replaces the cached image of the given path with it,
+     * for the development mode. Objects that took the old image keep it; the sprite kinds pick the new one
+     * up through 'SpriteKind.reloadImages'.
+     *
+     * @param imagePath The path of the image, relative to the images folder
+     * @param file The image file to decode
+     * @return true if the image was replaced, false if the file couldn't be decoded and the old image is kept
+     */
+    public static boolean reload(String imagePath, Path file){
+        try {
+            Image img = ImageIO.read(file.toFile());
+            if(img == null){
+                System.err.println("Failed to reload image: " + file);
+                return false;
+            }
+            IMAGES.put(imagePath, img);
+            return true;
+        } catch (IOException e) {
+            System.err.println("Failed to reload image " + file + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Decodes an image from the given path, or takes its already decoded pixels from the sprite archive.
+     *
+     * @param imagePath The path to the image file, relative to the images folder
+     * @return the decoded image, or null if the image can't be found or loaded
+     */
+    private static Image decodeImage(String imagePath){
+        Image img = SpriteArchive.getDefault().getImage(imagePath);
+        if(img != null){
+            return img;
+        }
+        try {
+            URL imageURL = ClassLoader.getSystemResource("images/" + imagePath);
+            if(imageURL != null){
+                img = ImageIO.read(imageURL);
+                if(img == null){
+                    System.err.println("Failed to load image: " + imagePath);
+                }
+            }else {
+                System.err.println("Image not found: " + imagePath);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            return img;
+        }
+        return img;
+    }
+}
@@ -0,0 +1,154 @@
+package UfoDash;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The 'SpriteKind' enum lists every kind of sprite the game draws, with its image,
+ * the layer it's drawn on and the shape drawn instead when the image can't be loaded.
+ * Render snapshots describe sprites by their kind, so drawing them doesn't need
+ * the game objects themselves. The kinds are declared in the order they're drawn.
+ * The images of all kinds are packed into one 'TextureAtlas', so every sprite is drawn from the same surface.
+ * When images change on disk in development mode, a new atlas is packed off the event dispatch thread
+ * and swapped in at once by 'reloadImages'.
+ */
+public enum SpriteKind {
+    PLAYER(0, "ufo.png", Color.GREEN, Shape.RECTANGLE),
+    PLAYER_COLLIDED(0, "ufoCollision.png", Color.GREEN, Shape.RECTANGLE),
+    SHIELD(0, null, Color.CYAN, Shape.RING),
+    ASTEROID(1, "asteroid2.png", Color.DARK_GRAY, Shape.RECTANGLE),
+    SHIELD_POWER_UP(2, "shield.png", Color.BLUE, Shape.OVAL),
+    LIFE_POWER_UP(2, "heart.png", Color.RED, Shape.OVAL),
+    ENEMY(3, "ship.png", Color.ORANGE, Shape.RECTANGLE),
+    PROJECTILE(4, "projectile.png", Color.YELLOW, Shape.RECTANGLE);
+
+    /** The shapes drawn for sprites without an image. */
+    private enum Shape {
+        RECTANGLE, OVAL, RING
+    }
+
+    private static final int RING_GAP = 10;
+    private static final int RING_ARC_ANGLE = 360;
+
+    /**
+     * The images of all kinds and the atlas they're packed into, by kind. Never changed once built,
+     * so a reload replaces the whole sheet and a frame never draws from half of each.
+     */
+    private static final class Sheet {
+        private final Image[] images;
+        private final int[] atlasIndices;
+        private final TextureAtlas atlas;
+
+        private Sheet(Image[] images, int[] atlasIndices, TextureAtlas atlas) {
+            this.images = images;
+            this.atlasIndices = atlasIndices;
+            this.atlas = atlas;
+        }
+    }
+
+    private final int layer;
+    private final String imagePath;
+    private final Color fallbackColor;
+    private final Shape fallbackShape;
+
+    private static volatile Sheet sheet = packSheet();
+
+    SpriteKind(int layer, String imagePath, Color fallbackColor, Shape fallbackShape) {
+        this.layer = layer;
+        this.imagePath = imagePath;
+        this.fallbackColor = fallbackColor;
+        this.fallbackShape = fallbackShape;
+    }
+
+    /**
+     * Takes the images of all kinds from the sprite cache and packs them into an atlas.
+     *
+     * @return the sheet; if the images don't fit in an atlas, each image is drawn on its own
+     */
+    private static Sheet packSheet(){
+        SpriteKind[] kinds = values();
+        Image[] images = new Image[kinds.length];
+        int[] atlasIndices = new int[kinds.length];
+        List<Image> packed = new ArrayList<>();
+        for (SpriteKind kind : kinds){
+            Image image = kind.imagePath != null ? SpriteCache.getImage(kind.imagePath) : null;
+            images[kind.ordinal()] = image;
+            atlasIndices[kind.ordinal()] = image != null ? packed.size() : -1;
+            if(image != null){
+                packed.add(image);
+            }
+        }
+        TextureAtlas atlas = TextureAtlas.pack(packed);
+        if(atlas == null){
+            Arrays.fill(atlasIndices, -1);
+        }
+        return new Sheet(images, atlasIndices, atlas);
+    }
+
+    /**
+     * Packs the images of all kinds again from the sprite cache, after some of them were reloaded,
+     * and swaps the new atlas in. Frames drawn after it returns use the new images.
+     */
+    public static void reloadImages(){
+        sheet = packSheet();
+    }
+
+    /**
+     * Draws a sprite of this kind, scaled to the given bounds.
+     * If the image is not available, the fallback shape is drawn instead.
+     *
+     * @param g the Graphics object used to draw
+     * @param x The x-coordinate of the sprite
+     * @param y The y-coordinate of the sprite
+     * @param width The width of the sprite
+     * @param height The height of the sprite
+     */
+    public void draw(Graphics g, int x, int y, int width, int height){
+        Sheet current = sheet;
+        int atlasIndex = current.atlasIndices[ordinal()];
+        if(atlasIndex >= 0){
+            current.atlas.draw(g, atlasIndex, x, y, width, height);
+            return;
+        }
+        Image image = current.images[ordinal()];
+        if(image != null){
+            g.drawImage(image, x, y, width, height, null);
+            return;
+        }
+        g.setColor(fallbackColor);
+        switch (fallbackShape) {
+            case RECTANGLE -> g.fillRect(x, y, width, height);
+            case OVAL -> g.fillOval(x, y, width, height);
+            case RING -> g.drawArc(x - RING_GAP, y - RING_GAP, width + RING_GAP * 2, height + RING_GAP * 2, 0, RING_ARC_ANGLE);
+        }
+    }
+
+    /**
+     * Returns the layer of this kind, sprites on higher layers are drawn in front.
+     *
+     * @return the layer
+     */
+    public int getLayer() {
+        return layer;
+    }
+
+    /**
+     * Returns the path of the image of this kind.
+     *
+     * @return the image path, or null if the kind is only drawn as a shape
+     */
+    public String getImagePath() {
+        return imagePath;
+    }
+
+    /**
+     * Returns the image of this kind.
+     *
+     * @return the image, or null if it can't be loaded or the kind has none
+     */
+    public Image getImage() {
+        return sheet.images[ordinal()];
+    }
+}
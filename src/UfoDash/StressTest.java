@@ -0,0 +1,178 @@
+package UfoDash;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The 'StressTest' class runs the game at a configurable entity density, instead of the
+ * normal spawn cadence, to measure how collisions, the managers and rendering scale.
+ * The managers are topped up to the requested number of entities every frame, and the particle system
+ * to the requested number of particles with explosions across the panel. The player
+ * fires every frame and is invulnerable, and every frame is rendered into an offscreen image.
+ * After a fixed number of frames a throughput and latency report is printed.
+ * <p>
+ * Started with {@code GameLoop --stress [asteroids=N] [enemies=N] [projectiles=N] [powerups=N] [particles=N] [frames=N]}.
+ */
+public class StressTest {
+    public static final String LAUNCH_FLAG = "--stress";
+    private static final int PANEL_WIDTH = 700, PANEL_HEIGHT = 800;
+    private static final int GROUND_HEIGHT = PANEL_HEIGHT / 8;
+    private static final int PLAYER_START_Y = PANEL_HEIGHT / 3;
+    private static final long FRAME_BUDGET_NANOS = 1_000_000_000L / 60;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private int asteroids = 1000, enemies = 1000, projectiles = 1000, powerUps = 100, particles = 0, frames = 1000;
+    private final Random random = new Random(1);
+    private GamePanel gamePanel;
+    private GameComponents gameComponents;
+
+    /**
+     * Constructs a 'StressTest' configured by the given arguments.
+     * Each argument has the form 'name=value'; unknown names are reported and ignored.
+     *
+     * @param args The stress test arguments
+     */
+    public StressTest(String[] args) {
+        for (String arg : args) {
+            String[] parts = arg.split("=", 2);
+            if(parts.length != 2){
+                System.err.println("Ignoring stress test argument: " + arg);
+                continue;
+            }
+            int value = Integer.parseInt(parts[1]);
+            switch (parts[0]) {
+                case "asteroids" -> asteroids = value;
+                case "enemies" -> enemies = value;
+                case "projectiles" -> projectiles = value;
+                case "powerups" -> powerUps = value;
+                case "particles" -> particles = value;
+                case "frames" -> frames = value;
+                default -> System.err.println("Ignoring stress test argument: " + arg);
+            }
+        }
+    }
+
+    /**
+     * Runs the stress test and prints the report.
+     */
+    public void run(){
+        // Scores reached while invulnerable must not replace the real best score
+        gamePanel = new GamePanel(PANEL_WIDTH, PANEL_HEIGHT, false);
+        gamePanel.setSize(PANEL_WIDTH, PANEL_HEIGHT);
+        gameComponents = gamePanel.getGameComponents();
+        gameComponents.getPlayer().setInvulnerable(true);
+
+        BufferedImage frame = new BufferedImage(PANEL_WIDTH, PANEL_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = frame.createGraphics();
+        FrameTimes spawnTimes = new FrameTimes(frames);
+        FrameTimes updateTimes = new FrameTimes(frames);
+        FrameTimes collisionTimes = new FrameTimes(frames);
+        FrameTimes renderTimes = new FrameTimes(frames);
+        FrameTimes totalTimes = new FrameTimes(frames);
+        long collisionTests = 0, entityFrames = 0, particleFrames = 0;
+        int framesOverBudget = 0;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < frames; i++) {
+            long frameStart = System.nanoTime();
+            topUpEntities();
+            gameComponents.getGameClock().tick();
+            long updateStart = System.nanoTime();
+            gameComponents.updateObjects();
+            long collisionStart = System.nanoTime();
+            gameComponents.processCollisions();
+            long renderStart = System.nanoTime();
+            gamePanel.drawGame(g2d);
+            long frameEnd = System.nanoTime();
+
+            spawnTimes.record(updateStart - frameStart);
+            updateTimes.record(collisionStart - updateStart);
+            collisionTimes.record(renderStart - collisionStart);
+            renderTimes.record(frameEnd - renderStart);
+            totalTimes.record(frameEnd - frameStart);
+            if(frameEnd - frameStart > FRAME_BUDGET_NANOS){
+                framesOverBudget++;
+            }
+            collisionTests += gameComponents.getCollisionHandler().getCollisionTests();
+            entityFrames += countEntities();
+            particleFrames += gameComponents.getParticleSystem().getCount();
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        g2d.dispose();
+
+        System.out.printf("Stress test: %d frames, target density asteroids=%d enemies=%d projectiles=%d powerups=%d"
+                + " particles=%d%n", frames, asteroids, enemies, projectiles, powerUps, particles);
+        System.out.printf("Throughput: %.1f frames/s, %.0f entity updates/s, %.0f collision tests/s%n",
+                frames / seconds, entityFrames / seconds, collisionTests / seconds);
+        System.out.printf("Average live entities: %.0f, particles: %.0f, frames over the 60 FPS budget: %d (%.1f%%)%n",
+                (double) entityFrames / frames, (double) particleFrames / frames, framesOverBudget, 100.0 * framesOverBudget / frames);
+        System.out.println("Latency (ms)      p50      p95      p99      max");
+        printLatency("spawn", spawnTimes);
+        printLatency("update", updateTimes);
+        printLatency("collisions", collisionTimes);
+        printLatency("render", renderTimes);
+        printLatency("frame", totalTimes);
+    }
+
+    /**
+     * Spawns entities until every manager holds its target number of entities, and emits explosions
+     * until the particle system holds its target number of particles.
+     * New entities are placed at random positions across the panel, the player fires once
+     * per frame and is kept hovering in the upper half of the panel.
+     */
+    private void topUpEntities(){
+        Player player = gameComponents.getPlayer();
+        player.shoot(gameComponents.getProjectileManager());
+        if(player.getY() > PLAYER_START_Y){
+            player.jump();
+        }
+
+        while (gameComponents.getAsteroidManager().getAsteroids().size() < asteroids){
+            gameComponents.getAsteroidManager().spawn(random.nextInt(PANEL_WIDTH));
+        }
+        List<Enemy> enemyList = gameComponents.getEnemyManager().getEnemies();
+        while (enemyList.size() < enemies){
+            gameComponents.getEnemyManager().spawn();
+            enemyList.get(enemyList.size() - 1).x = random.nextInt(PANEL_WIDTH);
+        }
+        List<PowerUp> powerUpList = gameComponents.getPowerUpManager().getPowerUps();
+        while (powerUpList.size() < powerUps){
+            gameComponents.getPowerUpManager().spawn();
+            powerUpList.get(powerUpList.size() - 1).x = random.nextInt(PANEL_WIDTH);
+        }
+        ProjectileManager projectileManager = gameComponents.getProjectileManager();
+        while (projectileManager.getProjectiles().size() < projectiles){
+            projectileManager.addProjectile(new Projectile(random.nextInt(PANEL_WIDTH), random.nextInt(PANEL_HEIGHT - GROUND_HEIGHT)));
+        }
+        ParticleSystem particleSystem = gameComponents.getParticleSystem();
+        while (particleSystem.getCount() < Math.min(particles, ParticleSystem.CAPACITY)){
+            particleSystem.emit(ParticleEmitter.EXPLOSION, random.nextInt(PANEL_WIDTH), random.nextInt(PANEL_HEIGHT - GROUND_HEIGHT));
+        }
+    }
+
+    /**
+     * Returns the number of live entities of all managers.
+     *
+     * @return the number of entities
+     */
+    private int countEntities(){
+        return gameComponents.getAsteroidManager().getAsteroids().size()
+                + gameComponents.getEnemyManager().getEnemies().size()
+                + gameComponents.getPowerUpManager().getPowerUps().size()
+                + gameComponents.getProjectileManager().getProjectiles().size();
+    }
+
+    /**
+     * Prints the latency percentiles of one phase of the frame.
+     *
+     * @param phase The name of the phase
+     * @param frameTimes The recorded times of the phase
+     */
+    private static void printLatency(String phase, FrameTimes frameTimes){
+        System.out.printf("%-12s %8.3f %8.3f %8.3f %8.3f%n", phase,
+                frameTimes.percentile(50) / NANOS_PER_MILLI, frameTimes.percentile(95) / NANOS_PER_MILLI,
+                frameTimes.percentile(99) / NANOS_PER_MILLI, frameTimes.percentile(100) / NANOS_PER_MILLI);
+    }
+}
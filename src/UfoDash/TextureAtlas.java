@@ -0,0 +1,190 @@
+package UfoDash;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The 'TextureAtlas' class packs a set of images into a single compatible image, and draws each of them
+ * by copying its part of that image. Drawing every sprite from one surface keeps their pixels together
+ * in memory, and lets an accelerated pipeline keep a single texture resident instead of one per image.
+ * <p>
+ * The images are placed with a skyline packer: tallest first, each one at the lowest position along
+ * the top edge of the images placed so far, and the width of the atlas is the power of two that gives
+ * the smallest area. A transparent border around every image keeps scaled drawing from bleeding
+ * pixels of its neighbours.
+ */
+public class TextureAtlas {
+    private static final int PADDING = 1;
+    private static final int MAX_SIZE = 4096;
+
+    private final BufferedImage atlas;
+    private final int[] regionX, regionY, regionWidth, regionHeight;
+
+    /**
+     * Constructs a 'TextureAtlas' from images already placed by the packer.
+     */
+    private TextureAtlas(List<Image> images, int width, int height, int[] x, int[] y) {
+        this.regionX = x;
+        this.regionY = y;
+        this.regionWidth = new int[images.size()];
+        this.regionHeight = new int[images.size()];
+        this.atlas = CompatibleImages.create(width, height, true);
+
+        Graphics2D g2d = atlas.createGraphics();
+        g2d.setComposite(AlphaComposite.Src);
+        for (int i = 0; i < images.size(); i++){
+            Image image = images.get(i);
+            regionWidth[i] = image.getWidth(null);
+            regionHeight[i] = image.getHeight(null);
+            g2d.drawImage(image, x[i], y[i], null);
+        }
+        g2d.dispose();
+    }
+
+    /**
+     * Packs the given images into an atlas. Image i of the list is drawn with index i.
+     *
+     * @param images The images to pack, all fully loaded
+     * @return the atlas, or null if the images don't fit in the largest atlas size
+     */
+    public static TextureAtlas pack(List<Image> images){
+        int maxWidth = 1;
+        for (Image image : images){
+            maxWidth = Math.max(maxWidth, image.getWidth(null) + PADDING * 2);
+        }
+
+        int[] x = new int[images.size()], y = new int[images.size()];
+        int[] bestX = null, bestY = null;
+        int bestWidth = 0, bestHeight = 0;
+        for (int width = Integer.highestOneBit(maxWidth - 1) << 1; width <= MAX_SIZE; width <<= 1){
+            int height = place(images, width, x, y);
+            if(height <= MAX_SIZE && (bestX == null || (long) width * height < (long) bestWidth * bestHeight)){
+                bestX = x.clone();
+                bestY = y.clone();
+                bestWidth = width;
+                bestHeight = height;
+            }
+        }
+        if(bestX == null){
+            return null;
+        }
+        return new TextureAtlas(images, bestWidth, Math.max(bestHeight, 1), bestX, bestY);
+    }
+
+    /**
+     * Places the images in an atlas of the given width, with the skyline packer.
+     *
+     * @param images The images to place
+     * @param width The width of the atlas
+     * @param x Receives the x-coordinate of each image
+     * @param y Receives the y-coordinate of each image
+     * @return the height the images need
+     */
+    private static int place(List<Image> images, int width, int[] x, int[] y){
+        Integer[] order = new Integer[images.size()];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, Comparator.comparingInt((Integer i) -> -images.get(i).getHeight(null)));
+
+        // The skyline is a list of segments {x, y, width}, left to right, covering the whole atlas width
+        List<int[]> skyline = new ArrayList<>();
+        skyline.add(new int[]{0, 0, width});
+        int height = 0;
+        for (int index : order){
+            int imageWidth = images.get(index).getWidth(null) + PADDING * 2;
+            int imageHeight = images.get(index).getHeight(null) + PADDING * 2;
+
+            // Finds the segment where the image's top edge ends up lowest, leftmost on ties
+            int bestSegment = -1, bestTop = Integer.MAX_VALUE;
+            for (int i = 0; i < skyline.size(); i++){
+                int top = fit(skyline, i, imageWidth, width);
+                if(top >= 0 && top + imageHeight < bestTop){
+                    bestTop = top + imageHeight;
+                    bestSegment = i;
+                }
+            }
+            int left = skyline.get(bestSegment)[0];
+            x[index] = left + PADDING;
+            y[index] = bestTop - imageHeight + PADDING;
+            height = Math.max(height, bestTop);
+            raise(skyline, bestSegment, left, bestTop, imageWidth);
+        }
+        return height;
+    }
+
+    /**
+     * Returns the height an image of the given width rests at when its left edge is at the given segment.
+     *
+     * @return the height, or -1 if the image would stick out of the atlas
+     */
+    private static int fit(List<int[]> skyline, int segment, int imageWidth, int atlasWidth){
+        int left = skyline.get(segment)[0];
+        if(left + imageWidth > atlasWidth){
+            return -1;
+        }
+        // The skyline spans the whole atlas, so the segments can't run out before the image is covered
+        int top = 0, covered = 0;
+        for (int i = segment; covered < imageWidth; i++){
+            int[] s = skyline.get(i);
+            top = Math.max(top, s[1]);
+            covered += s[2];
+        }
+        return top;
+    }
+
+    /**
+     * Raises the skyline to the top of a newly placed image, and merges segments of equal height.
+     */
+    private static void raise(List<int[]> skyline, int segment, int left, int top, int imageWidth){
+        int right = left + imageWidth;
+        // Removes or shortens the segments under the image
+        int i = segment;
+        while (i < skyline.size() && skyline.get(i)[0] < right){
+            int[] s = skyline.get(i);
+            int segmentRight = s[0] + s[2];
+            if(segmentRight <= right){
+                skyline.remove(i);
+            }else{
+                s[2] = segmentRight - right;
+                s[0] = right;
+                break;
+            }
+        }
+        skyline.add(segment, new int[]{left, top, imageWidth});
+        for (int j = skyline.size() - 1; j > 0; j--){
+            int[] previous = skyline.get(j - 1), current = skyline.get(j);
+            if(previous[1] == current[1]){
+                previous[2] += current[2];
+                skyline.remove(j);
+            }
+        }
+    }
+
+    /**
+     * Draws an image of the atlas scaled to the given bounds.
+     *
+     * @param g the Graphics object used to draw
+     * @param index The index of the image, its position in the list it was packed from
+     * @param x The x-coordinate of the image
+     * @param y The y-coordinate of the image
+     * @param width The width to draw the image at
+     * @param height The height to draw the image at
+     */
+    public void draw(Graphics g, int index, int x, int y, int width, int height){
+        int sourceX = regionX[index], sourceY = regionY[index];
+        g.drawImage(atlas, x, y, x + width, y + height,
+                sourceX, sourceY, sourceX + regionWidth[index], sourceY + regionHeight[index], null);
+    }
+
+    /**
+     * Returns the image holding every packed image.
+     *
+     * @return the atlas image
+     */
+    public BufferedImage getImage() {
+        return atlas;
+    }
+}
@@ -0,0 +1,175 @@
+package UfoDash;
+
+/**
+ * The 'TimerWheel' class runs the 'GameTimer's of a game, counted in ticks of its 'GameClock'.
+ * It's a hierarchical timer wheel: four levels of 64 slots, where each slot of a level covers
+ * 64 times as many ticks as a slot of the level below. A timer is put in the slot of the lowest
+ * level that reaches its deadline, and falls to lower levels as the wheel turns, until it fires
+ * from the bottom level on the tick of its deadline.
+ *
+ * Scheduling, cancelling and firing a timer take constant time, and the slots are linked lists
+ * running through the timers themselves, so the wheel never allocates. Timers due on the same
+ * tick fire in the order they were scheduled, which keeps a game deterministic.
+ */
+public class TimerWheel {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    /** Timers further away wait in the top level and are placed again when their slot comes round. */
+    private static final long MAX_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    /** The first and last timer of every slot, by level and slot. */
+    private final GameTimer[][] heads = new GameTimer[LEVELS][SLOTS];
+    private final GameTimer[][] tails = new GameTimer[LEVELS][SLOTS];
+    private long currentTick = 0;
+    private int armedTimers = 0;
+
+    /**
+     * Schedules a timer to fire on the given tick. A timer that is already scheduled is moved.
+     * A deadline that has already passed fires on the next tick.
+     *
+     * @param timer The timer to schedule
+     * @param deadline The tick to fire on
+     */
+    void schedule(GameTimer timer, long deadline){
+        cancel(timer);
+        timer.deadline = Math.max(deadline, currentTick + 1);
+        insert(timer);
+        armedTimers++;
+    }
+
+    /**
+     * Removes a timer from the wheel, if it's scheduled.
+     *
+     * @param timer The timer to cancel
+     */
+    void cancel(GameTimer timer){
+        if(timer.level < 0){
+            return;
+        }
+        unlink(timer);
+        armedTimers--;
+    }
+
+    /**
+     * Cancels every timer and turns the wheel back to tick 0, for a new game.
+     */
+    public void reset(){
+        for (int level = 0; level < LEVELS; level++){
+            for (int slot = 0; slot < SLOTS; slot++){
+                GameTimer timer;
+                while ((timer = heads[level][slot]) != null){
+                    unlink(timer);
+                }
+            }
+        }
+        armedTimers = 0;
+        currentTick = 0;
+    }
+
+    /**
+     * Turns the wheel by one tick: moves the timers of the higher levels whose slot has come round
+     * down a level, then fires the timers due on the new tick.
+     */
+    public void advance(){
+        currentTick++;
+        // Cascade from the highest level whose slot has come round, so timers can fall more than one level
+        int level = 0;
+        while (level < LEVELS - 1 && ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK) == 0){
+            level++;
+        }
+        for (; level > 0; level--){
+            cascade(level, (int) (currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        }
+
+        int slot = (int) currentTick & SLOT_MASK;
+        GameTimer timer;
+        while ((timer = heads[0][slot]) != null){
+            unlink(timer);
+            if(timer.deadline > currentTick){
+                insert(timer); // Only the top level holds timers of a later cycle
+                continue;
+            }
+            armedTimers--;
+            timer.fire();
+        }
+    }
+
+    /**
+     * Places again every timer of a slot, which puts them on a lower level.
+     */
+    private void cascade(int level, int slot){
+        GameTimer timer = heads[level][slot];
+        heads[level][slot] = null;
+        tails[level][slot] = null;
+        while (timer != null){
+            GameTimer next = timer.next;
+            timer.previous = null;
+            timer.next = null;
+            timer.level = -1;
+            insert(timer);
+            timer = next;
+        }
+    }
+
+    /**
+     * Adds a timer to the end of the slot of its deadline, on the lowest level that reaches it.
+     */
+    private void insert(GameTimer timer){
+        long delay = Math.min(timer.deadline - currentTick, MAX_DELAY);
+        long target = currentTick + delay;
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= 1L << (SLOT_BITS * (level + 1))){
+            level++;
+        }
+        int slot = (int) (target >>> (SLOT_BITS * level)) & SLOT_MASK;
+        timer.level = level;
+        timer.slot = slot;
+        timer.previous = tails[level][slot];
+        timer.next = null;
+        if(timer.previous != null){
+            timer.previous.next = timer;
+        }else{
+            heads[level][slot] = timer;
+        }
+        tails[level][slot] = timer;
+    }
+
+    /**
+     * Removes a timer from its slot.
+     */
+    private void unlink(GameTimer timer){
+        if(timer.previous != null){
+            timer.previous.next = timer.next;
+        }else{
+            heads[timer.level][timer.slot] = timer.next;
+        }
+        if(timer.next != null){
+            timer.next.previous = timer.previous;
+        }else{
+            tails[timer.level][timer.slot] = timer.previous;
+        }
+        timer.previous = null;
+        timer.next = null;
+        timer.level = -1;
+    }
+
+    /**
+     * Returns the tick the wheel has turned to.
+     *
+     * @return the current tick
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Returns the number of timers waiting to fire.
+     *
+     * @return the number of armed timers
+     */
+    public int getArmedTimers() {
+        return armedTimers;
+    }
+}
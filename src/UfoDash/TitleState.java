@@ -1,20 +1,18 @@
 package UfoDash;
 
-import javax.swing.*;
 import java.awt.*;
-import java.awt.event.ActionEvent;
-import java.awt.event.KeyEvent;
+import java.awt.image.BufferedImage;
 
 /**
  * The 'TitleState' class represents the title screen of the game.
- * It handles the rendering of the background and the text messages,
- * as well as the key binding for starting the game.
+ * It handles the rendering of the background and the text messages.
+ * The game is started by the jump key, which the 'GamePanel' reads from its input buffer.
+ * The background is a pre-scaled 'ParallaxScroller' strip and the text messages are
+ * drawn once into a cached overlay, so a frame only copies images.
  */
 public class TitleState extends AbstractDrawable{
-    private Image titleBGImage;
-    private GameStateHandler gameStateHandler;
-    private GamePanel gamePanel;
-    private int backgroundOffset;
+    private ParallaxScroller backgroundScroller;
+    private BufferedImage textOverlay;
     private Dimension panelSize;
 
 
@@ -26,24 +24,21 @@ public class TitleState extends AbstractDrawable{
     private static final int BACKGROUND_SPEED = 2;
     private static final int LARGE_FONT_Y_OFFSET = 5;
     private static final int SMALL_FONT_Y_OFFSET = 3;
+    private static final Font LARGE_FONT = new Font(FONT_NAME, Font.BOLD, LARGE_FONT_SIZE);
+    private static final Font SMALL_FONT = new Font(FONT_NAME, Font.BOLD, SMALL_FONT_SIZE);
 
 
     /**
-     * Constructs a 'TitleState' object with the given game state handler,
-     * game panel and panel dimensions.
+     * Constructs a 'TitleState' object with the given panel dimensions.
      *
-     * @param gameStateHandler The handler that manages the current game state
-     * @param gamePanel The game panel screen where the title screen will be rendered
      * @param panelWidth The width of the game panel
      * @param panelHeight The height of the game panel
      */
-    public TitleState(GameStateHandler gameStateHandler, GamePanel gamePanel, int panelWidth, int panelHeight) {
-        this.gameStateHandler = gameStateHandler;
-        this.gamePanel = gamePanel;
+    public TitleState(int panelWidth, int panelHeight) {
         this.panelSize = new Dimension(panelWidth, panelHeight);
-        this.backgroundOffset = 0;
-        this.titleBGImage = loadImage("titleBG.png");
-        setUpKeyBindings();
+        this.backgroundScroller = new ParallaxScroller().addLayer(new ParallaxLayer(loadImage("titleBG.png"),
+                0, panelWidth, panelHeight, BACKGROUND_SPEED, false, Color.BLACK));
+        this.textOverlay = createTextOverlay();
     }
 
 
@@ -54,29 +49,25 @@ public class TitleState extends AbstractDrawable{
      */
     @Override public void draw(Graphics g){
         Graphics2D g2d = (Graphics2D) g;
-        drawBackground(g2d);
-        drawTextMessages(g2d);
+        backgroundScroller.draw(g2d);
+        g2d.drawImage(textOverlay, 0, 0, null);
     }
 
     /**
-     * Draws the background image.
-     * If the image is not loaded, a black rectangle is drawn instead.
+     * Creates the transparent overlay holding the text messages.
      *
-     * @param g the Graphics object used to draw
+     * @return the text overlay
      */
-    private void drawBackground(Graphics g){
-        if(titleBGImage != null){
-            g.drawImage(titleBGImage, backgroundOffset, 0, panelSize.width, panelSize.height, null);
-            g.drawImage(titleBGImage, backgroundOffset + panelSize.width, 0, panelSize.width, panelSize.height, null);
-        }else{
-            g.setColor(Color.BLACK);
-            g.fillRect(backgroundOffset, 0, panelSize.width, panelSize.height);
-            g.fillRect(backgroundOffset + panelSize.width, 0, panelSize.width, panelSize.height);
-        }
+    private BufferedImage createTextOverlay(){
+        BufferedImage overlay = CompatibleImages.create(panelSize.width, panelSize.height, true);
+        Graphics2D g2d = overlay.createGraphics();
+        drawTextMessages(g2d);
+        g2d.dispose();
+        return overlay;
     }
 
     /**
-     * Draws the text messages on the screen.
+     * Draws the text messages.
      *
      * @param g2d the Graphics2D object used to draw
      */
@@ -86,14 +77,14 @@ public class TitleState extends AbstractDrawable{
         g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
 
         g2d.setColor(TEXT_SHADOW_COLOR);
-        drawCenteredText( "UFO DASH", g2d, LARGE_FONT_SIZE, y + LARGE_FONT_Y_OFFSET);
-        drawCenteredText("Press SPACE to START", g2d, SMALL_FONT_SIZE, y*2 + SMALL_FONT_Y_OFFSET);
-        drawCenteredText("Press ESC to QUIT", g2d, SMALL_FONT_SIZE, y* 5 / 2 + SMALL_FONT_Y_OFFSET);
+        drawCenteredText( "UFO DASH", g2d, LARGE_FONT, y + LARGE_FONT_Y_OFFSET);
+        drawCenteredText("Press SPACE to START", g2d, SMALL_FONT, y*2 + SMALL_FONT_Y_OFFSET);
+        drawCenteredText("Press ESC to QUIT", g2d, SMALL_FONT, y* 5 / 2 + SMALL_FONT_Y_OFFSET);
 
         g2d.setColor(TEXT_COLOR);
-        drawCenteredText( "UFO DASH", g2d, LARGE_FONT_SIZE, y);
-        drawCenteredText("Press SPACE to START", g2d, SMALL_FONT_SIZE, y*2);
-        drawCenteredText("Press ESC to QUIT", g2d, SMALL_FONT_SIZE, y* 5 / 2);
+        drawCenteredText( "UFO DASH", g2d, LARGE_FONT, y);
+        drawCenteredText("Press SPACE to START", g2d, SMALL_FONT, y*2);
+        drawCenteredText("Press ESC to QUIT", g2d, SMALL_FONT, y* 5 / 2);
     }
 
     /**
@@ -102,11 +93,11 @@ public class TitleState extends AbstractDrawable{
      *
      * @param text The text to be drawn
      * @param g the Graphics2D object used to draw the text
-     * @param fontSize The font size to be used for the text
+     * @param font The font to be used for the text
      * @param y The y-coordinate at which to draw the text
      */
-    private void drawCenteredText(String text, Graphics2D g, int fontSize, int y){
-        g.setFont(new Font(FONT_NAME, Font.BOLD, fontSize));
+    private void drawCenteredText(String text, Graphics2D g, Font font, int y){
+        g.setFont(font);
         int textLength = (int)g.getFontMetrics().getStringBounds(text, g).getWidth();
         int xPos = (panelSize.width - textLength) / 2;
         g.drawString(text, xPos, y);
@@ -114,30 +105,9 @@ public class TitleState extends AbstractDrawable{
 
     /**
      * Updates the background's position to create a scrolling effect.
+     * The title screen has nothing to simulate, so it's updated on the render thread with every frame.
      */
     @Override public void update() {
-        backgroundOffset -= BACKGROUND_SPEED;
-
-        if(backgroundOffset <= -panelSize.width){
-            backgroundOffset = 0;
-        }
-    }
-
-    /**
-     * Set up key bindings for exiting och starting the game.
-     */
-    private void setUpKeyBindings(){
-        Action startGameAction = new AbstractAction()
-        {
-            @Override public void actionPerformed(final ActionEvent e) {
-                gameStateHandler.setGameState(GameStateHandler.GameState.GAME);
-            }
-        };
-
-        InputMap inputMap = gamePanel.getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW);
-        ActionMap actionMap = gamePanel.getActionMap();
-
-        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_SPACE, 0), "start");
-        actionMap.put("start", startGameAction);
+        backgroundScroller.update();
     }
 }
@@ -0,0 +1,81 @@
+package UfoDash;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * The 'Tuning' class holds the game definitions a tuning file overrides while the game runs.
+ * A tuning is immutable, so it can be read on the thread watching the tuning file, and the definitions
+ * it results in handed to the simulation thread, which applies them through 'GameComponents.applyDefinitions'.
+ * <p>
+ * A tuning file is a properties file with any of the keys of the definitions file; definitions it
+ * leaves out keep the value the game started with:
+ * <pre>
+ * asteroid.speed=5
+ * asteroid.gap=250
+ * asteroid.spawnInterval=2000
+ * enemy.ship.horizontalSpeed=5
+ * enemy.spawnInterval=4000
+ * powerUp.shield.duration=5000
+ * </pre>
+ * Speeds are in pixels per tick, intervals and durations in milliseconds.
+ */
+public final class Tuning {
+    private final Map<String, String> overrides;
+
+    private Tuning(Map<String, String> overrides) {
+        this.overrides = overrides;
+    }
+
+    /**
+     * Reads a tuning file. The values are only checked when the tuning is applied to definitions.
+     *
+     * @param file The tuning file
+     * @return the tuning of the file
+     * @throws IOException if the file can't be read
+     */
+    public static Tuning load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try(Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        Map<String, String> overrides = new TreeMap<>();
+        for (String name : properties.stringPropertyNames()){
+            overrides.put(name, properties.getProperty(name).trim());
+        }
+        return new Tuning(overrides);
+    }
+
+    /**
+     * Returns the given definitions with the definitions of this tuning overriding them.
+     *
+     * @param definitions The definitions to tune, usually those the game started with
+     * @return the tuned definitions
+     * @throws IllegalArgumentException if a definition of the tuning is invalid
+     */
+    public GameDefinitions applyTo(GameDefinitions definitions){
+        return definitions.withOverrides(overrides);
+    }
+
+    /**
+     * Returns the definitions in the form of a tuning file, on one line.
+     *
+     * @return the definitions
+     */
+    @Override public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, String> entry : overrides.entrySet()){
+            if(builder.length() > 0){
+                builder.append(' ');
+            }
+            builder.append(entry.getKey()).append('=').append(entry.getValue());
+        }
+        return builder.toString();
+    }
+}